@@ -0,0 +1,24 @@
+#!/bin/bash
+
+# 빠른 기동 모드 실행 (./gradlew cdsArchive [-PfastStartup] 로 만든 build/cds 사용)
+# - -PfastStartup 없이(AOT 없이) 아카이브를 만들었으면 FAST_STARTUP_AOT=false 로 실행
+# - 아카이브가 현재 jar 구성과 다르면 JVM 이 경고 후 CDS 없이 기동한다 (-Xshare:auto)
+
+CDS_DIR="${CDS_DIR:-build/cds}"
+
+if [ ! -f "$CDS_DIR/app.jsa" ]; then
+    echo "❌ $CDS_DIR/app.jsa 가 없습니다. ./gradlew cdsArchive -PfastStartup 을 먼저 실행하세요."
+    exit 1
+fi
+
+AOT_OPTS=""
+if [ "${FAST_STARTUP_AOT:-true}" = "true" ]; then
+    AOT_OPTS="-Dspring.aot.enabled=true"
+fi
+
+exec java \
+     -XX:SharedArchiveFile="$CDS_DIR/app.jsa" \
+     -Xshare:auto \
+     $AOT_OPTS \
+     ${JAVA_OPTS} \
+     -jar "$CDS_DIR/lib/app.jar" "$@"
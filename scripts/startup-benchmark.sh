@@ -0,0 +1,87 @@
+#!/bin/bash
+
+# 기동 시간 벤치마크: 일반 bootJar vs 빠른 기동 모드 (AOT + AppCDS)
+# - 측정: 프로세스 시작 ~ 첫 /api/health 200 응답까지 시간, 그 시점의 RSS
+# - DB 등 외부 의존성은 평소 실행과 같이 떠 있어야 한다 (SPRING_PROFILES_ACTIVE 등 환경 변수 그대로 사용)
+#
+# 사용법: ./gradlew bootJar && ./gradlew cdsArchive -PfastStartup && scripts/startup-benchmark.sh [반복 횟수]
+
+RUNS="${1:-5}"
+PORT="${SERVER_PORT:-8080}"
+HEALTH_URL="http://localhost:${PORT}/api/health"
+TIMEOUT_SECONDS=120
+BOOT_JAR=$(ls build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v plain | head -1)
+
+if [ -z "$BOOT_JAR" ] || [ ! -f build/cds/app.jsa ]; then
+    echo "❌ bootJar 와 CDS 아카이브가 필요합니다."
+    echo "   ./gradlew bootJar && ./gradlew cdsArchive -PfastStartup"
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# $1: 모드 이름, 나머지: 실행 명령
+measure() {
+    local mode="$1"
+    shift
+
+    local start
+    start=$(now_ms)
+    "$@" > /dev/null 2>&1 &
+    local pid=$!
+
+    local elapsed=""
+    while [ $(( $(now_ms) - start )) -lt $(( TIMEOUT_SECONDS * 1000 )) ]; do
+        if curl -sf -o /dev/null "$HEALTH_URL"; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.05
+    done
+
+    local rss_kb
+    rss_kb=$(ps -o rss= -p "$pid" 2>/dev/null | tr -d ' ')
+
+    kill "$pid" 2>/dev/null
+    wait "$pid" 2>/dev/null
+
+    if [ -z "$elapsed" ]; then
+        echo "$mode FAILED"
+    else
+        echo "$mode $elapsed ${rss_kb:-0}"
+    fi
+}
+
+summarize() {
+    local mode="$1"
+    grep "^$mode " "$RESULTS" | grep -v FAILED | awk -v mode="$mode" '
+        { time += $2; rss += $3; n++ }
+        END {
+            if (n == 0) { printf "%-10s %12s %12s\n", mode, "FAILED", "-"; exit }
+            printf "%-10s %10d ms %9d MB\n", mode, time / n, rss / n / 1024
+        }'
+}
+
+RESULTS=$(mktemp)
+trap 'rm -f "$RESULTS"' EXIT
+
+echo "======================================"
+echo "기동 시간 벤치마크 (${RUNS}회 평균)"
+echo "======================================"
+
+for i in $(seq 1 "$RUNS"); do
+    echo "[$i/$RUNS] regular"
+    measure regular java ${JAVA_OPTS} -jar "$BOOT_JAR" >> "$RESULTS"
+    echo "[$i/$RUNS] fast"
+    measure fast scripts/start-fast.sh >> "$RESULTS"
+done
+
+echo ""
+printf "%-10s %13s %12s\n" "mode" "first /health" "RSS"
+summarize regular
+summarize fast
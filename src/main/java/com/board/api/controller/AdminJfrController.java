@@ -0,0 +1,86 @@
+package com.board.api.controller;
+
+import com.board.api.response.ApiResponse;
+import com.board.global.jfr.JfrDump;
+import com.board.global.jfr.JfrRecordingRequest;
+import com.board.global.jfr.JfrRecordingResponse;
+import com.board.global.jfr.JfrRecordingService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * JFR 녹화 관리 (ADMIN 전용 - SecurityConfig 의 /api/admin/**)
+ */
+@RestController
+@RequestMapping("/api/admin/jfr/recordings")
+@RequiredArgsConstructor
+public class AdminJfrController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    /**
+     * 녹화 시작
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<JfrRecordingResponse>> startRecording(
+            @Valid @RequestBody(required = false) JfrRecordingRequest request
+    ) {
+        JfrRecordingResponse response = jfrRecordingService.start(
+                request != null ? request : new JfrRecordingRequest());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "JFR 녹화를 시작했습니다."));
+    }
+
+    /**
+     * 녹화 목록
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<JfrRecordingResponse>>> getRecordings() {
+        return ResponseEntity.ok(ApiResponse.success(jfrRecordingService.getRecordings()));
+    }
+
+    /**
+     * 녹화 중지 (내용은 삭제 전까지 내려받을 수 있음)
+     */
+    @PostMapping("/{recordingId}/stop")
+    public ResponseEntity<ApiResponse<JfrRecordingResponse>> stopRecording(@PathVariable Long recordingId) {
+        JfrRecordingResponse response = jfrRecordingService.stop(recordingId);
+        return ResponseEntity.ok(ApiResponse.success(response, "JFR 녹화를 중지했습니다."));
+    }
+
+    /**
+     * 녹화 파일 다운로드 (.jfr - JDK Mission Control / jfr print 로 분석)
+     * - 요청마다 새로 덤프하고 전송이 끝나면 덤프 파일을 지운다
+     */
+    @GetMapping("/{recordingId}/file")
+    public void downloadRecording(@PathVariable Long recordingId, HttpServletResponse response) throws IOException {
+        try (JfrDump dump = jfrRecordingService.dump(recordingId)) {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(dump.filename()).build().toString());
+            response.setContentLengthLong(dump.size());
+            Files.copy(dump.path(), response.getOutputStream());
+        }
+    }
+
+    /**
+     * 녹화 삭제
+     */
+    @DeleteMapping("/{recordingId}")
+    public ResponseEntity<ApiResponse<Void>> deleteRecording(@PathVariable Long recordingId) {
+        jfrRecordingService.delete(recordingId);
+        return ResponseEntity.ok(ApiResponse.success(null, "JFR 녹화를 삭제했습니다."));
+    }
+}
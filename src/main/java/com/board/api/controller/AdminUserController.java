@@ -0,0 +1,27 @@
+package com.board.api.controller;
+
+import com.board.api.response.ApiResponse;
+import com.board.domain.user.dto.UserResponse;
+import com.board.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserService userService;
+
+    /**
+     * 탈퇴 회원 복구 (아카이브된 회원 포함)
+     */
+    @PostMapping("/{userId}/restore")
+    public ResponseEntity<ApiResponse<UserResponse>> restoreUser(@PathVariable Long userId) {
+        UserResponse response = userService.restore(userId);
+        return ResponseEntity.ok(ApiResponse.success(response, "회원이 복구되었습니다."));
+    }
+}
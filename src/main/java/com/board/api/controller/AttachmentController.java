@@ -0,0 +1,80 @@
+package com.board.api.controller;
+
+import com.board.api.response.ApiResponse;
+import com.board.domain.attachment.dto.AttachmentResponse;
+import com.board.domain.attachment.service.AttachmentService;
+import com.board.global.storage.FileDownloadWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final FileDownloadWriter fileDownloadWriter;
+
+    /**
+     * 첨부파일 업로드 - 요청 본문이 곧 파일 내용 (multipart 아님)
+     * - 본문을 버퍼 단위로 바로 저장소에 흘려보내므로 서블릿 컨테이너의 임시 파일 복사가 없다
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<AttachmentResponse>> upload(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId,
+            @RequestParam String filename,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        AttachmentResponse response = attachmentService.upload(userDetails.getUsername(), postId, filename,
+                contentType, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "첨부파일이 업로드되었습니다."));
+    }
+
+    /**
+     * 첨부파일 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getAttachments(@PathVariable Long postId) {
+        return ResponseEntity.ok(ApiResponse.success(attachmentService.getAttachments(postId)));
+    }
+
+    /**
+     * 첨부파일 다운로드 (Range, If-None-Match / If-Modified-Since 지원)
+     */
+    @GetMapping("/{attachmentId}")
+    public void download(
+            @PathVariable Long postId,
+            @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        fileDownloadWriter.write(attachmentService.getDownload(postId, attachmentId), request, response);
+    }
+
+    /**
+     * 첨부파일 삭제
+     */
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<ApiResponse<Void>> delete(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId,
+            @PathVariable Long attachmentId
+    ) {
+        attachmentService.delete(userDetails.getUsername(), postId, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success(null, "첨부파일이 삭제되었습니다."));
+    }
+}
@@ -5,12 +5,10 @@ import com.board.domain.user.dto.*;
 import com.board.domain.user.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-@Slf4j
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -25,7 +23,6 @@ public class AuthController {
     public ResponseEntity<ApiResponse<UserResponse>> signUp(
             @Valid @RequestBody SignUpRequest request
     ) {
-        log.info("회원가입 요청: {}", request.getEmail());
         UserResponse response = authService.signUp(request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -39,7 +36,6 @@ public class AuthController {
     public ResponseEntity<ApiResponse<TokenResponse>> login(
             @Valid @RequestBody LoginRequest request
     ) {
-        log.info("로그인 요청: {}", request.getEmail());
         TokenResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success(response, "로그인 성공"));
     }
@@ -51,7 +47,6 @@ public class AuthController {
     public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(
             @RequestHeader("Refresh-Token") String refreshToken
     ) {
-        log.info("토큰 재발급 요청");
         TokenResponse response = authService.refreshToken(refreshToken);
         return ResponseEntity.ok(ApiResponse.success(response, "토큰이 재발급되었습니다."));
     }
@@ -0,0 +1,104 @@
+package com.board.api.controller;
+
+import com.board.api.response.ApiResponse;
+import com.board.api.response.PageResponse;
+import com.board.domain.comment.dto.CommentCreateRequest;
+import com.board.domain.comment.dto.CommentResponse;
+import com.board.domain.comment.service.CommentService;
+import com.board.domain.comment.service.CommentStreamBroadcaster;
+import com.board.global.common.CountMode;
+import com.board.global.config.CommentStreamProperties;
+import com.board.global.sse.SseConnection;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final CommentStreamBroadcaster commentStreamBroadcaster;
+    private final CommentStreamProperties commentStreamProperties;
+
+    /**
+     * 댓글 작성
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<CommentResponse>> createComment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId,
+            @Valid @RequestBody CommentCreateRequest request
+    ) {
+        CommentResponse response = commentService.createComment(userDetails.getUsername(), postId, request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "댓글이 작성되었습니다."));
+    }
+
+    /**
+     * 댓글 목록 조회 (작성 순, 다음 페이지 여부만)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<CommentResponse>>> getComments(
+            @PathVariable Long postId,
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        PageResponse<CommentResponse> response = PageResponse.of(
+                commentService.getComments(postId, pageable), CountMode.NONE);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 실시간 댓글 스트림 (SSE)
+     * - 요청 스레드는 비동기 모드로 전환 후 바로 반환되고, 이후 전송은 브로드캐스터가 논블로킹으로 처리
+     * - 재연결 시 Last-Event-ID 이후의 댓글을 먼저 보낸다
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamComments(
+            @PathVariable Long postId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        commentService.validatePostExists(postId);
+        // 채널 등록 뒤에 조회해야 조회와 등록 사이에 커밋된 댓글을 놓치지 않는다
+        Supplier<List<CommentResponse>> replay = lastEventId != null
+                ? () -> commentService.getCommentsAfter(postId, lastEventId, commentStreamProperties.getMaxReplay())
+                : List::of;
+
+        SseConnection connection = SseConnection.open(request, response,
+                commentStreamProperties.getQueueCapacity(), commentStreamProperties.getTimeout());
+        commentStreamBroadcaster.subscribe(postId, connection, replay);
+    }
+
+    /**
+     * 댓글 삭제
+     */
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<ApiResponse<Void>> deleteComment(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId,
+            @PathVariable Long commentId
+    ) {
+        commentService.deleteComment(userDetails.getUsername(), postId, commentId);
+        return ResponseEntity.ok(ApiResponse.success(null, "댓글이 삭제되었습니다."));
+    }
+}
@@ -0,0 +1,149 @@
+package com.board.api.controller;
+
+import com.board.api.response.ApiResponse;
+import com.board.api.response.CursorResponse;
+import com.board.api.response.PageResponse;
+import com.board.domain.post.dto.PostCreateRequest;
+import com.board.domain.post.dto.PostCursor;
+import com.board.domain.post.dto.PostDetailResponse;
+import com.board.domain.post.dto.PostResponse;
+import com.board.domain.post.dto.PostUpdateRequest;
+import com.board.domain.post.service.PostService;
+import com.board.domain.post.service.PostViewService;
+import com.board.global.common.CountMode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/posts")
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+    private final PostViewService postViewService;
+
+    /**
+     * 게시글 작성
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<PostDetailResponse>> createPost(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody PostCreateRequest request
+    ) {
+        PostDetailResponse response = postService.createPost(userDetails.getUsername(), request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "게시글이 작성되었습니다."));
+    }
+
+    /**
+     * 게시글 상세 조회
+     * - If-None-Match 가 현재 버전과 같으면 본문 조회/직렬화 없이 304 반환
+     * - 본문을 내려준 경우에만 조회 기록 (버퍼링 후 배치 INSERT)
+     */
+    @GetMapping("/{postId}")
+    public ResponseEntity<ApiResponse<PostDetailResponse>> getPost(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId,
+            WebRequest webRequest,
+            HttpServletRequest httpRequest
+    ) {
+        String eTag = postService.getPostETag(postId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        PostDetailResponse response = postService.getPost(postId);
+        postViewService.recordView(
+                postId,
+                userDetails != null ? userDetails.getUsername() : null,
+                httpRequest.getRemoteAddr());
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시글 목록 조회
+     * - ETag 는 목록 버전(작성/수정/삭제, 댓글 수 변화마다 증가) 기반 - 목록을 읽기 전에 확인해서 304 는 SQL 없이 응답
+     * - 목록 버전을 읽지 못하면 (Redis 장애) ETag 없이 응답
+     * - countMode: EXACT(캐시된 COUNT), ESTIMATED(카운터), NONE(다음 페이지 여부만)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<PostResponse>>> getPosts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest
+    ) {
+        String eTag = postService.getPostsETag(categoryId, pageable, countMode);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        PageResponse<PostResponse> response = PageResponse.of(
+                postService.getPosts(categoryId, pageable, countMode), countMode);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(ApiResponse.success(response));
+    }
+
+    /**
+     * 카테고리 최신 글 피드 (커서 기반)
+     * - 최신 구간은 메모리 링에서 SQL 없이 응답하고, 더 깊은 페이지는 같은 커서로 DB 에서 이어서 조회
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> getFeed(
+            @RequestParam Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<PostResponse> response = CursorResponse.of(
+                postService.getFeed(categoryId, cursor, size), post -> PostCursor.of(post).encode());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시글 수정
+     */
+    @PutMapping("/{postId}")
+    public ResponseEntity<ApiResponse<PostDetailResponse>> updatePost(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId,
+            @Valid @RequestBody PostUpdateRequest request
+    ) {
+        PostDetailResponse response = postService.updatePost(userDetails.getUsername(), postId, request);
+        return ResponseEntity.ok(ApiResponse.success(response, "게시글이 수정되었습니다."));
+    }
+
+    /**
+     * 게시글 삭제
+     */
+    @DeleteMapping("/{postId}")
+    public ResponseEntity<ApiResponse<Void>> deletePost(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long postId
+    ) {
+        postService.deletePost(userDetails.getUsername(), postId);
+        return ResponseEntity.ok(ApiResponse.success(null, "게시글이 삭제되었습니다."));
+    }
+}
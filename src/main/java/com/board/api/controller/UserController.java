@@ -0,0 +1,77 @@
+package com.board.api.controller;
+
+import com.board.api.response.ApiResponse;
+import com.board.domain.user.dto.UserProfileResponse;
+import com.board.domain.user.service.UserProfileService;
+import com.board.domain.user.service.UserExportService;
+import com.board.domain.user.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserService userService;
+    private final UserProfileService userProfileService;
+    private final UserExportService userExportService;
+
+    /**
+     * 사용자 요약 프로필 일괄 조회 (작성자 배지 등)
+     * - ids 순서대로 응답, 없거나 탈퇴한 사용자는 제외, 최대 100명
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<UserProfileResponse>>> getUsers(
+            @RequestParam List<Long> ids
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(userProfileService.getProfiles(ids)));
+    }
+
+    /**
+     * 회원 탈퇴
+     * - 작성한 게시글/댓글 정리는 백그라운드에서 진행되므로 202 Accepted 로 바로 응답
+     */
+    @DeleteMapping("/me")
+    public ResponseEntity<ApiResponse<Void>> withdraw(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        userService.withdraw(userDetails.getUsername());
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(null, "회원 탈퇴가 접수되었습니다."));
+    }
+
+    /**
+     * 내 게시글/댓글 내보내기 (NDJSON 스트리밍)
+     * - 전체를 모으지 않고 DB 커서에서 읽는 대로 내보내므로 데이터 양과 무관하게 메모리가 일정
+     */
+    @GetMapping(value = "/me/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response
+    ) throws IOException {
+        userExportService.export(userDetails.getUsername(), userId -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("board-export-" + userId + ".ndjson")
+                    .build()
+                    .toString());
+            return response.getOutputStream();
+        });
+    }
+}
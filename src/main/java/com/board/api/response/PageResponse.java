@@ -0,0 +1,59 @@
+package com.board.api.response;
+
+import com.board.global.common.CountMode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> content;
+    private PageInfo pageable;
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return of(page, CountMode.EXACT);
+    }
+
+    /**
+     * Page 면 전체 개수를, Slice 면 다음 페이지 여부만 담는다
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, CountMode countMode) {
+        if (slice instanceof Page<T> page) {
+            return new PageResponse<>(
+                    page.getContent(),
+                    new PageInfo(
+                            page.getNumber(),
+                            page.getSize(),
+                            page.getTotalPages(),
+                            page.getTotalElements(),
+                            page.hasNext(),
+                            countMode
+                    )
+            );
+        }
+        return new PageResponse<>(
+                slice.getContent(),
+                new PageInfo(slice.getNumber(), slice.getSize(), null, null, slice.hasNext(), CountMode.NONE)
+        );
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PageInfo {
+        private int pageNumber;
+        private int pageSize;
+        private Integer totalPages;
+        private Long totalElements;
+        private boolean hasNext;
+        private CountMode countMode;
+    }
+}
@@ -0,0 +1,75 @@
+package com.board.domain.archive.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아카이브 대상 테이블
+ * - FK 때문에 참조하는 쪽부터 옮긴다 (댓글 -> 게시글 본문 -> 게시글 -> 사용자)
+ * - 아직 다른 행이 참조 중인 행은 후보에서 제외하고, 참조가 사라진 뒤 다음 실행에서 옮긴다
+ * - 후보 조회와 이동 직전 잠금이 같은 조건(condition) 을 쓴다 - 파라미터 :cutoff
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ArchiveTable {
+
+    // 삭제된 댓글 + 삭제된 게시글에 달린 댓글 (답글이 남아있는 댓글 제외)
+    COMMENTS("comments",
+            "id, content, post_id, author_id, parent_id, deleted_at, created_at, updated_at, version",
+            "comments c JOIN posts p ON p.id = c.post_id", "c",
+            "(c.deleted_at < :cutoff OR p.deleted_at < :cutoff) " +
+            "AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.id)"),
+
+    // 아카이브 대상 게시글의 본문 (게시글과 같은 조건, 게시글보다 먼저 옮긴다)
+    POST_BODIES("post_bodies",
+            "id, encoding, original_length, body",
+            "post_bodies b JOIN posts p ON p.id = b.id", "b",
+            "p.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM attachments a WHERE a.post_id = p.id)"),
+
+    // 삭제된 게시글 (댓글/첨부파일이 남아있는 게시글 제외)
+    POSTS("posts",
+            "id, title, author_id, category_id, view_count, like_count, dislike_count, " +
+            "deleted_at, created_at, updated_at, version",
+            "posts p", "p",
+            "p.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM attachments a WHERE a.post_id = p.id)"),
+
+    // 탈퇴 사용자 (게시글/댓글이 남아있는 사용자 제외 - 연쇄 삭제 + 아카이브가 끝난 뒤)
+    USERS("users",
+            "id, email, password, nickname, role, deleted, deleted_at, created_at, updated_at, version",
+            "users u", "u",
+            "u.deleted = TRUE AND u.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.author_id = u.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.author_id = u.id)");
+
+    private final String tableName;
+    private final String columns;
+    private final String from;
+    private final String alias;
+    private final String condition;
+
+    public String getArchiveTableName() {
+        return tableName + "_archive";
+    }
+
+    /**
+     * 후보 조회 - id 오름차순 keyset (:lastId 이후 :limit 건)
+     */
+    public String getCandidateSql() {
+        return "SELECT " + alias + ".id FROM " + from +
+               " WHERE " + alias + ".id > :lastId AND " + condition +
+               " ORDER BY " + alias + ".id LIMIT :limit";
+    }
+
+    /**
+     * 이동 직전 재확인 + 잠금 - 후보 조회 이후 복구/삭제 취소된 행을 빼고, 이동이 끝날 때까지 변경을 막는다
+     */
+    public String getLockSql() {
+        return "SELECT " + alias + ".id FROM " + from +
+               " WHERE " + alias + ".id IN (:ids) AND " + condition +
+               " FOR UPDATE";
+    }
+}
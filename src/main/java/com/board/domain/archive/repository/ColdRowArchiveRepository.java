@@ -0,0 +1,77 @@
+package com.board.domain.archive.repository;
+
+import com.board.domain.archive.entity.ArchiveTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 원본 테이블 <-> 아카이브 테이블 행 이동 (INSERT ... SELECT + DELETE)
+ * - 호출하는 쪽 트랜잭션 안에서 실행해야 두 문장이 함께 커밋된다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ColdRowArchiveRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<Long> findCandidateIds(ArchiveTable table, long lastId, LocalDateTime cutoff, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lastId", lastId)
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.queryForList(table.getCandidateSql(), params, Long.class);
+    }
+
+    /**
+     * 후보 중 아직 조건을 만족하는 행만 잠그고 옮긴다 (후보 조회는 트랜잭션 밖이라 그 사이 복구될 수 있음)
+     * @return 옮긴 행 수
+     */
+    public int archive(ArchiveTable table, List<Long> ids, LocalDateTime cutoff, LocalDateTime archivedAt) {
+        List<Long> eligible = namedParameterJdbcTemplate.queryForList(table.getLockSql(),
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("cutoff", Timestamp.valueOf(cutoff)),
+                Long.class);
+        if (eligible.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", eligible)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int copied = namedParameterJdbcTemplate.update(
+                "INSERT INTO " + table.getArchiveTableName() + " (" + table.getColumns() + ", archived_at) " +
+                "SELECT " + table.getColumns() + ", :archivedAt FROM " + table.getTableName() + " WHERE id IN (:ids)",
+                params);
+        int deleted = namedParameterJdbcTemplate.update(
+                "DELETE FROM " + table.getTableName() + " WHERE id IN (:ids)", params);
+        if (copied != deleted) {
+            throw new IllegalStateException(table.getTableName() + " 아카이브 행 수 불일치: copied="
+                    + copied + ", deleted=" + deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 아카이브에서 원본 테이블로 되돌림
+     * @return 아카이브에 행이 없으면 false
+     */
+    public boolean restore(ArchiveTable table, Long id) {
+        int restored = jdbcTemplate.update(
+                "INSERT INTO " + table.getTableName() + " (" + table.getColumns() + ") " +
+                "SELECT " + table.getColumns() + " FROM " + table.getArchiveTableName() + " WHERE id = ?", id);
+        if (restored == 0) {
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM " + table.getArchiveTableName() + " WHERE id = ?", id);
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.board.domain.archive.service;
+
+import com.board.domain.archive.entity.ArchiveTable;
+import com.board.domain.archive.repository.ColdRowArchiveRepository;
+import com.board.global.config.ArchiveProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 소프트 삭제 행을 아카이브 테이블로 이동
+ * - 원본 테이블과 인덱스(idx_email 등) 에서 빠지므로 버퍼 풀이 활성 행만 들고 있게 된다
+ * - 배치마다 짧은 트랜잭션으로 INSERT ... SELECT + DELETE, 배치 사이에는 쉰다
+ * - 후보는 트랜잭션 밖에서 고르므로, 트랜잭션 안에서 같은 조건으로 다시 확인하며 잠근 행만 옮긴다
+ * - 실패한 배치는 롤백되고 다음 실행에서 다시 후보로 잡힌다
+ */
+@Slf4j
+@Component
+public class ColdRowArchiver {
+
+    private final ColdRowArchiveRepository archiveRepository;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public ColdRowArchiver(
+            ColdRowArchiveRepository archiveRepository,
+            ArchiveProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.archiveRepository = archiveRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 4 * * *}")
+    public synchronized void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        for (ArchiveTable table : ArchiveTable.values()) {
+            try {
+                long archived = archiveTable(table, cutoff);
+                if (archived > 0) {
+                    log.info("{} 아카이브: {}건", table.getTableName(), archived);
+                }
+            } catch (RuntimeException e) {
+                log.error("{} 아카이브 실패", table.getTableName(), e);
+            }
+        }
+    }
+
+    private long archiveTable(ArchiveTable table, LocalDateTime cutoff) {
+        long lastId = 0L;
+        long total = 0L;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = archiveRepository.findCandidateIds(table, lastId, cutoff, properties.getBatchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer moved = transactionTemplate.execute(status ->
+                    archiveRepository.archive(table, ids, cutoff, LocalDateTime.now()));
+            total += moved;
+            meterRegistry.counter("archive.rows", "table", table.getTableName()).increment(moved);
+
+            if (ids.size() < properties.getBatchSize()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() {
+        long millis = properties.getPauseBetweenBatches().toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
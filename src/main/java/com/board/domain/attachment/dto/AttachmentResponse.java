@@ -0,0 +1,35 @@
+package com.board.domain.attachment.dto;
+
+import com.board.domain.attachment.entity.Attachment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentResponse {
+    private Long id;
+    private Long postId;
+    private String filename;
+    private String contentType;
+    private Long size;
+    private String checksum;
+    private LocalDateTime createdAt;
+
+    public static AttachmentResponse of(Attachment attachment, Long postId) {
+        return AttachmentResponse.builder()
+                .id(attachment.getId())
+                .postId(postId)
+                .filename(attachment.getOriginalFilename())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .checksum(attachment.getChecksum())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
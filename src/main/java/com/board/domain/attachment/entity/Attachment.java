@@ -0,0 +1,58 @@
+package com.board.domain.attachment.entity;
+
+import com.board.domain.post.entity.Post;
+import com.board.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 첨부파일 메타데이터 - 파일 내용은 LocalFileStorage 의 storageKey 위치에 있다
+ */
+@Entity
+@Table(name = "attachments", indexes = {
+    @Index(name = "idx_attachment_post", columnList = "post_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Attachment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @Column(nullable = false)
+    private String originalFilename;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    /**
+     * SHA-256 (hex) - 다운로드 ETag 로도 사용
+     */
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String storageKey;
+
+    @Builder
+    public Attachment(Post post, String originalFilename, String contentType, Long size,
+                      String checksum, String storageKey) {
+        this.post = post;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.checksum = checksum;
+        this.storageKey = storageKey;
+    }
+}
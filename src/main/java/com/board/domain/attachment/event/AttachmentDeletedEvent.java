@@ -0,0 +1,14 @@
+package com.board.domain.attachment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 첨부파일 행 삭제 이벤트 - 커밋 이후 저장소의 파일을 지운다 (롤백되면 파일 유지)
+ */
+@Getter
+@RequiredArgsConstructor
+public class AttachmentDeletedEvent {
+
+    private final String storageKey;
+}
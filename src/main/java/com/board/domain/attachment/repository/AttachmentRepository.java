@@ -0,0 +1,33 @@
+package com.board.domain.attachment.repository;
+
+import com.board.domain.attachment.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    /**
+     * 삭제되지 않은 게시글의 첨부파일만 조회
+     */
+    @Query("SELECT a FROM Attachment a " +
+           "WHERE a.id = :id AND a.post.id = :postId AND a.post.deletedAt IS NULL")
+    Optional<Attachment> findActiveByIdAndPostId(@Param("id") Long id, @Param("postId") Long postId);
+
+    @Query("SELECT a FROM Attachment a " +
+           "WHERE a.post.id = :postId AND a.post.deletedAt IS NULL ORDER BY a.id")
+    List<Attachment> findActiveByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT a.storageKey FROM Attachment a WHERE a.post.id = :postId")
+    List<String> findStorageKeysByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,203 @@
+package com.board.domain.attachment.service;
+
+import com.board.domain.attachment.dto.AttachmentResponse;
+import com.board.domain.attachment.entity.Attachment;
+import com.board.domain.attachment.event.AttachmentDeletedEvent;
+import com.board.domain.attachment.repository.AttachmentRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.config.AttachmentProperties;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import com.board.global.storage.FileDownload;
+import com.board.global.storage.LocalFileStorage;
+import com.board.global.storage.StoredFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 게시글 첨부파일
+ * - 업로드는 트랜잭션 밖에서 디스크로 스트리밍하고, 다 받은 뒤 짧은 트랜잭션으로 메타데이터만 저장한다
+ *   (느린 업로드가 DB 커넥션을 붙잡지 않도록)
+ * - 파일 삭제는 커밋 이후에만 수행 (롤백되면 파일 유지)
+ */
+@Slf4j
+@Service
+public class AttachmentService {
+
+    private static final int MAX_FILENAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 100;
+
+    private final AttachmentRepository attachmentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final LocalFileStorage storage;
+    private final AttachmentProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttachmentService(
+            AttachmentRepository attachmentRepository,
+            PostRepository postRepository,
+            UserRepository userRepository,
+            LocalFileStorage storage,
+            AttachmentProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.attachmentRepository = attachmentRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.storage = storage;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 첨부파일 업로드 (게시글 작성자만)
+     * @param contentLength 요청 Content-Length (모르면 -1) - 상한을 넘으면 본문을 읽기 전에 거절
+     */
+    public AttachmentResponse upload(String email, Long postId, String filename, String contentType,
+                                     long contentLength, InputStream body) {
+        String name = sanitizeFilename(filename);
+        String type = normalizeContentType(contentType);
+        long maxSize = properties.getMaxFileSize().toBytes();
+        if (contentLength > maxSize) {
+            throw new BusinessException(ErrorCode.ATTACHMENT_TOO_LARGE);
+        }
+        validateAuthor(email, postId);
+
+        StoredFile stored = storage.store(body, maxSize);
+        try {
+            Attachment saved = transactionTemplate.execute(status -> attachmentRepository.save(Attachment.builder()
+                    .post(postRepository.getReferenceById(postId))
+                    .originalFilename(name)
+                    .contentType(type)
+                    .size(stored.size())
+                    .checksum(stored.checksum())
+                    .storageKey(stored.key())
+                    .build()));
+            log.atInfo().addKeyValue("postId", postId).addKeyValue("attachmentId", saved.getId())
+                    .addKeyValue("size", stored.size()).log("첨부파일 업로드");
+            return AttachmentResponse.of(saved, postId);
+        } catch (RuntimeException e) {
+            storage.delete(stored.key());
+            throw e;
+        }
+    }
+
+    /**
+     * 게시글 첨부파일 목록
+     */
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getAttachments(Long postId) {
+        return attachmentRepository.findActiveByPostId(postId).stream()
+                .map(attachment -> AttachmentResponse.of(attachment, postId))
+                .toList();
+    }
+
+    /**
+     * 다운로드 정보 - ETag 는 내용 해시(SHA-256) 기반 강한 검증자 (Range 요청에 사용 가능)
+     */
+    @Transactional(readOnly = true)
+    public FileDownload getDownload(Long postId, Long attachmentId) {
+        Attachment attachment = attachmentRepository.findActiveByIdAndPostId(attachmentId, postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ATTACHMENT_NOT_FOUND));
+        Path path = storage.resolve(attachment.getStorageKey());
+        if (!Files.isRegularFile(path)) {
+            log.warn("첨부파일 내용 없음: attachmentId={}, path={}", attachmentId, path);
+            throw new BusinessException(ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+        long lastModified = attachment.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new FileDownload(path, attachment.getOriginalFilename(), attachment.getContentType(),
+                attachment.getSize(), "\"" + attachment.getChecksum() + "\"", lastModified);
+    }
+
+    /**
+     * 첨부파일 삭제 (게시글 작성자만)
+     */
+    @Transactional
+    public void delete(String email, Long postId, Long attachmentId) {
+        validateAuthor(email, postId);
+        Attachment attachment = attachmentRepository.findActiveByIdAndPostId(attachmentId, postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ATTACHMENT_NOT_FOUND));
+        attachmentRepository.delete(attachment);
+        eventPublisher.publishEvent(new AttachmentDeletedEvent(attachment.getStorageKey()));
+    }
+
+    @TransactionalEventListener
+    public void deleteFile(AttachmentDeletedEvent event) {
+        storage.delete(event.getStorageKey());
+    }
+
+    /**
+     * 게시글이 삭제되면 첨부파일도 정리 (게시글 아카이브가 첨부파일 FK 에 막히지 않도록)
+     * - 동기 @EventListener 이므로 게시글을 삭제한 트랜잭션 안에서 행을 지우고, 파일은 커밋 이후에 지운다
+     */
+    @EventListener(condition = "#event.changeType.name() == 'DELETED'")
+    @Transactional
+    public void deleteAllOfPost(PostChangedEvent event) {
+        List<String> storageKeys = attachmentRepository.findStorageKeysByPostId(event.getPostId());
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+        attachmentRepository.deleteAllByPostId(event.getPostId());
+        storageKeys.forEach(key -> eventPublisher.publishEvent(new AttachmentDeletedEvent(key)));
+    }
+
+    private void validateAuthor(String email, Long postId) {
+        User user = userRepository.findActiveUserByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Post post = postRepository.findActivePostById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (!post.isAuthor(user.getId())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 경로 구분자 앞부분은 버리고 파일 이름만 사용
+     */
+    private static String sanitizeFilename(String filename) {
+        if (!StringUtils.hasText(filename)) {
+            throw new BusinessException(ErrorCode.INVALID_ATTACHMENT_NAME);
+        }
+        String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty() || name.length() > MAX_FILENAME_LENGTH
+                || name.equals(".") || name.equals("..") || name.chars().anyMatch(Character::isISOControl)) {
+            throw new BusinessException(ErrorCode.INVALID_ATTACHMENT_NAME);
+        }
+        return name;
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            String normalized = MediaType.parseMediaType(contentType).toString();
+            return normalized.length() <= MAX_CONTENT_TYPE_LENGTH ? normalized : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.board.domain.category.entity;
+
+import com.board.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "categories", indexes = {
+    @Index(name = "idx_display_order", columnList = "display_order")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Category extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    private Integer displayOrder = 0;
+
+    /**
+     * 게시글 수 카운터 - CountMode.ESTIMATED 목록 카운트에 사용
+     */
+    @Column(nullable = false)
+    private Long postCount = 0L;
+
+    @Builder
+    public Category(String name, String description, Integer displayOrder) {
+        this.name = name;
+        this.description = description;
+        this.displayOrder = displayOrder != null ? displayOrder : 0;
+        this.postCount = 0L;
+    }
+
+    // 비즈니스 메서드
+    public void update(String name, String description, Integer displayOrder) {
+        this.name = name;
+        this.description = description;
+        this.displayOrder = displayOrder;
+    }
+}
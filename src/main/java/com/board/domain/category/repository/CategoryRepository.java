@@ -0,0 +1,33 @@
+package com.board.domain.category.repository;
+
+import com.board.domain.category.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    boolean existsByName(String name);
+
+    @Query("SELECT c.id FROM Category c")
+    List<Long> findAllIds();
+
+    /**
+     * 게시글 카운터 증감 - 엔티티를 거치지 않는 단일 UPDATE (버전 증가 없음)
+     */
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = c.postCount + :delta WHERE c.id = :id")
+    int addPostCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("SELECT c.postCount FROM Category c WHERE c.id = :id")
+    Optional<Long> findPostCountById(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(SUM(c.postCount), 0) FROM Category c")
+    long sumPostCount();
+}
@@ -0,0 +1,19 @@
+package com.board.domain.comment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCreateRequest {
+
+    @NotBlank(message = "댓글 내용은 필수입니다.")
+    @Size(max = 1000, message = "댓글은 1000자 이하여야 합니다.")
+    private String content;
+
+    private Long parentId;
+}
@@ -0,0 +1,20 @@
+package com.board.domain.comment.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 댓글 행 (스칼라 프로젝션 - 영속성 컨텍스트에 올라가지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentExportRow {
+    private final Long id;
+    private final Long postId;
+    private final Long parentId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
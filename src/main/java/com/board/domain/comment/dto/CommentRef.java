@@ -0,0 +1,15 @@
+package com.board.domain.comment.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 처리용 댓글 식별 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentRef {
+    private final Long id;
+    private final Long postId;
+    private final Long categoryId;
+}
@@ -0,0 +1,35 @@
+package com.board.domain.comment.dto;
+
+import com.board.domain.comment.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentResponse {
+    private Long id;
+    private Long postId;
+    private Long parentId;
+    private String content;
+    private Long authorId;
+    private String authorNickname;
+    private LocalDateTime createdAt;
+
+    public static CommentResponse from(Comment comment) {
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .postId(comment.getPost().getId())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .content(comment.getContent())
+                .authorId(comment.getAuthor().getId())
+                .authorNickname(comment.getAuthor().getNickname())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.board.domain.comment.entity;
+
+import com.board.domain.post.entity.Post;
+import com.board.domain.user.entity.User;
+import com.board.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_post_deleted_id", columnList = "post_id, deleted_at, id"),
+    @Index(name = "idx_author_deleted", columnList = "author_id, deleted_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Comment parent;
+
+    @Column
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public Comment(String content, Post post, User author, Comment parent) {
+        this.content = content;
+        this.post = post;
+        this.author = author;
+        this.parent = parent;
+    }
+
+    // 비즈니스 메서드
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
+    public boolean isAuthor(Long userId) {
+        return this.author.getId().equals(userId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.board.domain.comment.event;
+
+import com.board.domain.comment.dto.CommentResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 변경 이벤트 - 트랜잭션 안에서는 Outbox 기록, 커밋 이후에는 댓글 스트림 브로드캐스트에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    private final Long commentId;
+    private final Long postId;
+    private final Long categoryId;
+    private final ChangeType changeType;
+
+    /**
+     * 스트림으로 내려보낼 댓글 (삭제 이벤트는 null)
+     */
+    @JsonIgnore
+    private final CommentResponse comment;
+
+    public enum ChangeType {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,48 @@
+package com.board.domain.comment.repository;
+
+import com.board.domain.comment.dto.CommentRef;
+import com.board.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.post WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Comment> findActiveCommentById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Comment> findSliceByPostIdAndDeletedAtIsNull(Long postId, Pageable pageable);
+
+    /**
+     * 스트림 재연결(Last-Event-ID) 시 놓친 댓글 조회
+     */
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByPostIdAndIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(
+            Long postId, Long lastCommentId, Pageable pageable);
+
+    /**
+     * 작성자의 활성 댓글을 id 순서로 청크 조회 (keyset - lastId 이후)
+     */
+    @Query("SELECT new com.board.domain.comment.dto.CommentRef(c.id, c.post.id, c.post.category.id) FROM Comment c " +
+           "WHERE c.author.id = :authorId AND c.id > :lastId AND c.deletedAt IS NULL ORDER BY c.id")
+    List<CommentRef> findActiveRefsByAuthorId(@Param("authorId") Long authorId,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deletedAt = :now, c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    int softDeleteAllByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,118 @@
+package com.board.domain.comment.service;
+
+import com.board.domain.comment.dto.CommentCreateRequest;
+import com.board.domain.comment.dto.CommentResponse;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.domain.comment.event.CommentChangedEvent.ChangeType;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 댓글 작성 - 커밋 이후 댓글 스트림 구독자에게 전달된다
+     */
+    @Transactional
+    public CommentResponse createComment(String email, Long postId, CommentCreateRequest request) {
+        User author = userRepository.findActiveUserByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Post post = getActivePost(postId);
+        Comment parent = request.getParentId() != null ? getParent(postId, request.getParentId()) : null;
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .content(request.getContent())
+                .post(post)
+                .author(author)
+                .parent(parent)
+                .build());
+
+        CommentResponse response = CommentResponse.from(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                comment.getId(), postId, post.getCategory().getId(), ChangeType.CREATED, response));
+        log.info("댓글 작성: commentId={}, postId={}", comment.getId(), postId);
+        return response;
+    }
+
+    /**
+     * 댓글 목록 조회 (작성 순)
+     */
+    public Slice<CommentResponse> getComments(Long postId, Pageable pageable) {
+        getActivePost(postId);
+        return commentRepository.findSliceByPostIdAndDeletedAtIsNull(postId, pageable)
+                .map(CommentResponse::from);
+    }
+
+    /**
+     * lastCommentId 이후에 작성된 댓글 (스트림 재연결 시 재전송용)
+     */
+    public List<CommentResponse> getCommentsAfter(Long postId, Long lastCommentId, int limit) {
+        return commentRepository.findByPostIdAndIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(
+                        postId, lastCommentId, PageRequest.of(0, limit))
+                .stream()
+                .map(CommentResponse::from)
+                .toList();
+    }
+
+    /**
+     * 댓글 삭제 (소프트 삭제)
+     */
+    @Transactional
+    public void deleteComment(String email, Long postId, Long commentId) {
+        User user = userRepository.findActiveUserByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Comment comment = commentRepository.findActiveCommentById(commentId)
+                .filter(c -> c.getPost().getId().equals(postId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+        if (!comment.isAuthor(user.getId())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        comment.delete();
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                commentId, postId, comment.getPost().getCategory().getId(), ChangeType.DELETED, null));
+        log.info("댓글 삭제: commentId={}", commentId);
+    }
+
+    /**
+     * 스트림 구독 전 게시글 존재 확인
+     */
+    public void validatePostExists(Long postId) {
+        getActivePost(postId);
+    }
+
+    private Post getActivePost(Long postId) {
+        return postRepository.findActivePostById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    private Comment getParent(Long postId, Long parentId) {
+        return commentRepository.findActiveCommentById(parentId)
+                .filter(parent -> parent.getPost().getId().equals(postId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_PARENT_COMMENT));
+    }
+}
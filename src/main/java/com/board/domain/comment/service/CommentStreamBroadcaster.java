@@ -0,0 +1,273 @@
+package com.board.domain.comment.service;
+
+import com.board.domain.comment.dto.CommentResponse;
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.global.config.CommentStreamProperties;
+import com.board.global.sse.SseConnection;
+import com.board.global.sse.SseFrames;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 댓글 스트림 브로드캐스터
+ * - 게시글마다 구독자 집합(채널) 하나를 두고, 댓글 이벤트는 한 번만 인코딩해서 같은 byte[] 를 모든 구독자 큐에 넣는다
+ * - 팬아웃은 단일 스레드에서 수행해서 요청 스레드를 붙잡지 않고 이벤트 순서를 유지한다
+ * - 마지막 구독자가 나가면 채널을 즉시 제거한다
+ * - 재연결 구독은 채널에 먼저 등록(버퍼링) 한 뒤 놓친 댓글을 조회한다 - 조회와 등록 사이에 커밋된 댓글도 놓치지 않고,
+ *   재전송이 끝날 때까지 실시간 이벤트는 버퍼에 모았다가 이미 보낸 id 를 빼고 이어서 보낸다 (id 순서 유지)
+ * - 다른 노드에서 작성된 댓글은 전달하지 않는다 (노드 간 전파는 Outbox 의 comment 토픽 구독으로 확장)
+ */
+@Slf4j
+@Component
+public class CommentStreamBroadcaster implements DisposableBean {
+
+    static final String EVENT_COMMENT = "comment";
+    static final String EVENT_COMMENT_DELETED = "comment-deleted";
+
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final CommentStreamProperties properties;
+    private final byte[] retryFrame;
+
+    private final ExecutorService fanOutExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final Counter slowConsumerCounter;
+
+    public CommentStreamBroadcaster(
+            ObjectMapper objectMapper,
+            CommentStreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.retryFrame = SseFrames.retry(properties.getReconnectDelay());
+
+        this.fanOutExecutor = Executors.newSingleThreadExecutor(daemon("comment-stream-fanout"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemon("comment-stream-heartbeat"));
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        this.slowConsumerCounter = meterRegistry.counter("comment.stream.slow_consumer.disconnected");
+        Gauge.builder("comment.stream.connections", connectionCount, AtomicInteger::get)
+                .description("댓글 스트림 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.stream.channels", channels, Map::size)
+                .description("구독자가 있는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록 - 재연결이면 놓친 댓글을 먼저 보낸다
+     * @param replay 놓친 댓글 조회 (id 오름차순) - 채널에 등록한 뒤에 호출한다
+     */
+    public void subscribe(Long postId, SseConnection connection, Supplier<List<CommentResponse>> replay) {
+        Subscriber subscriber = new Subscriber(connection, properties.getQueueCapacity());
+        connection.onClose(() -> unsubscribe(postId, subscriber));
+        channels.compute(postId, (id, subscribers) -> {
+            Set<Subscriber> channel = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            channel.add(subscriber);
+            return channel;
+        });
+        connectionCount.incrementAndGet();
+        // 등록 전에 끊겼으면 콜백이 먼저 실행됐으므로 다시 정리
+        if (connection.isClosed()) {
+            unsubscribe(postId, subscriber);
+            return;
+        }
+
+        List<CommentResponse> missed;
+        try {
+            missed = replay.get();
+        } catch (RuntimeException e) {
+            log.warn("댓글 스트림 재전송 조회 실패 - 연결 종료 (클라이언트 재연결): postId={}", postId, e);
+            connection.close();
+            return;
+        }
+
+        connection.start();
+        connection.send(retryFrame);
+        List<byte[]> replayFrames = new ArrayList<>(missed.size());
+        long lastReplayedId = 0L;
+        for (CommentResponse comment : missed) {
+            replayFrames.add(SseFrames.event(EVENT_COMMENT, comment.getId(), toJson(comment)));
+            lastReplayedId = Math.max(lastReplayedId, comment.getId());
+        }
+        if (!subscriber.goLive(replayFrames, lastReplayedId)) {
+            slowConsumerCounter.increment();
+            connection.close();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (!channels.containsKey(event.getPostId())) {
+            return;
+        }
+        fanOutExecutor.execute(() -> {
+            if (event.getChangeType() == CommentChangedEvent.ChangeType.CREATED) {
+                broadcast(event.getPostId(), event.getCommentId(), SseFrames.event(
+                        EVENT_COMMENT, event.getCommentId(), toJson(event.getComment())));
+            } else {
+                broadcast(event.getPostId(), null, SseFrames.event(
+                        EVENT_COMMENT_DELETED, null, "{\"id\":" + event.getCommentId() + "}"));
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    /**
+     * 종료 시작 시 모든 스트림을 닫아서 graceful shutdown 이 장기 연결을 기다리지 않게 한다
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.connection.close()));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdownNow();
+        fanOutExecutor.shutdownNow();
+    }
+
+    /**
+     * 인코딩된 프레임을 게시글 구독자 전원에게 전달 - 큐가 가득 찬 구독자는 끊는다
+     */
+    public void broadcast(Long postId, byte[] frame) {
+        broadcast(postId, null, frame);
+    }
+
+    /**
+     * @param commentId 프레임의 댓글 id - 재전송 중인 구독자가 이미 보낸 댓글을 건너뛰는 데 사용 (없으면 null)
+     */
+    public void broadcast(Long postId, Long commentId, byte[] frame) {
+        Set<Subscriber> subscribers = channels.get(postId);
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.deliver(commentId, frame)) {
+                slowConsumerCounter.increment();
+                subscriber.connection.close();
+            }
+        }
+    }
+
+    private void unsubscribe(Long postId, Subscriber subscriber) {
+        channels.computeIfPresent(postId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                connectionCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void sendHeartbeat() {
+        try {
+            for (Long postId : channels.keySet()) {
+                broadcast(postId, SseFrames.HEARTBEAT);
+            }
+        } catch (RuntimeException e) {
+            log.warn("댓글 스트림 하트비트 실패", e);
+        }
+    }
+
+    private String toJson(CommentResponse comment) {
+        try {
+            return objectMapper.writeValueAsString(comment);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("댓글 직렬화 실패: " + comment.getId(), e);
+        }
+    }
+
+    /**
+     * 채널 구독자 - 재전송이 끝나기 전(버퍼링) 에 온 실시간 프레임은 버퍼에 모아 두었다가 재전송 뒤에 보낸다
+     * - deliver(팬아웃 스레드) 와 goLive(요청 스레드) 는 같은 락으로 순서를 맞춘다
+     */
+    private static final class Subscriber {
+
+        private final SseConnection connection;
+        private final int bufferCapacity;
+        private List<BufferedFrame> buffered = new ArrayList<>();
+
+        private Subscriber(SseConnection connection, int bufferCapacity) {
+            this.connection = connection;
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        /**
+         * @return 큐 또는 버퍼가 가득 차면 false
+         */
+        synchronized boolean deliver(Long commentId, byte[] frame) {
+            if (buffered == null) {
+                return connection.send(frame);
+            }
+            if (buffered.size() >= bufferCapacity) {
+                return false;
+            }
+            buffered.add(new BufferedFrame(commentId, frame));
+            return true;
+        }
+
+        /**
+         * 재전송 프레임을 보내고, 버퍼에서 이미 재전송한 댓글을 뺀 나머지를 보낸 뒤 실시간 전달로 전환
+         */
+        synchronized boolean goLive(List<byte[]> replayFrames, long lastReplayedId) {
+            for (byte[] frame : replayFrames) {
+                if (!connection.send(frame)) {
+                    return false;
+                }
+            }
+            for (BufferedFrame frame : buffered) {
+                if (frame.commentId() != null && frame.commentId() <= lastReplayedId) {
+                    continue;
+                }
+                if (!connection.send(frame.frame())) {
+                    return false;
+                }
+            }
+            buffered = null;
+            return true;
+        }
+    }
+
+    private record BufferedFrame(Long commentId, byte[] frame) {
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
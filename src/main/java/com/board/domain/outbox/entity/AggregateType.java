@@ -0,0 +1,17 @@
+package com.board.domain.outbox.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox 이벤트의 애그리거트 종류 - 애그리거트별로 Kafka 토픽이 나뉜다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AggregateType {
+    USER("user"),
+    POST("post"),
+    COMMENT("comment");
+
+    private final String topicName;
+}
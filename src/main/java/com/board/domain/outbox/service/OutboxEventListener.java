@@ -0,0 +1,46 @@
+package com.board.domain.outbox.service;
+
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.domain.outbox.entity.AggregateType;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.user.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트를 Outbox 로 기록
+ * - 동기 @EventListener 이므로 이벤트를 발행한 서비스의 트랜잭션 안에서 실행된다
+ * - 캐시 무효화 등 인스턴스 로컬 후처리는 기존처럼 @TransactionalEventListener 에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+
+    private final OutboxService outboxService;
+
+    @EventListener
+    public void on(PostChangedEvent event) {
+        outboxService.append(AggregateType.POST, event.getPostId(),
+                "Post" + eventSuffix(event.getChangeType().name()), event);
+    }
+
+    @EventListener
+    public void on(CommentChangedEvent event) {
+        outboxService.append(AggregateType.COMMENT, event.getCommentId(),
+                "Comment" + eventSuffix(event.getChangeType().name()), event);
+    }
+
+    @EventListener
+    public void on(UserChangedEvent event) {
+        outboxService.append(AggregateType.USER, event.getUserId(),
+                "User" + eventSuffix(event.getChangeType().name()), event);
+    }
+
+    /**
+     * CREATED -> Created
+     */
+    static String eventSuffix(String changeType) {
+        return changeType.charAt(0) + changeType.substring(1).toLowerCase();
+    }
+}
@@ -0,0 +1,217 @@
+package com.board.domain.outbox.service;
+
+import com.board.domain.outbox.entity.OutboxEvent;
+import com.board.domain.outbox.repository.OutboxEventRepository;
+import com.board.global.config.OutboxProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox -> Kafka 발행
+ * - 미발행 이벤트를 id 순서로 잠그고 한 배치를 모두 보낸 뒤 ack 받은 것만 발행 완료로 표시 (at-least-once)
+ * - 메시지 키가 애그리거트 id 이므로 애그리거트별 순서는 파티션 안에서 유지된다
+ * - 같은 배치에서 실패한 애그리거트의 이후 이벤트는 보내지 않고(이미 보냈다면 완료로 표시하지 않고) 다음 주기에 함께 재발행한다
+ * - 컨슈머는 event-id 헤더로 중복을 걸러야 한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final String HEADER_EVENT_ID = "event-id";
+    private static final String HEADER_EVENT_TYPE = "event-type";
+    private static final String HEADER_AGGREGATE_TYPE = "aggregate-type";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, String> kafkaTemplate,
+            OutboxProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("미발행 Outbox 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 미발행 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치가 가득 차 있으면 남은 이벤트가 없을 때까지 연속으로 발행
+     */
+    @Scheduled(
+            fixedDelayString = "${outbox.relay.fixed-delay:500}",
+            initialDelayString = "${outbox.relay.initial-delay:5000}"
+    )
+    public void relay() {
+        int batchSize = properties.getRelay().getBatchSize();
+        try {
+            int published;
+            do {
+                published = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch(batchSize)));
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Outbox 발행 실패", e);
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * 발행 완료된 이벤트 정리
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 30 * * * *}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        log.info("발행 완료된 Outbox 이벤트 정리: {}건", deleted);
+    }
+
+    /**
+     * @return 발행 완료로 표시한 건수 (실패가 있으면 이번 주기는 중단하도록 -1)
+     */
+    private int relayBatch(int batchSize) {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublishedForUpdate(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 보내는 도중 실패가 확인된 애그리거트의 이후 이벤트는 보내지 않는다
+        // - 먼저 보내면 다음 주기에 재발행되는 앞 이벤트보다 앞서 파티션에 쌓인다
+        Map<String, CompletableFuture<SendResult<String, String>>> lastSends = new HashMap<>();
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            String aggregateKey = aggregateKeyOf(event);
+            CompletableFuture<SendResult<String, String>> previous = lastSends.get(aggregateKey);
+            if (previous != null && previous.isCompletedExceptionally()) {
+                futures.add(null);
+                continue;
+            }
+            CompletableFuture<SendResult<String, String>> future = send(event);
+            lastSends.put(aggregateKey, future);
+            futures.add(future);
+        }
+
+        long deadline = System.nanoTime() + properties.getRelay().getSendTimeout().toNanos();
+        Set<String> failedAggregates = new HashSet<>();
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            String aggregateKey = aggregateKeyOf(event);
+            CompletableFuture<SendResult<String, String>> future = futures.get(i);
+            if (future == null) {
+                // 보내지 않은 이벤트 - 앞선 실패로 이미 failedAggregates 에 들어 있다
+                continue;
+            }
+            boolean sent = awaitAck(future, deadline, event);
+            if (!sent) {
+                failedAggregates.add(aggregateKey);
+            } else if (!failedAggregates.contains(aggregateKey)) {
+                publishedIds.add(event.getId());
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+            meterRegistry.counter("outbox.published").increment(publishedIds.size());
+        }
+        if (!failedAggregates.isEmpty()) {
+            meterRegistry.counter("outbox.failed").increment(events.size() - publishedIds.size());
+            return -1;
+        }
+        return publishedIds.size();
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+        try {
+            return kafkaTemplate.send(toRecord(event));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean awaitAck(CompletableFuture<SendResult<String, String>> future, long deadline, OutboxEvent event) {
+        try {
+            future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Outbox 이벤트 발행 실패: id={}, type={}", event.getId(), event.getEventType(), e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String aggregateKeyOf(OutboxEvent event) {
+        return event.getAggregateType() + ":" + event.getAggregateId();
+    }
+
+    private ProducerRecord<String, String> toRecord(OutboxEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                properties.topicOf(event.getAggregateType().getTopicName()),
+                event.getMessageKey(),
+                event.getPayload());
+        record.headers()
+                .add(HEADER_EVENT_ID, String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8))
+                .add(HEADER_EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8))
+                .add(HEADER_AGGREGATE_TYPE, event.getAggregateType().name().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void updateLag() {
+        try {
+            pending.set(outboxEventRepository.countByPublishedAtIsNull());
+            lagSeconds.set(outboxEventRepository.findOldestUnpublishedCreatedAt()
+                    .map(oldest -> Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0L))
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.warn("Outbox 지연 지표 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.board.domain.post.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 카운터 묶음 (목록 화면의 조회수 / 추천 / 비추천 / 댓글 수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCounters {
+
+    public static final PostCounters EMPTY = new PostCounters(null, 0L, 0L, 0L, 0L);
+
+    private final Long postId;
+    private final long viewCount;
+    private final long likeCount;
+    private final long dislikeCount;
+    private final long commentCount;
+
+    /**
+     * JPQL 생성자 표현식용 (엔티티 컬럼 타입 그대로)
+     */
+    public PostCounters(Long postId, Long viewCount, Integer likeCount, Integer dislikeCount, Long commentCount) {
+        this(postId, viewCount, (long) likeCount, (long) dislikeCount, commentCount);
+    }
+}
@@ -0,0 +1,24 @@
+package com.board.domain.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCreateRequest {
+
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(min = 2, max = 200, message = "제목은 2~200자 사이여야 합니다.")
+    private String title;
+
+    @NotBlank(message = "내용은 필수입니다.")
+    private String content;
+
+    @NotNull(message = "카테고리는 필수입니다.")
+    private Long categoryId;
+}
@@ -0,0 +1,55 @@
+package com.board.domain.post.dto;
+
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 피드 커서 - (createdAt DESC, id DESC) 정렬 키
+ * - 링과 DB 가 같은 키로 정렬/비교하므로 어느 쪽에서 받은 커서든 다른 쪽에서 그대로 이어진다
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static PostCursor of(PostResponse post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * 클라이언트가 해석하지 않는 불투명 문자열 (URL-safe Base64)
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 2);
+            return new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new BusinessException("잘못된 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 피드 순서에서 post 가 이 커서보다 뒤(더 오래된 글) 인지
+     */
+    public boolean precedes(PostResponse post) {
+        int compared = post.getCreatedAt().compareTo(createdAt);
+        return compared < 0 || (compared == 0 && post.getId() < id);
+    }
+}
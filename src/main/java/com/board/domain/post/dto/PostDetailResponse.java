@@ -0,0 +1,45 @@
+package com.board.domain.post.dto;
+
+import com.board.domain.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetailResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private Long authorId;
+    private String authorNickname;
+    private Long categoryId;
+    private String categoryName;
+    private Long viewCount;
+    private Integer likeCount;
+    private Integer dislikeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PostDetailResponse of(Post post, String content) {
+        return PostDetailResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(content)
+                .authorId(post.getAuthor().getId())
+                .authorNickname(post.getAuthor().getNickname())
+                .categoryId(post.getCategory().getId())
+                .categoryName(post.getCategory().getName())
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .dislikeCount(post.getDislikeCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.board.domain.post.dto;
+
+import com.board.domain.post.entity.BodyEncoding;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 게시글 행 (스칼라 프로젝션 - 영속성 컨텍스트에 올라가지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostExportRow {
+    private final Long id;
+    private final String categoryName;
+    private final String title;
+    private final BodyEncoding encoding;
+    private final Integer originalLength;
+    private final byte[] body;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
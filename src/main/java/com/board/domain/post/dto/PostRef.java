@@ -0,0 +1,14 @@
+package com.board.domain.post.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 처리용 게시글 식별 정보 (본문 로딩 없이 id / 카테고리만)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostRef {
+    private final Long id;
+    private final Long categoryId;
+}
@@ -0,0 +1,57 @@
+package com.board.domain.post.dto;
+
+import com.board.domain.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 항목 (본문 제외)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostResponse {
+    private Long id;
+    private String title;
+    private Long authorId;
+    private String authorNickname;
+    private Long categoryId;
+    private String categoryName;
+    private Long viewCount;
+    private Integer likeCount;
+    private Integer dislikeCount;
+    private Long commentCount;
+    private LocalDateTime createdAt;
+
+    public static PostResponse from(Post post) {
+        return PostResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .authorId(post.getAuthor().getId())
+                .authorNickname(post.getAuthor().getNickname())
+                .categoryId(post.getCategory().getId())
+                .categoryName(post.getCategory().getName())
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .dislikeCount(post.getDislikeCount())
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 카운터 캐시 값으로 교체 (엔티티 컬럼보다 최신일 수 있음)
+     */
+    public PostResponse withCounters(PostCounters counters) {
+        return toBuilder()
+                .viewCount(counters.getViewCount())
+                .likeCount((int) counters.getLikeCount())
+                .dislikeCount((int) counters.getDislikeCount())
+                .commentCount(counters.getCommentCount())
+                .build();
+    }
+}
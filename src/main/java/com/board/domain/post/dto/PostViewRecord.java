@@ -0,0 +1,18 @@
+package com.board.domain.post.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버퍼에 쌓이는 조회 기록 (엔티티를 만들지 않는 경량 불변 객체)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostViewRecord {
+    private final Long postId;
+    private final Long userId;
+    private final String ipAddress;
+    private final LocalDateTime viewedAt;
+}
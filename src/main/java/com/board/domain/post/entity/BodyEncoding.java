@@ -0,0 +1,11 @@
+package com.board.domain.post.entity;
+
+/**
+ * 게시글 본문 저장 형식
+ */
+public enum BodyEncoding {
+    /** UTF-8 그대로 */
+    RAW,
+    /** UTF-8 을 LZ4 블록으로 압축 (복원에 originalLength 필요) */
+    LZ4
+}
@@ -0,0 +1,81 @@
+package com.board.domain.post.entity;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.user.entity.User;
+import com.board.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 - 본문은 목록 조회에서 읽지 않도록 PostBody(post_bodies) 에 따로 저장한다
+ */
+@Entity
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_category_deleted_created", columnList = "category_id, deleted_at, created_at"),
+    @Index(name = "idx_author_deleted", columnList = "author_id, deleted_at"),
+    @Index(name = "idx_category_updated", columnList = "category_id, updated_at"),
+    @Index(name = "idx_updated_at", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Post extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Column(nullable = false)
+    private Long viewCount = 0L;
+
+    @Column(nullable = false)
+    private Integer likeCount = 0;
+
+    @Column(nullable = false)
+    private Integer dislikeCount = 0;
+
+    @Column
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public Post(String title, User author, Category category) {
+        this.title = title;
+        this.author = author;
+        this.category = category;
+        this.viewCount = 0L;
+        this.likeCount = 0;
+        this.dislikeCount = 0;
+    }
+
+    // 비즈니스 메서드
+    public void update(String title) {
+        this.title = title;
+    }
+
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
+    public boolean isAuthor(Long userId) {
+        return this.author.getId().equals(userId);
+    }
+}
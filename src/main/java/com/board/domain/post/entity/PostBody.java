@@ -0,0 +1,63 @@
+package com.board.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 게시글 본문 (posts 와 1:1, PK = 게시글 id)
+ * - 목록/카운터 조회가 본문을 읽지 않도록 별도 테이블에 둔다 (상세 조회에서만 PK 로 조회)
+ * - 인코딩/복원은 PostBodyCodec 이 담당한다
+ * - id 를 직접 넣는 엔티티라 save 가 merge(SELECT 후 INSERT) 로 가지 않도록 Persistable 로 새 엔티티 여부를 알린다
+ */
+@Entity
+@Table(name = "post_bodies")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostBody implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private BodyEncoding encoding;
+
+    /**
+     * 압축 전 UTF-8 바이트 수
+     */
+    @Column(nullable = false)
+    private Integer originalLength;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Transient
+    private boolean isNew = true;
+
+    public PostBody(Long postId, BodyEncoding encoding, int originalLength, byte[] body) {
+        this.id = postId;
+        this.encoding = encoding;
+        this.originalLength = originalLength;
+        this.body = body;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void replace(PostBody other) {
+        this.encoding = other.encoding;
+        this.originalLength = other.originalLength;
+        this.body = other.body;
+    }
+}
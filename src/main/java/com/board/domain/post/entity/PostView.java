@@ -0,0 +1,50 @@
+package com.board.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조회 기록 (append-only)
+ * - 쓰기는 PostViewBuffer 가 JDBC 배치 INSERT 로만 수행하므로 연관관계/FK 없이 ID 컬럼만 둔다
+ * - 수정되지 않는 로그 테이블이므로 BaseEntity(updated_at, version) 를 상속하지 않는다
+ * - 스키마는 Flyway(db/migration) 가 관리한다 (MySQL 은 viewed_at 월 RANGE 파티션, PK = id + viewed_at)
+ */
+@Entity
+@Table(name = "post_views", indexes = {
+    @Index(name = "idx_user_post_viewed", columnList = "user_id, post_id, viewed_at"),
+    @Index(name = "idx_ip_post_viewed", columnList = "ip_address, post_id, viewed_at"),
+    @Index(name = "idx_post_viewed", columnList = "post_id, viewed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostView {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(length = 45)
+    private String ipAddress;
+
+    @Column(nullable = false)
+    private LocalDateTime viewedAt;
+
+    @Builder
+    public PostView(Long postId, Long userId, String ipAddress, LocalDateTime viewedAt) {
+        this.postId = postId;
+        this.userId = userId;
+        this.ipAddress = ipAddress;
+        this.viewedAt = viewedAt;
+    }
+}
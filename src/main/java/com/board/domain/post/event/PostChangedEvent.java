@@ -0,0 +1,26 @@
+package com.board.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 변경 이벤트 - 커밋 이후 캐시 무효화 등 후처리에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;
+    private final Long categoryId;
+    private final ChangeType changeType;
+
+    public boolean isCountChanged() {
+        return changeType != ChangeType.UPDATED;
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,9 @@
+package com.board.domain.post.repository;
+
+import com.board.domain.post.entity.PostBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+}
@@ -0,0 +1,108 @@
+package com.board.domain.post.repository;
+
+import com.board.domain.post.dto.PostCounters;
+import com.board.domain.post.dto.PostRef;
+import com.board.domain.post.entity.Post;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query("SELECT p FROM Post p " +
+           "JOIN FETCH p.author " +
+           "JOIN FETCH p.category " +
+           "WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Post> findActivePostWithDetails(@Param("id") Long id);
+
+    /**
+     * 수정용 조회 - 본문만 바뀌어도 posts 행의 버전(상세 ETag) 이 올라가도록 커밋 시 버전을 강제 증가
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM Post p " +
+           "JOIN FETCH p.author " +
+           "JOIN FETCH p.category " +
+           "WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Post> findActivePostWithDetailsForUpdate(@Param("id") Long id);
+
+    @Query("SELECT p FROM Post p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Post> findActivePostById(@Param("id") Long id);
+
+    /**
+     * 목록 조회 - COUNT 쿼리 없이 size + 1 건만 조회 (카운트는 CountMode 에 따라 별도 계산)
+     */
+    @EntityGraph(attributePaths = {"author", "category"})
+    Slice<Post> findSliceByDeletedAtIsNull(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author", "category"})
+    Slice<Post> findSliceByCategoryIdAndDeletedAtIsNull(Long categoryId, Pageable pageable);
+
+    /**
+     * 카테고리 최신순 피드 첫 구간 (피드 링 적재 / 링 미사용 시 첫 페이지)
+     * - idx_category_deleted_created 인덱스 순서 그대로 읽는다 (InnoDB 보조 인덱스는 PK 를 포함하므로 id 동순위 정렬도 인덱스로 처리)
+     */
+    @EntityGraph(attributePaths = {"author", "category"})
+    @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND p.deletedAt IS NULL " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findLatestByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 커서 이후 구간 (keyset - OFFSET 없이 커서 위치부터)
+     */
+    @EntityGraph(attributePaths = {"author", "category"})
+    @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND p.deletedAt IS NULL " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findLatestByCategoryIdBefore(@Param("categoryId") Long categoryId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    long countByDeletedAtIsNull();
+
+    long countByCategoryIdAndDeletedAtIsNull(Long categoryId);
+
+    /**
+     * 상세 ETag 용 버전 조회 (본문 로딩 없이 PK 조회)
+     */
+    @Query("SELECT p.version FROM Post p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Long> findActiveVersionById(@Param("id") Long id);
+
+    /**
+     * 목록 카운터 일괄 조회 - 댓글 수는 상관 서브쿼리로 같은 쿼리에서 계산
+     */
+    @Query("SELECT new com.board.domain.post.dto.PostCounters(p.id, p.viewCount, p.likeCount, p.dislikeCount, " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL)) " +
+           "FROM Post p WHERE p.id IN :ids")
+    List<PostCounters> findCountersByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 작성자의 활성 게시글을 id 순서로 청크 조회 (keyset - lastId 이후)
+     */
+    @Query("SELECT new com.board.domain.post.dto.PostRef(p.id, p.category.id) FROM Post p " +
+           "WHERE p.author.id = :authorId AND p.id > :lastId AND p.deletedAt IS NULL ORDER BY p.id")
+    List<PostRef> findActiveRefsByAuthorId(@Param("authorId") Long authorId,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
+
+    /**
+     * 일괄 소프트 삭제 - 목록 워터마크/상세 ETag 가 바뀌도록 updatedAt, version 도 함께 갱신
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deletedAt = :now, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int softDeleteAllByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.board.domain.post.repository;
+
+import com.board.domain.post.dto.PostViewRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * post_views 배치 INSERT
+ * - MySQL 은 JDBC URL 의 rewriteBatchedStatements=true 로 multi-row INSERT 로 재작성된다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO post_views (post_id, user_id, ip_address, viewed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<PostViewRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setLong(1, record.getPostId());
+            if (record.getUserId() != null) {
+                ps.setLong(2, record.getUserId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, record.getIpAddress());
+            ps.setTimestamp(4, Timestamp.valueOf(record.getViewedAt()));
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.board.domain.post.service;
+
+import com.board.domain.post.entity.BodyEncoding;
+import com.board.domain.post.entity.PostBody;
+import com.board.global.config.PostBodyProperties;
+import lombok.RequiredArgsConstructor;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 본문 인코딩
+ * - 임계값 이상이고 압축 결과가 실제로 작을 때만 LZ4 로 저장 (이미 압축된 데이터 등은 RAW)
+ * - LZ4 는 압축/해제가 메모리 대역폭 수준으로 빨라 상세 조회 지연에 거의 영향이 없다
+ */
+@Component
+@RequiredArgsConstructor
+public class PostBodyCodec {
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final PostBodyProperties properties;
+
+    public PostBody encode(Long postId, String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= properties.getCompressionThreshold().toBytes()) {
+            LZ4Compressor compressor = LZ4.fastCompressor();
+            byte[] compressed = compressor.compress(raw);
+            if (compressed.length < raw.length) {
+                return new PostBody(postId, BodyEncoding.LZ4, raw.length, compressed);
+            }
+        }
+        return new PostBody(postId, BodyEncoding.RAW, raw.length, raw);
+    }
+
+    public String decode(PostBody postBody) {
+        return decode(postBody.getEncoding(), postBody.getOriginalLength(), postBody.getBody());
+    }
+
+    /**
+     * 엔티티 없이 컬럼 값으로 복원 (프로젝션 조회용)
+     */
+    public String decode(BodyEncoding encoding, int originalLength, byte[] body) {
+        byte[] raw = switch (encoding) {
+            case RAW -> body;
+            case LZ4 -> {
+                LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+                yield decompressor.decompress(body, originalLength);
+            }
+        };
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,46 @@
+package com.board.domain.post.service;
+
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 필터 조합(카테고리)별 정확한 게시글 수 캐시
+ * - PostCountService 와 분리된 빈 - 같은 클래스 안에서 호출하면 프록시를 거치지 않아 @Cacheable 이 적용되지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    public static final String CACHE_NAME = "postCounts";
+
+    private final PostRepository postRepository;
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#categoryId == null ? 'all' : #categoryId", sync = true)
+    public long countExact(Long categoryId) {
+        return categoryId == null
+                ? postRepository.countByDeletedAtIsNull()
+                : postRepository.countByCategoryIdAndDeletedAtIsNull(categoryId);
+    }
+
+    /**
+     * 커밋 이후 캐시 무효화 - 커밋 전에 지우면 동시 조회가 이전 값을 다시 캐시할 수 있음
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CACHE_NAME, key = "#event.categoryId"),
+            @CacheEvict(cacheNames = CACHE_NAME, key = "'all'")
+    })
+    @Order(0)
+    @TransactionalEventListener(condition = "#event.countChanged")
+    public void evict(PostChangedEvent event) {
+        log.debug("게시글 카운트 캐시 무효화: categoryId={}", event.getCategoryId());
+    }
+}
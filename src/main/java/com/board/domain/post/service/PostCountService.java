@@ -0,0 +1,46 @@
+package com.board.domain.post.service;
+
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.global.common.CountMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 목록 전체 개수 계산
+ * - EXACT: COUNT(*) 결과를 필터 조합(카테고리)별로 캐시하고, 작성/삭제 커밋 후 무효화 (PostCountCache)
+ * - ESTIMATED: 카테고리 카운터 컬럼 합산 (COUNT 쿼리 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostCountService {
+
+    private final PostCountCache postCountCache;
+    private final CategoryRepository categoryRepository;
+
+    public long count(Long categoryId, CountMode countMode) {
+        return countMode == CountMode.ESTIMATED
+                ? countEstimated(categoryId)
+                : postCountCache.countExact(categoryId);
+    }
+
+    public long countEstimated(Long categoryId) {
+        if (categoryId == null) {
+            return categoryRepository.sumPostCount();
+        }
+        return categoryRepository.findPostCountById(categoryId).orElse(0L);
+    }
+
+    /**
+     * 작성/삭제 트랜잭션 안에서 카테고리 카운터 증감
+     */
+    @Transactional
+    public void increase(Long categoryId) {
+        categoryRepository.addPostCount(categoryId, 1L);
+    }
+
+    @Transactional
+    public void decrease(Long categoryId) {
+        categoryRepository.addPostCount(categoryId, -1L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.board.domain.post.service;
+
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.domain.post.dto.PostCounters;
+import com.board.domain.post.repository.PostRepository;
+import com.board.global.counter.CounterCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 화면용 게시글 카운터 조회
+ * - 페이지 단위로 모든 게시글의 카운터를 MGET 한 번으로 읽고, 누락분은 IN 쿼리 한 번으로 채운다
+ */
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private static final String NAMESPACE = "post";
+    private static final String VIEWS = "views";
+    private static final String LIKES = "likes";
+    private static final String DISLIKES = "dislikes";
+    private static final String COMMENTS = "comments";
+
+    private final CounterCache counterCache;
+    private final PostRepository postRepository;
+
+    public Map<Long, PostCounters> getCounters(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> values = counterCache.getAll(
+                CounterCache.keys(NAMESPACE, postIds, VIEWS, LIKES, DISLIKES, COMMENTS),
+                this::load);
+
+        Map<Long, PostCounters> counters = new HashMap<>(postIds.size() * 2);
+        for (Long postId : postIds) {
+            counters.put(postId, new PostCounters(
+                    postId,
+                    values.getOrDefault(CounterCache.key(NAMESPACE, postId, VIEWS), 0L),
+                    values.getOrDefault(CounterCache.key(NAMESPACE, postId, LIKES), 0L),
+                    values.getOrDefault(CounterCache.key(NAMESPACE, postId, DISLIKES), 0L),
+                    values.getOrDefault(CounterCache.key(NAMESPACE, postId, COMMENTS), 0L)));
+        }
+        return counters;
+    }
+
+    /**
+     * 댓글 작성/삭제 커밋 이후 댓글 수 무효화
+     */
+    @Order(0)
+    @TransactionalEventListener
+    public void evictCommentCount(CommentChangedEvent event) {
+        counterCache.evict(List.of(CounterCache.key(NAMESPACE, event.getPostId(), COMMENTS)));
+    }
+
+    /**
+     * 누락된 키가 있는 게시글만 모아서 한 번에 조회 (write-back 은 누락된 키만)
+     */
+    private Map<String, Long> load(Set<String> missingKeys) {
+        Set<Long> postIds = missingKeys.stream().map(CounterCache::idOf).collect(Collectors.toSet());
+        Map<String, Long> loaded = new HashMap<>(postIds.size() * 8);
+        for (PostCounters row : postRepository.findCountersByIds(postIds)) {
+            loaded.put(CounterCache.key(NAMESPACE, row.getPostId(), VIEWS), row.getViewCount());
+            loaded.put(CounterCache.key(NAMESPACE, row.getPostId(), LIKES), row.getLikeCount());
+            loaded.put(CounterCache.key(NAMESPACE, row.getPostId(), DISLIKES), row.getDislikeCount());
+            loaded.put(CounterCache.key(NAMESPACE, row.getPostId(), COMMENTS), row.getCommentCount());
+        }
+        return loaded;
+    }
+}
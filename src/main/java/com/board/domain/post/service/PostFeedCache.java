@@ -0,0 +1,235 @@
+package com.board.domain.post.service;
+
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.dto.PostCursor;
+import com.board.domain.post.dto.PostResponse;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.repository.PostRepository;
+import com.board.global.config.PostFeedProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리별 최신 게시글 링 (최신순 고정 크기 창)
+ * - 목록 트래픽 대부분이 카테고리 첫 페이지라서, 최신 capacity 개 요약을 메모리에 두고 SQL 없이 응답한다
+ * - 읽기는 불변 스냅샷을 volatile 로 참조만 하고(락 없음), 변경은 카테고리 단위 락 안에서 새 스냅샷으로 교체
+ * - 기동 시 / 주기적으로 DB 에서 재적재, 그 사이에는 게시글 작성/수정/삭제 커밋 이후 이벤트로 갱신
+ * - 다른 인스턴스의 변경은 post-feed.kafka-sync 가 켜져 있으면 Outbox 토픽으로 곧바로(relay 주기 이내),
+ *   꺼져 있으면 다음 재적재에 반영 - 어느 쪽이든 링이 뒤처지는 시간은 refresh-interval 을 넘지 않는다
+ * - 링으로 답할 수 없는 구간(더 깊은 페이지)은 호출 측이 같은 정렬 키로 DB 에서 이어서 조회
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+
+    /**
+     * 피드 순서 - 최신 글 먼저, 같은 시각이면 id 큰 글 먼저 (PostCursor / DB 쿼리와 동일)
+     */
+    private static final Comparator<PostResponse> FEED_ORDER = Comparator
+            .comparing(PostResponse::getCreatedAt)
+            .thenComparing(PostResponse::getId)
+            .reversed();
+
+    private final PostRepository postRepository;
+    private final CategoryRepository categoryRepository;
+    private final PostFeedProperties properties;
+    private final ConcurrentMap<Long, CategoryFeed> feeds = new ConcurrentHashMap<>();
+    private final Counter ringHits;
+    private final Counter dbFallbacks;
+
+    public PostFeedCache(
+            PostRepository postRepository,
+            CategoryRepository categoryRepository,
+            PostFeedProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.categoryRepository = categoryRepository;
+        this.properties = properties;
+        this.ringHits = meterRegistry.counter("post.feed.requests", "source", "ring");
+        this.dbFallbacks = meterRegistry.counter("post.feed.requests", "source", "db");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshAll();
+    }
+
+    /**
+     * 전체 재적재 - 다른 인스턴스에서 일어난 변경과 새로 생긴 카테고리를 반영
+     * - 실패하면 기존 링을 유지하고 다음 주기에 다시 시도
+     */
+    @Scheduled(
+            fixedDelayString = "${post-feed.refresh-interval:30000}",
+            initialDelayString = "${post-feed.refresh-interval:30000}"
+    )
+    public void refreshAll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            List<Long> categoryIds = categoryRepository.findAllIds();
+            feeds.keySet().retainAll(categoryIds);
+            categoryIds.forEach(categoryId -> feeds.computeIfAbsent(categoryId, CategoryFeed::new).reload());
+        } catch (DataAccessException e) {
+            log.warn("피드 링 재적재 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * cursor 다음부터 최대 limit + 1 건 (다음 페이지 여부 판단용 1건 포함)
+     * @return 링으로 답할 수 없으면 empty - 링에 없는 카테고리, 링 끝을 넘어서는 구간
+     */
+    public Optional<List<PostResponse>> find(Long categoryId, PostCursor cursor, int limit) {
+        CategoryFeed feed = properties.isEnabled() ? feeds.get(categoryId) : null;
+        Optional<List<PostResponse>> found = feed == null ? Optional.empty() : feed.snapshot.find(cursor, limit);
+        (found.isPresent() ? ringHits : dbFallbacks).increment();
+        return found;
+    }
+
+    @Order(0)
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        apply(event);
+    }
+
+    /**
+     * 변경 반영 - 링은 이벤트 내용이 아니라 DB 의 현재 상태로 갱신하므로 같은 이벤트를 여러 번 받아도 안전
+     */
+    public void apply(PostChangedEvent event) {
+        CategoryFeed feed = feeds.get(event.getCategoryId());
+        if (feed == null) {
+            return;
+        }
+        if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+            feed.remove(event.getPostId());
+        } else {
+            feed.upsert(event.getPostId());
+        }
+    }
+
+    private class CategoryFeed {
+
+        private final Long categoryId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+        CategoryFeed(Long categoryId) {
+            this.categoryId = categoryId;
+        }
+
+        void reload() {
+            lock.lock();
+            try {
+                int capacity = properties.getCapacity();
+                List<PostResponse> latest = postRepository
+                        .findLatestByCategoryId(categoryId, PageRequest.of(0, capacity + 1)).stream()
+                        .map(PostResponse::from)
+                        .toList();
+                boolean complete = latest.size() <= capacity;
+                snapshot = new Snapshot(complete ? latest : latest.subList(0, capacity), complete);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 작성/수정 반영 - 조회와 교체를 같은 락 안에서 해서, 늦게 도착한 수정 이벤트가 먼저 처리된 삭제를 되살리지 않게 한다
+         */
+        void upsert(Long postId) {
+            lock.lock();
+            try {
+                Optional<PostResponse> post = postRepository.findActivePostWithDetails(postId).map(PostResponse::from);
+                List<PostResponse> entries = new ArrayList<>(snapshot.entries());
+                entries.removeIf(entry -> entry.getId().equals(postId));
+                boolean complete = snapshot.complete();
+                // 꽉 찬 링의 끝보다 오래된 글은 넣지 않는다 (사이에 링 밖의 글이 있을 수 있음)
+                post.filter(p -> complete || entries.isEmpty()
+                                || FEED_ORDER.compare(p, entries.get(entries.size() - 1)) < 0)
+                        .ifPresent(p -> entries.add(insertionPoint(entries, p), p));
+                if (entries.size() > properties.getCapacity()) {
+                    entries.subList(properties.getCapacity(), entries.size()).clear();
+                    snapshot = new Snapshot(List.copyOf(entries), false);
+                } else {
+                    snapshot = new Snapshot(List.copyOf(entries), complete);
+                }
+            } catch (DataAccessException e) {
+                // 반영하지 못한 링은 버리고 다음 재적재까지 DB 에서 조회
+                feeds.remove(categoryId, this);
+                log.warn("피드 링 갱신 실패: categoryId={}, postId={}", categoryId, postId, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 삭제 반영 - 링이 절반 아래로 줄면 DB 에서 다시 채운다 (전체가 들어있는 링은 그대로)
+         */
+        void remove(Long postId) {
+            lock.lock();
+            try {
+                List<PostResponse> entries = new ArrayList<>(snapshot.entries());
+                if (!entries.removeIf(entry -> entry.getId().equals(postId))) {
+                    return;
+                }
+                snapshot = new Snapshot(List.copyOf(entries), snapshot.complete());
+                if (!snapshot.complete() && entries.size() < properties.getCapacity() / 2) {
+                    reload();
+                }
+            } catch (DataAccessException e) {
+                feeds.remove(categoryId, this);
+                log.warn("피드 링 재적재 실패: categoryId={}", categoryId, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int insertionPoint(List<PostResponse> entries, PostResponse post) {
+            int index = 0;
+            while (index < entries.size() && FEED_ORDER.compare(entries.get(index), post) < 0) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * @param entries  피드 순서로 정렬된 최신 글 (최대 capacity 개)
+     * @param complete 카테고리의 모든 글이 들어있는지 - true 면 링 끝이 곧 피드 끝
+     */
+    private record Snapshot(List<PostResponse> entries, boolean complete) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), false);
+
+        Optional<List<PostResponse>> find(PostCursor cursor, int limit) {
+            int from = 0;
+            if (cursor != null) {
+                while (from < entries.size() && !cursor.precedes(entries.get(from))) {
+                    from++;
+                }
+            }
+            int available = entries.size() - from;
+            if (available > limit) {
+                return Optional.of(entries.subList(from, from + limit + 1));
+            }
+            return complete ? Optional.of(entries.subList(from, entries.size())) : Optional.empty();
+        }
+    }
+}
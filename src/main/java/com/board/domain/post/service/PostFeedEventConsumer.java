@@ -0,0 +1,54 @@
+package com.board.domain.post.service;
+
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.event.PostChangedEvent.ChangeType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 게시글 토픽 -> 피드 링 반영 (다른 인스턴스에서 일어난 작성/수정/삭제)
+ * - groupId 를 인스턴스마다 다르게 해서 모든 인스턴스가 모든 이벤트를 받는다 (기동 이후 이벤트만, 이전 상태는 재적재로)
+ * - 자기 인스턴스의 이벤트도 다시 받지만 링은 DB 현재 상태로 갱신하므로 결과는 같다
+ * - 링에 반영한 다음 목록 버전을 다시 올린다 - 작성 인스턴스가 올린 버전으로 이 인스턴스의 이전 링 내용이
+ *   캐시되었을 수 있으므로 (목록 ETag)
+ * - 처리 실패는 로그만 남긴다 - 다음 재적재가 링을 바로잡는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "post-feed", name = "kafka-sync", havingValue = "true")
+public class PostFeedEventConsumer {
+
+    private final PostFeedCache postFeedCache;
+    private final PostListVersion postListVersion;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "#{@outboxProperties.topicOf(T(com.board.domain.outbox.entity.AggregateType).POST.topicName)}",
+            groupId = "post-feed-${random.uuid}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            }
+    )
+    public void onMessage(String payload) {
+        try {
+            JsonNode event = objectMapper.readTree(payload);
+            long categoryId = event.get("categoryId").asLong();
+            postFeedCache.apply(new PostChangedEvent(
+                    event.get("postId").asLong(),
+                    categoryId,
+                    ChangeType.valueOf(event.get("changeType").asText())));
+            postListVersion.bump(categoryId);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("피드 링 이벤트 처리 실패 - 다음 재적재에 반영: {}", payload, e);
+        }
+    }
+}
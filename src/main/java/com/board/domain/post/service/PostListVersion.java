@@ -0,0 +1,119 @@
+package com.board.domain.post.service;
+
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.global.config.CounterCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 버전 (목록 ETag 용 워터마크) - 범위(전체 / 카테고리)별로 Redis 에 두고 변경마다 INCR
+ * - 목록 ETag 를 버전 하나로 만들 수 있어서 304 판단에 SQL 이 필요 없다 (목록/카운터 조회 전에 판단)
+ * - 게시글 작성/수정/삭제, 댓글 수 변화 커밋 이후 증가 - 링 갱신 / 카운터 무효화보다 뒤에 실행되도록 가장 낮은 순서
+ *   (링 갱신 / 카운터 무효화 리스너는 @Order(0) - 순서가 같으면 실행 순서가 정해지지 않아
+ *   새 버전으로 이전 내용이 캐시될 수 있음)
+ * - 키가 없으면 현재 시각(ms) 으로 시작 - Redis 가 비워져도 이전 ETag 의 버전과 겹치지 않게
+ * - counter.cache.enabled=false (Redis 없는 환경) 면 인스턴스 메모리에 둔다
+ * - Redis 장애 시 current 는 null - 호출 측은 ETag 없이 응답한다
+ */
+@Slf4j
+@Component
+public class PostListVersion {
+
+    private static final String KEY_PREFIX = "posts:list:ver:";
+    private static final String ALL = "all";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterCacheProperties properties;
+    private final ConcurrentMap<String, AtomicLong> localVersions = new ConcurrentHashMap<>();
+    private final Counter errors;
+
+    public PostListVersion(StringRedisTemplate redisTemplate, CounterCacheProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.errors = Counter.builder("post.list.version.errors").register(meterRegistry);
+    }
+
+    /**
+     * @param categoryId null 이면 전체 목록
+     * @return 현재 버전 (Redis 장애 시 null)
+     */
+    public Long current(Long categoryId) {
+        String key = KEY_PREFIX + scope(categoryId);
+        if (!properties.isEnabled()) {
+            return localVersions.computeIfAbsent(key, k -> new AtomicLong(System.currentTimeMillis())).get();
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+                value = redisTemplate.opsForValue().get(key);
+            }
+            return value == null ? null : Long.parseLong(value);
+        } catch (DataAccessException | NumberFormatException e) {
+            errors.increment();
+            log.warn("목록 버전 조회 실패 - ETag 없이 응답: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 카테고리 목록과 전체 목록 버전을 함께 증가 (파이프라인 한 번)
+     * - 실패하면 카운터 캐시 TTL 과 같은 수준으로 늦게 반영된다 (다음 변경에서 다시 증가)
+     */
+    public void bump(Long categoryId) {
+        List<String> keys = categoryId == null
+                ? List.of(KEY_PREFIX + ALL)
+                : List.of(KEY_PREFIX + ALL, KEY_PREFIX + categoryId);
+        if (!properties.isEnabled()) {
+            keys.forEach(key -> localVersions.computeIfAbsent(key, k -> new AtomicLong(System.currentTimeMillis()))
+                    .incrementAndGet());
+            return;
+        }
+        String seed = String.valueOf(System.currentTimeMillis());
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                keys.forEach(key -> {
+                    stringConnection.setNX(key, seed);
+                    stringConnection.incr(key);
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("목록 버전 증가 실패: categoryId={}, {}", categoryId, e.getMessage());
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        bump(event.getCategoryId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        bump(event.getCategoryId());
+    }
+
+    private static String scope(Long categoryId) {
+        return categoryId == null ? ALL : String.valueOf(categoryId);
+    }
+}
@@ -0,0 +1,250 @@
+package com.board.domain.post.service;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.dto.PostCounters;
+import com.board.domain.post.dto.PostCreateRequest;
+import com.board.domain.post.dto.PostCursor;
+import com.board.domain.post.dto.PostDetailResponse;
+import com.board.domain.post.dto.PostResponse;
+import com.board.domain.post.dto.PostUpdateRequest;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.entity.PostBody;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.event.PostChangedEvent.ChangeType;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.common.CountMode;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import com.board.global.util.ETagUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostService {
+
+    private static final String POST_RESOURCE = "post";
+    private static final String POSTS_RESOURCE = "posts";
+    private static final int MAX_FEED_SIZE = 100;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final PostRepository postRepository;
+    private final PostBodyRepository postBodyRepository;
+    private final PostBodyCodec postBodyCodec;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final PostCountService postCountService;
+    private final PostCounterService postCounterService;
+    private final PostFeedCache postFeedCache;
+    private final PostListVersion postListVersion;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 작성
+     */
+    @Transactional
+    public PostDetailResponse createPost(String email, PostCreateRequest request) {
+        User author = getActiveUser(email);
+        Category category = categoryRepository.findById(request.getCategoryId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+
+        Post post = Post.builder()
+                .title(request.getTitle())
+                .author(author)
+                .category(category)
+                .build();
+
+        Post savedPost = postRepository.save(post);
+        postBodyRepository.save(postBodyCodec.encode(savedPost.getId(), request.getContent()));
+        postCountService.increase(category.getId());
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), category.getId(), ChangeType.CREATED));
+        log.info("게시글 작성: postId={}, authorId={}", savedPost.getId(), author.getId());
+
+        return PostDetailResponse.of(savedPost, request.getContent());
+    }
+
+    /**
+     * 게시글 상세 조회 - 본문은 상세 조회에서만 PK 로 따로 읽는다
+     */
+    public PostDetailResponse getPost(Long postId) {
+        Post post = postRepository.findActivePostWithDetails(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        return PostDetailResponse.of(post, getContent(postId));
+    }
+
+    /**
+     * 게시글 목록 조회
+     * - 목록은 COUNT 없이 Slice 로 조회하고, 전체 개수는 CountMode 에 따라 계산
+     * - CountMode.NONE 이면 Slice(다음 페이지 여부만) 를, 그 외에는 Page 를 반환
+     * - 카테고리 최신순 첫 페이지는 피드 링이 덮으면 링에서 응답 (getFeed 와 같은 링)
+     * - SUPPORTS: 링에서 응답할 때는 트랜잭션(커넥션) 을 열지 않는다 - DB 경로는 리포지토리 호출마다 읽기 트랜잭션
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<PostResponse> getPosts(Long categoryId, Pageable pageable, CountMode countMode) {
+        Slice<PostResponse> slice = findLatestFromFeed(categoryId, pageable)
+                .orElseGet(() -> (categoryId == null
+                        ? postRepository.findSliceByDeletedAtIsNull(pageable)
+                        : postRepository.findSliceByCategoryIdAndDeletedAtIsNull(categoryId, pageable))
+                        .map(PostResponse::from));
+        slice = withCounters(slice);
+
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+
+        // 첫 페이지가 다 차지 않으면 개수가 확정되므로 카운트 생략
+        if (pageable.getOffset() == 0 && !slice.hasNext()) {
+            return new PageImpl<>(slice.getContent(), pageable, slice.getNumberOfElements());
+        }
+        return new PageImpl<>(slice.getContent(), pageable, postCountService.count(categoryId, countMode));
+    }
+
+    /**
+     * 카테고리 최신순 피드 (커서 기반)
+     * - 링이 덮는 구간은 메모리에서 바로, 그 밖은 같은 정렬 키의 keyset 쿼리로 이어서 조회
+     * - SUPPORTS: 링에서 응답할 때는 트랜잭션(커넥션) 을 열지 않는다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<PostResponse> getFeed(Long categoryId, String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new BusinessException("피드 크기는 1에서 " + MAX_FEED_SIZE + " 사이여야 합니다.",
+                    ErrorCode.INVALID_INPUT_VALUE);
+        }
+        PostCursor after = cursor == null ? null : PostCursor.decode(cursor);
+        List<PostResponse> rows = postFeedCache.find(categoryId, after, size)
+                .orElseGet(() -> (after == null
+                        ? postRepository.findLatestByCategoryId(categoryId, PageRequest.of(0, size + 1))
+                        : postRepository.findLatestByCategoryIdBefore(
+                                categoryId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size + 1)))
+                        .stream()
+                        .map(PostResponse::from)
+                        .toList());
+
+        boolean hasNext = rows.size() > size;
+        return withCounters(new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext));
+    }
+
+    /**
+     * 게시글 수정
+     */
+    @Transactional
+    public PostDetailResponse updatePost(String email, Long postId, PostUpdateRequest request) {
+        User user = getActiveUser(email);
+        Post post = postRepository.findActivePostWithDetailsForUpdate(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        validateAuthor(post, user);
+
+        post.update(request.getTitle());
+        PostBody body = postBodyCodec.encode(postId, request.getContent());
+        postBodyRepository.findById(postId)
+                .ifPresentOrElse(existing -> existing.replace(body), () -> postBodyRepository.save(body));
+        postRepository.flush();
+        eventPublisher.publishEvent(new PostChangedEvent(postId, post.getCategory().getId(), ChangeType.UPDATED));
+
+        return PostDetailResponse.of(post, request.getContent());
+    }
+
+    /**
+     * 게시글 삭제 (소프트 삭제)
+     */
+    @Transactional
+    public void deletePost(String email, Long postId) {
+        User user = getActiveUser(email);
+        Post post = postRepository.findActivePostById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        validateAuthor(post, user);
+
+        post.delete();
+        postCountService.decrease(post.getCategory().getId());
+        eventPublisher.publishEvent(new PostChangedEvent(postId, post.getCategory().getId(), ChangeType.DELETED));
+        log.info("게시글 삭제: postId={}", postId);
+    }
+
+    /**
+     * 게시글 상세 ETag - 본문을 로딩하지 않고 버전만 조회
+     */
+    public String getPostETag(Long postId) {
+        Long version = postRepository.findActiveVersionById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        return ETagUtils.ofVersion(POST_RESOURCE, postId, version);
+    }
+
+    /**
+     * 게시글 목록 ETag - 목록 버전 + 조회 조건 (SQL 없이 목록 조회 전에 계산)
+     * - 게시글 작성/수정/삭제와 댓글 수 변화가 버전을 올린다 (PostListVersion)
+     * @return 목록 버전을 읽지 못하면 null (ETag 없이 응답)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getPostsETag(Long categoryId, Pageable pageable, CountMode countMode) {
+        Long version = postListVersion.current(categoryId);
+        if (version == null) {
+            return null;
+        }
+        return ETagUtils.ofListVersion(POSTS_RESOURCE, version,
+                categoryId, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString(), countMode);
+    }
+
+    /**
+     * 카테고리 최신순 첫 페이지만 링으로 답한다 - 그 외 정렬/오프셋은 링과 순서를 맞출 수 없음
+     */
+    private Optional<Slice<PostResponse>> findLatestFromFeed(Long categoryId, Pageable pageable) {
+        if (categoryId == null || pageable.getOffset() != 0 || !LATEST_FIRST.equals(pageable.getSort())) {
+            return Optional.empty();
+        }
+        int size = pageable.getPageSize();
+        return postFeedCache.find(categoryId, null, size)
+                .map(rows -> {
+                    boolean hasNext = rows.size() > size;
+                    return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+                });
+    }
+
+    /**
+     * 페이지 전체 카운터를 한 번에 조회해서 반영
+     */
+    private Slice<PostResponse> withCounters(Slice<PostResponse> slice) {
+        Map<Long, PostCounters> counters = postCounterService.getCounters(
+                slice.getContent().stream().map(PostResponse::getId).toList());
+        return slice.map(post -> post.withCounters(counters.getOrDefault(post.getId(), PostCounters.EMPTY)));
+    }
+
+    /**
+     * 본문이 없으면 (이관 전 데이터 등) 빈 문자열
+     */
+    private String getContent(Long postId) {
+        return postBodyRepository.findById(postId)
+                .map(postBodyCodec::decode)
+                .orElse("");
+    }
+
+    private User getActiveUser(String email) {
+        return userRepository.findActiveUserByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private void validateAuthor(Post post, User user) {
+        if (!post.isAuthor(user.getId())) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.board.domain.post.service;
+
+import com.board.domain.post.dto.PostViewRecord;
+import com.board.domain.post.repository.PostViewJdbcRepository;
+import com.board.global.config.PostViewBufferProperties;
+import com.board.global.config.PostViewBufferProperties.OverflowPolicy;
+import com.board.global.util.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 게시글 조회 기록 버퍼
+ * - 요청 스레드는 lock-free 링 버퍼에 넣고 바로 반환하고, 단일 writer 스레드가 배치 INSERT 한다
+ * - batchSize 가 차거나 flushInterval 이 지나면 flush
+ * - 버퍼가 가득 차거나 INSERT 가 실패하면 정책에 따라 버리거나(DROP) 로컬 파일에 기록(SPILL)
+ * - 요청 스레드는 파일 I/O 를 하지 않는다 - 넘친 기록은 overflow 버퍼로 넘기고 spill 은 writer 스레드가 한다
+ * - 웹 서버 graceful shutdown 이후에 종료되어 남은 기록을 모두 flush 한다
+ */
+@Slf4j
+@Component
+public class PostViewBuffer implements SmartLifecycle {
+
+    // WebServerGracefulShutdownLifecycle / WebServerStartStopLifecycle 보다 늦게 stop
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final MpscRingBuffer<PostViewRecord> ringBuffer;
+    private final MpscRingBuffer<PostViewRecord> overflowBuffer;
+    private final PostViewJdbcRepository postViewJdbcRepository;
+    private final PostViewBufferProperties properties;
+    private final Path spillPath;
+
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter insertedCounter;
+    private final Counter malformedCounter;
+    private final Timer flushTimer;
+
+    private final Object spillLock = new Object();
+    private BufferedWriter spillWriter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public PostViewBuffer(
+            PostViewJdbcRepository postViewJdbcRepository,
+            PostViewBufferProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postViewJdbcRepository = postViewJdbcRepository;
+        this.properties = properties;
+        this.ringBuffer = new MpscRingBuffer<>(properties.getCapacity());
+        this.overflowBuffer = new MpscRingBuffer<>(properties.getOverflowCapacity());
+        this.spillPath = Paths.get(properties.getSpillPath());
+
+        this.acceptedCounter = meterRegistry.counter("post_view.buffer.accepted");
+        this.droppedCounter = meterRegistry.counter("post_view.buffer.dropped");
+        this.spilledCounter = meterRegistry.counter("post_view.buffer.spilled");
+        this.insertedCounter = meterRegistry.counter("post_view.buffer.inserted");
+        this.malformedCounter = meterRegistry.counter("post_view.buffer.replay.malformed");
+        this.flushTimer = meterRegistry.timer("post_view.buffer.flush");
+        Gauge.builder("post_view.buffer.size", ringBuffer, MpscRingBuffer::size)
+                .description("flush 대기 중인 조회 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 스레드에서 호출 - 대기하지 않고 I/O 도 하지 않는다
+     * - 버퍼가 가득 차면 SPILL 정책은 overflow 버퍼에 넣어 writer 스레드가 기록하게 하고, 그마저 가득 차면 버린다
+     */
+    public void record(PostViewRecord record) {
+        if (ringBuffer.offer(record)) {
+            acceptedCounter.increment();
+            return;
+        }
+        if (properties.getOverflowPolicy() == OverflowPolicy.SPILL && overflowBuffer.offer(record)) {
+            return;
+        }
+        droppedCounter.increment();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "post-view-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("조회 기록 flush 가 종료 대기 시간을 초과했습니다. 남은 기록: {}", ringBuffer.size());
+        }
+        closeSpillWriter();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    private void runWriter() {
+        replaySpillFile();
+
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<PostViewRecord> batch = new ArrayList<>(batchSize);
+        long batchStartedAt = 0L;
+
+        while (running) {
+            spillOverflow();
+            boolean wasEmpty = batch.isEmpty();
+            int drained = ringBuffer.drain(batch::add, batchSize - batch.size());
+            if (wasEmpty && drained > 0) {
+                batchStartedAt = System.nanoTime();
+            }
+
+            if (batch.size() >= batchSize
+                    || (!batch.isEmpty() && System.nanoTime() - batchStartedAt >= flushIntervalNanos)) {
+                flush(batch);
+            } else if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+
+        // 종료 - 버퍼에 남은 기록을 모두 flush
+        do {
+            ringBuffer.drain(batch::add, batchSize - batch.size());
+            flush(batch);
+        } while (!ringBuffer.isEmpty());
+        spillOverflow();
+        log.info("조회 기록 버퍼 종료 - 남은 기록 flush 완료");
+    }
+
+    private void flush(List<PostViewRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> postViewJdbcRepository.batchInsert(batch));
+            insertedCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.error("조회 기록 배치 INSERT 실패: {}건", batch.size(), e);
+            overflow(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * writer 스레드 - 요청 스레드가 넘긴 기록을 spill 파일에 기록
+     */
+    private void spillOverflow() {
+        if (overflowBuffer.isEmpty()) {
+            return;
+        }
+        List<PostViewRecord> records = new ArrayList<>(overflowBuffer.size());
+        overflowBuffer.drain(records::add, Integer.MAX_VALUE);
+        overflow(records);
+    }
+
+    /**
+     * writer 스레드에서만 호출 (spill 파일 I/O)
+     */
+    private void overflow(List<PostViewRecord> records) {
+        if (properties.getOverflowPolicy() == OverflowPolicy.SPILL && spill(records)) {
+            spilledCounter.increment(records.size());
+            return;
+        }
+        droppedCounter.increment(records.size());
+    }
+
+    private boolean spill(List<PostViewRecord> records) {
+        synchronized (spillLock) {
+            try {
+                if (spillWriter == null) {
+                    Path parent = spillPath.toAbsolutePath().getParent();
+                    if (parent != null) {
+                        Files.createDirectories(parent);
+                    }
+                    spillWriter = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                for (PostViewRecord record : records) {
+                    spillWriter.write(toLine(record));
+                    spillWriter.newLine();
+                }
+                spillWriter.flush();
+                return true;
+            } catch (IOException e) {
+                log.error("조회 기록 spill 실패: {}", spillPath, e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 이전 실행에서 spill 된 기록 재적재
+     * - 배치 INSERT 가 커밋될 때마다 처리한 위치(바이트 오프셋) 를 .offset 파일에 남긴다 - 중간에 실패하면 다음 기동 때 그 위치부터
+     *   (INSERT 커밋과 오프셋 기록 사이에 중단된 경우에만 그 배치 하나가 다시 적재된다)
+     * - 해석할 수 없는 줄은 건너뛰고 센다 - 한 줄 때문에 매 기동마다 같은 곳에서 멈추지 않도록
+     * - 끝까지 적재하면 파일과 오프셋을 삭제
+     */
+    private void replaySpillFile() {
+        Path replayPath = spillPath.resolveSibling(spillPath.getFileName() + ".replay");
+        Path offsetPath = spillPath.resolveSibling(spillPath.getFileName() + ".replay.offset");
+        synchronized (spillLock) {
+            closeSpillWriter();
+            try {
+                if (Files.notExists(replayPath) && Files.exists(spillPath)) {
+                    Files.deleteIfExists(offsetPath);
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                log.error("spill 파일 이동 실패: {}", spillPath, e);
+                return;
+            }
+        }
+        if (Files.notExists(replayPath)) {
+            return;
+        }
+
+        int batchSize = properties.getBatchSize();
+        List<PostViewRecord> batch = new ArrayList<>(batchSize);
+        long replayed = 0;
+        long malformed = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(replayPath))) {
+            long position = Math.min(readOffset(offsetPath), Files.size(replayPath));
+            in.skipNBytes(position);
+
+            ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+            int read;
+            while ((read = readLine(in, line)) > 0) {
+                position += read;
+                String text = line.toString(StandardCharsets.UTF_8).strip();
+                if (!text.isEmpty()) {
+                    PostViewRecord record = parseLine(text);
+                    if (record != null) {
+                        batch.add(record);
+                    } else {
+                        malformed++;
+                    }
+                }
+                if (batch.size() >= batchSize) {
+                    replayed += insertReplayBatch(batch, offsetPath, position);
+                }
+            }
+            if (!batch.isEmpty()) {
+                replayed += insertReplayBatch(batch, offsetPath, position);
+            }
+            Files.delete(replayPath);
+            Files.deleteIfExists(offsetPath);
+            log.info("spill 된 조회 기록 재적재 완료: {}건 (해석 실패 {}건 건너뜀)", replayed, malformed);
+        } catch (IOException | RuntimeException e) {
+            log.error("spill 된 조회 기록 재적재 실패 ({}건 적재 후 중단, 다음 기동 때 이어서): {}", replayed, replayPath, e);
+        }
+    }
+
+    /**
+     * 배치 INSERT 후 처리 위치 기록 - 임시 파일에 쓰고 교체해서 오프셋 파일이 깨지지 않게 한다
+     */
+    private int insertReplayBatch(List<PostViewRecord> batch, Path offsetPath, long position) throws IOException {
+        postViewJdbcRepository.batchInsert(batch);
+        int inserted = batch.size();
+        insertedCounter.increment(inserted);
+        batch.clear();
+
+        Path temp = offsetPath.resolveSibling(offsetPath.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(position), StandardCharsets.UTF_8);
+        Files.move(temp, offsetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return inserted;
+    }
+
+    private static long readOffset(Path offsetPath) throws IOException {
+        if (Files.notExists(offsetPath)) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(Files.readString(offsetPath, StandardCharsets.UTF_8).strip());
+        } catch (NumberFormatException e) {
+            log.warn("spill 재적재 오프셋을 읽을 수 없어 처음부터 적재: {}", offsetPath);
+            return 0L;
+        }
+    }
+
+    /**
+     * 줄바꿈까지 읽어서 line 에 담는다 (줄바꿈 제외)
+     * @return 줄바꿈을 포함해 읽은 바이트 수 (파일 끝이면 0)
+     */
+    private static int readLine(InputStream in, ByteArrayOutputStream line) throws IOException {
+        line.reset();
+        int read = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            read++;
+            if (b == '\n') {
+                break;
+            }
+            line.write(b);
+        }
+        return read;
+    }
+
+    private PostViewRecord parseLine(String line) {
+        try {
+            return fromLine(line);
+        } catch (RuntimeException e) {
+            malformedCounter.increment();
+            log.warn("해석할 수 없는 spill 기록 건너뜀: {}", line);
+            return null;
+        }
+    }
+
+    private void closeSpillWriter() {
+        synchronized (spillLock) {
+            if (spillWriter == null) {
+                return;
+            }
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                log.warn("spill 파일 닫기 실패: {}", spillPath, e);
+            }
+            spillWriter = null;
+        }
+    }
+
+    private static String toLine(PostViewRecord record) {
+        return record.getPostId()
+                + "," + (record.getUserId() != null ? record.getUserId() : "")
+                + "," + (record.getIpAddress() != null ? record.getIpAddress() : "")
+                + "," + record.getViewedAt();
+    }
+
+    private static PostViewRecord fromLine(String line) {
+        String[] fields = line.split(",", -1);
+        return new PostViewRecord(
+                Long.parseLong(fields[0]),
+                fields[1].isEmpty() ? null : Long.parseLong(fields[1]),
+                fields[2].isEmpty() ? null : fields[2],
+                LocalDateTime.parse(fields[3])
+        );
+    }
+}
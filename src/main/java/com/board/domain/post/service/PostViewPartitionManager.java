@@ -0,0 +1,242 @@
+package com.board.domain.post.service;
+
+import com.board.global.config.PostViewPartitionProperties;
+import com.board.global.lock.JobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * post_views 월 파티션 관리
+ * - MySQL: p_future(MAXVALUE) 를 분할해서 앞으로 monthsAhead 개월치 파티션을 미리 만들고,
+ *          보관 기간이 지난 파티션은 gzip CSV 로 아카이브한 뒤 DROP PARTITION (대량 DELETE 없음)
+ * - 그 외(H2 등 파티션 미지원): 같은 기준으로 월 단위 범위 아카이브 후 DELETE
+ * - 조회 쿼리는 viewed_at 범위 조건을 포함해야 파티션 프루닝이 적용된다
+ * - 여러 인스턴스 중 job_locks 잠금을 얻은 한 곳에서만 실행 (DDL / 아카이브 파일이 겹치지 않게)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewPartitionManager {
+
+    private static final String TABLE = "post_views";
+    private static final String LOCK_NAME = "post_views.partition";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String ARCHIVE_COLUMNS = "id, post_id, user_id, ip_address, viewed_at";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostViewPartitionProperties properties;
+    private final JobLock jobLock;
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * 기동 직후 한 번 - 스케줄러 스레드에서 실행해서 아카이브가 길어져도 기동을 막지 않는다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskScheduler.schedule(this::maintain, Instant.now());
+    }
+
+    /**
+     * 파티션 생성/만료 - 실패해도 다음 주기에 다시 시도한다 (이미 처리된 월은 건너뜀)
+     * - 다른 인스턴스가 실행 중이면 건너뜀
+     */
+    @Scheduled(cron = "${post-view.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!jobLock.tryLock(LOCK_NAME, properties.getLockAtMostFor())) {
+                log.info("{} 파티션 관리 건너뜀 - 다른 인스턴스에서 실행 중", TABLE);
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.error("{} 파티션 관리 잠금 획득 실패", TABLE, e);
+            return;
+        }
+        try {
+            maintainLocked();
+        } finally {
+            try {
+                jobLock.unlock(LOCK_NAME);
+            } catch (DataAccessException e) {
+                log.warn("{} 파티션 관리 잠금 해제 실패 - 만료 후 풀림", TABLE, e);
+            }
+        }
+    }
+
+    private void maintainLocked() {
+        YearMonth current = YearMonth.now();
+        YearMonth oldestRetained = current.minusMonths(Math.max(properties.getRetentionMonths(), 1) - 1);
+        try {
+            boolean mySql = isMySql();
+            List<String> partitions = mySql ? findPartitionNames() : List.of();
+            if (partitions.contains(FUTURE_PARTITION)) {
+                createPartitions(partitions, current, current.plusMonths(properties.getMonthsAhead()));
+                dropExpiredPartitions(partitions, oldestRetained);
+            } else {
+                if (mySql) {
+                    log.warn("{} 테이블이 파티션되어 있지 않아 범위 DELETE 로 정리합니다.", TABLE);
+                }
+                purgeExpiredRows(oldestRetained, mySql);
+            }
+        } catch (DataAccessException | IOException | UncheckedIOException e) {
+            log.error("{} 파티션 관리 실패", TABLE, e);
+        }
+    }
+
+    private void createPartitions(List<String> partitions, YearMonth current, YearMonth until) {
+        YearMonth from = partitions.stream()
+                .map(PostViewPartitionManager::toMonth)
+                .filter(month -> month != null)
+                .max(YearMonth::compareTo)
+                .map(latest -> latest.plusMonths(1))
+                .orElse(current);
+        if (from.isAfter(until)) {
+            return;
+        }
+
+        StringJoiner definitions = new StringJoiner(", ");
+        for (YearMonth month = from; !month.isAfter(until); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + partitionName(month)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE
+                + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" + definitions + ")");
+        log.info("{} 파티션 생성: {} ~ {}", TABLE, partitionName(from), partitionName(until));
+    }
+
+    private void dropExpiredPartitions(List<String> partitions, YearMonth oldestRetained) throws IOException {
+        for (String partition : partitions) {
+            YearMonth month = toMonth(partition);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+            // 첫 월 파티션은 그 이전 데이터도 포함하므로 범위가 아니라 파티션 단위로 읽는다
+            long archived = archive(month, "SELECT " + ARCHIVE_COLUMNS + " FROM " + TABLE
+                    + " PARTITION (" + partition + ")", true);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+            log.info("{} 파티션 삭제: {} (아카이브 {}건)", TABLE, partition, archived);
+        }
+    }
+
+    private void purgeExpiredRows(YearMonth oldestRetained, boolean mySql) throws IOException {
+        LocalDateTime cutoff = oldestRetained.atDay(1).atStartOfDay();
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(viewed_at) FROM " + TABLE + " WHERE viewed_at < ?", Timestamp.class, cutoff);
+        if (oldest == null) {
+            return;
+        }
+
+        for (YearMonth month = YearMonth.from(oldest.toLocalDateTime());
+             month.isBefore(oldestRetained);
+             month = month.plusMonths(1)) {
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            long archived = archive(month, "SELECT " + ARCHIVE_COLUMNS + " FROM " + TABLE
+                    + " WHERE viewed_at >= ? AND viewed_at < ?", mySql, from, to);
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM " + TABLE + " WHERE viewed_at >= ? AND viewed_at < ?", from, to);
+            log.info("{} {} 정리: 삭제 {}건 (아카이브 {}건)", TABLE, month, deleted, archived);
+        }
+    }
+
+    /**
+     * 한 달치 기록을 gzip CSV 로 저장 - 임시 파일에 다 쓴 뒤 이동해서 중간에 실패해도 깨진 파일이 남지 않게 한다
+     * @return 아카이브한 건수 (archiveEnabled=false 면 0)
+     */
+    private long archive(YearMonth month, String sql, boolean mySql, Object... args) throws IOException {
+        if (!properties.isArchiveEnabled()) {
+            return 0;
+        }
+
+        Path directory = Paths.get(properties.getArchivePath());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(TABLE + "-" + month.format(MONTH_FORMAT) + ".csv.gz");
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        // MySQL Connector/J 는 fetchSize=Integer.MIN_VALUE 일 때만 결과를 스트리밍한다
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(mySql ? Integer.MIN_VALUE : 1000);
+
+        long[] rows = {0};
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            writer.write(ARCHIVE_COLUMNS.replace(" ", ""));
+            writer.newLine();
+            streaming.query(sql, rs -> {
+                try {
+                    writer.write(rs.getLong("id") + ","
+                            + rs.getLong("post_id") + ","
+                            + nullToEmpty(rs.getObject("user_id")) + ","
+                            + nullToEmpty(rs.getString("ip_address")) + ","
+                            + rs.getTimestamp("viewed_at").toLocalDateTime());
+                    writer.newLine();
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return rows[0];
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                        + " ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, TABLE);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "p" + month.format(MONTH_FORMAT);
+    }
+
+    private static YearMonth toMonth(String partitionName) {
+        if (!partitionName.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(partitionName.substring(1), MONTH_FORMAT);
+    }
+
+    private static String nullToEmpty(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -0,0 +1,25 @@
+package com.board.domain.post.service;
+
+import com.board.domain.post.dto.PostViewRecord;
+import com.board.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class PostViewService {
+
+    private final PostViewBuffer postViewBuffer;
+    private final UserService userService;
+
+    /**
+     * 조회 기록 - 버퍼에 넣고 바로 반환 (INSERT 는 writer 스레드가 배치로 처리)
+     * @param email 비로그인 사용자는 null
+     */
+    public void recordView(Long postId, String email, String ipAddress) {
+        Long userId = email != null ? userService.getUserIdByEmail(email) : null;
+        postViewBuffer.record(new PostViewRecord(postId, userId, ipAddress, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.board.domain.user.dto;
+
+import com.board.domain.user.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 작성자 배지 등 화면 표시용 사용자 요약 (이메일 제외)
+ * - users 캐시(offheap) 에 저장되므로 Serializable
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileResponse implements Serializable {
+    private Long id;
+    private String nickname;
+    private Role role;
+    private LocalDateTime createdAt;
+}
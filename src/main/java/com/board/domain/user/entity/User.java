@@ -1,6 +1,7 @@
 package com.board.domain.user.entity;
 
 import com.board.global.common.BaseEntity;
+import com.board.global.jfr.PasswordHashEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -8,6 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "users", indexes = {
     @Index(name = "idx_email", columnList = "email", unique = true),
@@ -37,6 +40,12 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private Boolean deleted = false;
 
+    /**
+     * 탈퇴 시각 - 보관 기간이 지나면 users_archive 로 이동 (ColdRowArchiver)
+     */
+    @Column
+    private LocalDateTime deletedAt;
+
     @Builder
     public User(String email, String password, String nickname, Role role) {
         this.email = email;
@@ -48,11 +57,27 @@ public class User extends BaseEntity {
 
     // 비즈니스 메서드
     public void encodePassword(PasswordEncoder passwordEncoder) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
         this.password = passwordEncoder.encode(this.password);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(PasswordHashEvent.ENCODE);
+            event.commit();
+        }
     }
 
     public boolean matchPassword(PasswordEncoder passwordEncoder, String rawPassword) {
-        return passwordEncoder.matches(rawPassword, this.password);
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matched = passwordEncoder.matches(rawPassword, this.password);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(PasswordHashEvent.MATCH);
+            event.setMatched(matched);
+            event.commit();
+        }
+        return matched;
     }
 
     public void updateNickname(String nickname) {
@@ -65,10 +90,12 @@ public class User extends BaseEntity {
 
     public void delete() {
         this.deleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 
     public void restore() {
         this.deleted = false;
+        this.deletedAt = null;
     }
 
     public boolean isDeleted() {
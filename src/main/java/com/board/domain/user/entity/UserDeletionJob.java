@@ -0,0 +1,101 @@
+package com.board.domain.user.entity;
+
+import com.board.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 탈퇴 사용자 연쇄 삭제 작업 (체크포인트)
+ * - 단계별로 id 오름차순 청크를 처리하고, 청크 처리와 같은 트랜잭션에서 마지막 처리 id 를 기록한다
+ * - 재기동 후에도 stage + lastProcessedId 부터 이어서 처리한다
+ * - 여러 인스턴스가 같은 작업을 집으면 @Version 충돌로 한쪽 청크가 롤백된다
+ */
+@Entity
+@Table(name = "user_deletion_jobs", indexes = {
+    @Index(name = "idx_stage", columnList = "stage, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDeletionJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Stage stage;
+
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Column(nullable = false)
+    private Long processedCount;
+
+    @Column(nullable = false)
+    private Integer failureCount;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public UserDeletionJob(Long userId) {
+        this.userId = userId;
+        this.stage = Stage.POSTS;
+        this.lastProcessedId = 0L;
+        this.processedCount = 0L;
+        this.failureCount = 0;
+    }
+
+    // 비즈니스 메서드
+    public void checkpoint(Long lastProcessedId, int processed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+    }
+
+    public void nextStage() {
+        this.stage = stage.next();
+        this.lastProcessedId = 0L;
+    }
+
+    /**
+     * 탈퇴 복구 - 남은 청크를 처리하지 않도록 작업을 닫는다
+     */
+    public void cancel() {
+        this.stage = Stage.COMPLETED;
+        this.lastProcessedId = 0L;
+    }
+
+    /**
+     * 복구 후 재탈퇴 - 복구 이후 작성된 게시글/댓글까지 지우도록 첫 단계부터 다시 처리
+     */
+    public void restart() {
+        this.stage = Stage.POSTS;
+        this.lastProcessedId = 0L;
+        this.failureCount = 0;
+        this.lastError = null;
+    }
+
+    public void recordFailure(String error) {
+        this.failureCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public boolean isCompleted() {
+        return stage == Stage.COMPLETED;
+    }
+
+    public enum Stage {
+        POSTS,
+        COMMENTS,
+        COMPLETED;
+
+        Stage next() {
+            return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.board.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 변경 이벤트 - 트랜잭션 안에서 발행되어 Outbox 에 함께 기록된다
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,18 @@
+package com.board.domain.user.repository;
+
+import com.board.domain.user.entity.UserDeletionJob;
+import com.board.domain.user.entity.UserDeletionJob.Stage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+
+    Optional<UserDeletionJob> findFirstByStageNotAndFailureCountLessThanOrderByIdAsc(Stage stage, int maxFailures);
+
+    long countByStageNot(Stage stage);
+
+    Optional<UserDeletionJob> findByUserId(Long userId);
+}
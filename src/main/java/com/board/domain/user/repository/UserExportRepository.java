@@ -0,0 +1,56 @@
+package com.board.domain.user.repository;
+
+import com.board.domain.comment.dto.CommentExportRow;
+import com.board.domain.post.dto.PostExportRow;
+import com.board.global.config.UserExportProperties;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * 계정 데이터 내보내기 스트림 쿼리
+ * - 전진 전용 커서로 fetch size(user.export.fetch-size) 만큼씩 읽는다 - 호출 측이 읽기 전용 트랜잭션 안에서 닫아야 한다
+ * - fetch size 가 설정값이라 @QueryHints 대신 쿼리마다 힌트를 건다 (다른 쿼리/커넥션 설정에는 영향 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserExportRepository {
+
+    private final EntityManager entityManager;
+    private final UserExportProperties properties;
+
+    /**
+     * 작성자의 활성 게시글 + 본문 - 본문이 없는 글(이관 전 데이터 등) 도 포함 (본문 컬럼 null)
+     */
+    public Stream<PostExportRow> streamPostsByAuthorId(Long authorId) {
+        return entityManager.createQuery(
+                        "SELECT new com.board.domain.post.dto.PostExportRow(" +
+                        "p.id, c.name, p.title, b.encoding, b.originalLength, b.body, p.createdAt, p.updatedAt) " +
+                        "FROM Post p JOIN p.category c LEFT JOIN PostBody b ON b.id = p.id " +
+                        "WHERE p.author.id = :authorId AND p.deletedAt IS NULL ORDER BY p.id",
+                        PostExportRow.class)
+                .setParameter("authorId", authorId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * 작성자의 활성 댓글
+     */
+    public Stream<CommentExportRow> streamCommentsByAuthorId(Long authorId) {
+        return entityManager.createQuery(
+                        "SELECT new com.board.domain.comment.dto.CommentExportRow(" +
+                        "c.id, c.post.id, parent.id, c.content, c.createdAt, c.updatedAt) " +
+                        "FROM Comment c LEFT JOIN c.parent parent " +
+                        "WHERE c.author.id = :authorId AND c.deletedAt IS NULL ORDER BY c.id",
+                        CommentExportRow.class)
+                .setParameter("authorId", authorId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
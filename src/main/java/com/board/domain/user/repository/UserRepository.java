@@ -1,11 +1,14 @@
 package com.board.domain.user.repository;
 
+import com.board.domain.user.dto.UserProfileResponse;
 import com.board.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +25,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.deleted = false")
     Optional<User> findActiveUserById(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email AND u.deleted = false")
+    Optional<Long> findActiveUserIdByEmail(@Param("email") String email);
+
+    /**
+     * 요약 프로필 일괄 조회 (엔티티 로딩 없이 DTO 프로젝션)
+     */
+    @Query("SELECT new com.board.domain.user.dto.UserProfileResponse(u.id, u.nickname, u.role, u.createdAt) " +
+           "FROM User u WHERE u.id IN :ids AND u.deleted = false")
+    List<UserProfileResponse> findActiveProfilesByIds(@Param("ids") Collection<Long> ids);
 }
@@ -3,12 +3,15 @@ package com.board.domain.user.service;
 import com.board.domain.user.dto.*;
 import com.board.domain.user.entity.Role;
 import com.board.domain.user.entity.User;
+import com.board.domain.user.event.UserChangedEvent;
 import com.board.domain.user.repository.UserRepository;
 import com.board.global.exception.BusinessException;
 import com.board.global.exception.ErrorCode;
 import com.board.global.security.JwtTokenProvider;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +25,12 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입
      */
+    @Observed(name = "auth.service", contextualName = "auth.sign-up")
     @Transactional
     public UserResponse signUp(SignUpRequest request) {
         // 이메일 중복 체크
@@ -51,7 +56,8 @@ public class AuthService {
 
         // 저장
         User savedUser = userRepository.save(user);
-        log.info("새로운 사용자 가입: {}", savedUser.getEmail());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.ChangeType.CREATED));
+        log.atInfo().addKeyValue("userId", savedUser.getId()).log("새로운 사용자 가입");
 
         return UserResponse.from(savedUser);
     }
@@ -59,6 +65,7 @@ public class AuthService {
     /**
      * 로그인
      */
+    @Observed(name = "auth.service", contextualName = "auth.login")
     @Transactional
     public TokenResponse login(LoginRequest request) {
         // 사용자 조회
@@ -78,7 +85,7 @@ public class AuthService {
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
         Long expiresIn = jwtTokenProvider.getExpiration(accessToken);
 
-        log.info("사용자 로그인: {}", user.getEmail());
+        log.atInfo().addKeyValue("userId", user.getId()).log("사용자 로그인");
 
         return TokenResponse.of(accessToken, refreshToken, expiresIn);
     }
@@ -86,6 +93,7 @@ public class AuthService {
     /**
      * 토큰 재발급
      */
+    @Observed(name = "auth.service", contextualName = "auth.refresh-token")
     @Transactional
     public TokenResponse refreshToken(String refreshToken) {
         // Refresh Token 검증
@@ -108,7 +116,7 @@ public class AuthService {
         String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
         Long expiresIn = jwtTokenProvider.getExpiration(newAccessToken);
 
-        log.info("토큰 재발급: {}", user.getEmail());
+        log.atInfo().addKeyValue("userId", user.getId()).log("토큰 재발급");
 
         return TokenResponse.of(newAccessToken, newRefreshToken, expiresIn);
     }
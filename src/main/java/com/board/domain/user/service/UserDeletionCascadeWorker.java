@@ -0,0 +1,175 @@
+package com.board.domain.user.service;
+
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.comment.dto.CommentRef;
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.post.dto.PostRef;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.entity.UserDeletionJob;
+import com.board.domain.user.entity.UserDeletionJob.Stage;
+import com.board.domain.user.repository.UserDeletionJobRepository;
+import com.board.global.config.UserDeletionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴 사용자의 게시글/댓글 연쇄 소프트 삭제
+ * - 탈퇴 요청은 작업(UserDeletionJob) 만 등록하고 바로 반환하고, 이 워커가 백그라운드에서 처리한다
+ * - 단계별로 id 오름차순 keyset 청크를 짧은 트랜잭션으로 처리하고, 같은 트랜잭션에서 체크포인트를 갱신한다
+ * - 청크 사이에 쉬어서 primary 부하를 제한하고, 한 번 실행의 청크 수도 제한한다
+ */
+@Slf4j
+@Component
+public class UserDeletionCascadeWorker {
+
+    private final UserDeletionJobRepository jobRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserDeletionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer chunkTimer;
+    private final AtomicLong pendingJobs = new AtomicLong();
+
+    public UserDeletionCascadeWorker(
+            UserDeletionJobRepository jobRepository,
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            CategoryRepository categoryRepository,
+            ApplicationEventPublisher eventPublisher,
+            UserDeletionProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.jobRepository = jobRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+
+        this.chunkTimer = meterRegistry.timer("user.deletion.cascade.chunk");
+        Gauge.builder("user.deletion.jobs.pending", pendingJobs, AtomicLong::get)
+                .description("처리 중인 탈퇴 연쇄 삭제 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user.deletion.fixed-delay:5000}")
+    public void run() {
+        try {
+            int chunks = 0;
+            while (chunks < properties.getMaxChunksPerRun() && !Thread.currentThread().isInterrupted()) {
+                Optional<UserDeletionJob> next = jobRepository.findFirstByStageNotAndFailureCountLessThanOrderByIdAsc(
+                        Stage.COMPLETED, properties.getMaxFailures());
+                if (next.isEmpty()) {
+                    break;
+                }
+                processChunk(next.get().getId());
+                chunks++;
+                pause();
+            }
+        } finally {
+            pendingJobs.set(jobRepository.countByStageNot(Stage.COMPLETED));
+        }
+    }
+
+    /**
+     * 현재 단계의 청크 하나를 처리 - 실패하면 실패 횟수만 기록하고 체크포인트는 그대로 둔다
+     */
+    public void processChunk(Long jobId) {
+        try {
+            chunkTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                UserDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+                if (job.isCompleted()) {
+                    return;
+                }
+                int processed = switch (job.getStage()) {
+                    case POSTS -> deletePosts(job);
+                    case COMMENTS -> deleteComments(job);
+                    case COMPLETED -> 0;
+                };
+                if (processed < properties.getChunkSize()) {
+                    job.nextStage();
+                    log.info("탈퇴 연쇄 삭제 단계 완료: userId={}, 다음 단계={}, 누적 {}건",
+                            job.getUserId(), job.getStage(), job.getProcessedCount());
+                }
+                // bulk UPDATE 가 영속성 컨텍스트를 비우므로 명시적으로 병합 (버전 충돌 시 청크 전체 롤백)
+                jobRepository.save(job);
+            }));
+        } catch (RuntimeException e) {
+            log.warn("탈퇴 연쇄 삭제 청크 실패: jobId={}", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                    .ifPresent(job -> job.recordFailure(e.getMessage())));
+        }
+    }
+
+    private int deletePosts(UserDeletionJob job) {
+        List<PostRef> posts = postRepository.findActiveRefsByAuthorId(
+                job.getUserId(), job.getLastProcessedId(), PageRequest.of(0, properties.getChunkSize()));
+        if (posts.isEmpty()) {
+            return 0;
+        }
+
+        postRepository.softDeleteAllByIds(posts.stream().map(PostRef::getId).toList(), LocalDateTime.now());
+        Map<Long, Long> countsByCategory = posts.stream()
+                .collect(Collectors.groupingBy(PostRef::getCategoryId, Collectors.counting()));
+        countsByCategory.forEach((categoryId, count) -> categoryRepository.addPostCount(categoryId, -count));
+        posts.forEach(post -> eventPublisher.publishEvent(
+                new PostChangedEvent(post.getId(), post.getCategoryId(), PostChangedEvent.ChangeType.DELETED)));
+
+        job.checkpoint(posts.get(posts.size() - 1).getId(), posts.size());
+        meterRegistry.counter("user.deletion.cascade.rows", "stage", "posts").increment(posts.size());
+        return posts.size();
+    }
+
+    private int deleteComments(UserDeletionJob job) {
+        List<CommentRef> comments = commentRepository.findActiveRefsByAuthorId(
+                job.getUserId(), job.getLastProcessedId(), PageRequest.of(0, properties.getChunkSize()));
+        if (comments.isEmpty()) {
+            return 0;
+        }
+
+        commentRepository.softDeleteAllByIds(comments.stream().map(CommentRef::getId).toList(), LocalDateTime.now());
+        comments.forEach(comment -> eventPublisher.publishEvent(new CommentChangedEvent(
+                comment.getId(), comment.getPostId(), comment.getCategoryId(),
+                CommentChangedEvent.ChangeType.DELETED, null)));
+
+        job.checkpoint(comments.get(comments.size() - 1).getId(), comments.size());
+        meterRegistry.counter("user.deletion.cascade.rows", "stage", "comments").increment(comments.size());
+        return comments.size();
+    }
+
+    private void pause() {
+        long millis = properties.getPauseBetweenChunks().toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.board.domain.user.service;
+
+import com.board.domain.comment.dto.CommentExportRow;
+import com.board.domain.post.dto.PostExportRow;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserExportRepository;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 계정 데이터 내보내기 (NDJSON - 한 줄에 JSON 하나)
+ * - 게시글/댓글을 커서 스트림으로 fetch size 만큼씩 읽어 바로 응답에 쓴다 (전체를 모으지 않음)
+ * - 스칼라 프로젝션이라 영속성 컨텍스트에 쌓이지 않고, readOnly 트랜잭션이라 flush / 스냅샷도 없다
+ *   -> 행이 10개든 100만 개든 메모리 사용량이 일정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final UserRepository userRepository;
+    private final UserExportRepository userExportRepository;
+    private final PostBodyCodec postBodyCodec;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 확인 후에 출력 스트림을 연다 - 없는 사용자는 응답을 쓰기 전에 일반 에러 응답으로 처리된다
+     */
+    @Transactional(readOnly = true)
+    public void export(String email, ExportTarget target) throws IOException {
+        User user = userRepository.findActiveUserByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        long rows;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target.open(user.getId()))) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이 기본 구분자(공백) 대신 각 줄 끝에 직접 개행
+            generator.setRootValueSeparator(null);
+            writeUser(generator, user);
+            try (Stream<PostExportRow> posts = userExportRepository.streamPostsByAuthorId(user.getId())) {
+                rows = writeAll(generator, posts.iterator(), this::writePost);
+            }
+            try (Stream<CommentExportRow> comments = userExportRepository.streamCommentsByAuthorId(user.getId())) {
+                rows += writeAll(generator, comments.iterator(), this::writeComment);
+            }
+        }
+        log.atInfo().addKeyValue("userId", user.getId()).addKeyValue("rows", rows).log("계정 데이터 내보내기");
+    }
+
+    private <T> long writeAll(JsonGenerator generator, Iterator<T> rows, RowWriter<T> writer) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            writer.write(generator, rows.next());
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private void writeUser(JsonGenerator generator, User user) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "user");
+        generator.writeNumberField("id", user.getId());
+        generator.writeStringField("email", user.getEmail());
+        generator.writeStringField("nickname", user.getNickname());
+        generator.writeObjectField("createdAt", user.getCreatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writePost(JsonGenerator generator, PostExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "post");
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("category", row.getCategoryName());
+        generator.writeStringField("title", row.getTitle());
+        // 본문이 없으면 (이관 전 데이터 등) 빈 문자열 - 상세 조회와 같다
+        generator.writeStringField("content", row.getBody() == null ? ""
+                : postBodyCodec.decode(row.getEncoding(), row.getOriginalLength(), row.getBody()));
+        generator.writeObjectField("createdAt", row.getCreatedAt());
+        generator.writeObjectField("updatedAt", row.getUpdatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeComment(JsonGenerator generator, CommentExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "comment");
+        generator.writeNumberField("id", row.getId());
+        generator.writeNumberField("postId", row.getPostId());
+        if (row.getParentId() != null) {
+            generator.writeNumberField("parentId", row.getParentId());
+        }
+        generator.writeStringField("content", row.getContent());
+        generator.writeObjectField("createdAt", row.getCreatedAt());
+        generator.writeObjectField("updatedAt", row.getUpdatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * 응답 헤더 설정 후 본문 스트림을 여는 쪽 (컨트롤러)
+     */
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open(Long userId) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(JsonGenerator generator, T row) throws IOException;
+    }
+}
@@ -0,0 +1,99 @@
+package com.board.domain.user.service;
+
+import com.board.domain.user.dto.UserProfileResponse;
+import com.board.domain.user.event.UserChangedEvent;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 요약 프로필 일괄 조회
+ * - users 캐시에서 한 번에 getAll, 누락분만 IN 쿼리 한 번으로 채우고 putAll
+ * - @Cacheable 은 키 하나 단위라서 JCache 네이티브 캐시를 직접 사용
+ * - 탈퇴/복구 커밋 이후 해당 사용자 항목 무효화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserProfileService {
+
+    public static final String CACHE_NAME = "users";
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * @return 요청한 id 순서대로 (중복 제거, 없거나 탈퇴한 사용자는 제외)
+     */
+    public List<UserProfileResponse> getProfiles(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BATCH_SIZE + "명입니다.",
+                    ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        javax.cache.Cache<Object, Object> cache = nativeCache();
+        Map<Long, UserProfileResponse> profiles = new HashMap<>(requested.size() * 2);
+        cache.getAll(new LinkedHashSet<>(requested)).forEach((key, value) -> {
+            if (value instanceof UserProfileResponse profile) {
+                profiles.put((Long) key, profile);
+            }
+        });
+
+        List<Long> misses = requested.stream().filter(id -> !profiles.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            Map<Object, Object> loaded = new HashMap<>(misses.size() * 2);
+            for (UserProfileResponse profile : userRepository.findActiveProfilesByIds(misses)) {
+                profiles.put(profile.getId(), profile);
+                loaded.put(profile.getId(), profile);
+            }
+            cache.putAll(loaded);
+        }
+
+        List<UserProfileResponse> result = new ArrayList<>(requested.size());
+        for (Long id : requested) {
+            UserProfileResponse profile = profiles.get(id);
+            if (profile != null) {
+                result.add(profile);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 커밋 이후 무효화 - 커밋 전에 지우면 동시 조회가 이전 상태를 다시 캐시할 수 있음
+     */
+    @TransactionalEventListener
+    public void evict(UserChangedEvent event) {
+        nativeCache().remove(event.getUserId());
+        log.debug("사용자 프로필 캐시 무효화: userId={}", event.getUserId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private javax.cache.Cache<Object, Object> nativeCache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 설정되지 않았습니다: " + CACHE_NAME);
+        }
+        return (javax.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+}
@@ -0,0 +1,93 @@
+package com.board.domain.user.service;
+
+import com.board.domain.archive.entity.ArchiveTable;
+import com.board.domain.archive.repository.ColdRowArchiveRepository;
+import com.board.domain.user.dto.UserResponse;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.entity.UserDeletionJob;
+import com.board.domain.user.event.UserChangedEvent;
+import com.board.domain.user.repository.UserDeletionJobRepository;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final UserDeletionJobRepository userDeletionJobRepository;
+    private final ColdRowArchiveRepository coldRowArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 이메일로 활성 사용자 ID 조회 (엔티티 로딩 없이 ID 만, 캐시)
+     * - sync: 동시 미스는 한 번만 조회 (없는 사용자의 null 은 StampedeProtectedCache 가 저장하지 않음)
+     */
+    @Cacheable(value = "userIds", key = "#email", sync = true)
+    public Long getUserIdByEmail(String email) {
+        return userRepository.findActiveUserIdByEmail(email).orElse(null);
+    }
+
+    /**
+     * 회원 탈퇴 - 사용자만 소프트 삭제하고, 게시글/댓글 연쇄 삭제는 작업으로 등록해 백그라운드에서 처리
+     * - 복구 후 다시 탈퇴하면 (사용자당 작업 하나) 기존 작업을 첫 단계부터 다시 실행한다
+     */
+    @Transactional
+    @CacheEvict(value = "userIds", key = "#email")
+    public void withdraw(String email) {
+        User user = userRepository.findActiveUserByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        user.delete();
+        userDeletionJobRepository.findByUserId(user.getId())
+                .ifPresentOrElse(UserDeletionJob::restart,
+                        () -> userDeletionJobRepository.save(new UserDeletionJob(user.getId())));
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), UserChangedEvent.ChangeType.DELETED));
+        log.info("회원 탈퇴: userId={} (연쇄 삭제 작업 등록)", user.getId());
+    }
+
+    /**
+     * 탈퇴 회원 복구 (관리자)
+     * - 보관 기간이 지나 users_archive 로 옮겨진 경우 원본 테이블로 되돌린 뒤 복구
+     * - 아카이브 이후 같은 이메일로 재가입한 경우 복구할 수 없다
+     * - 연쇄 삭제된 게시글/댓글은 복구하지 않고, 진행 중인 연쇄 삭제 작업은 닫는다
+     *   (워커가 처리 중인 청크는 작업 @Version 충돌로 롤백된다)
+     */
+    @Transactional
+    public UserResponse restore(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseGet(() -> restoreFromArchive(userId));
+
+        if (user.isDeleted()) {
+            user.restore();
+            userDeletionJobRepository.findByUserId(userId).ifPresent(UserDeletionJob::cancel);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId(), UserChangedEvent.ChangeType.UPDATED));
+            log.info("회원 복구: userId={}", userId);
+        }
+        return UserResponse.from(user);
+    }
+
+    private User restoreFromArchive(Long userId) {
+        try {
+            if (!coldRowArchiveRepository.restore(ArchiveTable.USERS, userId)) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        log.info("아카이브된 회원 되돌림: userId={}", userId);
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+}
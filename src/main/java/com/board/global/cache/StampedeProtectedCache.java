@@ -0,0 +1,312 @@
+package com.board.global.cache;
+
+import com.board.global.jfr.CacheLoadEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 캐시 스탬피드 방지 데코레이터 (@Cacheable(sync = true) 경로에서 동작)
+ * - single-flight: 같은 키의 동시 미스는 한 번만 로드하고 나머지는 그 결과를 기다린다
+ * - XFetch: 신선 구간 안에서도 now - delta * beta * ln(rand) >= 만료시각 이면 백그라운드로 미리 갱신
+ *   (delta = 직전 로드 소요 시간, 로드가 느리고 만료가 가까울수록 먼저 갱신될 확률이 높다)
+ * - stale-while-revalidate: TTL 마지막 구간(staleRatio) 의 값은 갱신을 시작하고 staleLoadTimeout 만큼만 기다린 뒤
+ *   늦으면 이전 값을 그대로 응답
+ * - 로더가 null 을 돌려주면 저장하지 않는다 (unless = "#result == null" 과 같은 효과)
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+    private final Cache delegate;
+    private final long freshMillis;
+    private final double beta;
+    private final long staleLoadTimeoutMillis;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final DoubleSupplier random;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loads;
+    private final Counter collapsedLoads;
+    private final Counter earlyRefreshes;
+    private final Counter staleServed;
+    private final Counter loadFailures;
+
+    public StampedeProtectedCache(
+            Cache delegate,
+            Duration ttl,
+            double staleRatio,
+            double beta,
+            Duration staleLoadTimeout,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry,
+            LongSupplier clock,
+            DoubleSupplier random
+    ) {
+        this.delegate = delegate;
+        this.freshMillis = (long) (ttl.toMillis() * (1 - staleRatio));
+        this.beta = beta;
+        this.staleLoadTimeoutMillis = staleLoadTimeout.toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.random = random;
+
+        String name = delegate.getName();
+        this.loads = counter(meterRegistry, "cache.stampede.loads", name);
+        this.collapsedLoads = counter(meterRegistry, "cache.stampede.collapsed", name);
+        this.earlyRefreshes = counter(meterRegistry, "cache.stampede.early_refresh", name);
+        this.staleServed = counter(meterRegistry, "cache.stampede.stale_served", name);
+        this.loadFailures = counter(meterRegistry, "cache.stampede.load_failed", name);
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = lookup(key);
+        return entry == null ? null : new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Entry entry = lookup(key);
+        if (entry == null) {
+            return null;
+        }
+        Object value = entry.value();
+        if (type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " <- " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = lookup(key);
+        if (entry == null) {
+            return (T) awaitLoad(key, valueLoader);
+        }
+
+        long now = clock.getAsLong();
+        if (now < entry.freshUntil()) {
+            if (shouldRefreshEarly(entry, now) && refreshInBackground(key, valueLoader)) {
+                earlyRefreshes.increment();
+            }
+            return (T) entry.value();
+        }
+        return (T) awaitRevalidation(key, valueLoader, entry);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        delegate.put(key, newEntry(value, 0));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, newEntry(value, 0));
+        return existing == null ? null : new SimpleValueWrapper(unwrap(existing.get()).value());
+    }
+
+    /**
+     * 진행 중인 로드 결과가 무효화 이후에 저장되지 않도록 in-flight 표시를 먼저 지운다
+     */
+    @Override
+    public void evict(Object key) {
+        inFlight.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        inFlight.remove(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        inFlight.clear();
+        return delegate.invalidate();
+    }
+
+    /**
+     * XFetch - 만료 시각에 가까울수록, 직전 로드가 오래 걸렸을수록 조기 갱신 확률 증가
+     */
+    private boolean shouldRefreshEarly(Entry entry, long now) {
+        if (entry.computeMillis() <= 0) {
+            return false;
+        }
+        return now - entry.computeMillis() * beta * Math.log(random.getAsDouble()) >= entry.freshUntil();
+    }
+
+    /**
+     * 미스 - 먼저 온 요청이 호출 스레드에서 로드하고, 같은 키의 나머지 요청은 그 결과를 기다린다
+     */
+    private Object awaitLoad(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            collapsedLoads.increment();
+            future = existing;
+        } else {
+            load(key, valueLoader, future);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * stale - 갱신을 시작(또는 진행 중인 갱신에 합류) 하고 잠깐만 기다린 뒤 늦거나 실패하면 이전 값 응답
+     */
+    private Object awaitRevalidation(Object key, Callable<?> valueLoader, Entry stale) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            collapsedLoads.increment();
+            future = existing;
+        } else {
+            submit(key, valueLoader, future, true);
+        }
+        try {
+            return future.get(staleLoadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            staleServed.increment();
+            return stale.value();
+        } catch (ExecutionException e) {
+            staleServed.increment();
+            log.warn("캐시 갱신 실패 - 이전 값 응답: cache={}, key={}", getName(), key, e.getCause());
+            return stale.value();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return stale.value();
+        }
+    }
+
+    /**
+     * @return 새로 갱신을 시작했으면 true (이미 진행 중이거나 갱신 대기열이 가득 찬 경우 false)
+     */
+    private boolean refreshInBackground(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, future) != null) {
+            return false;
+        }
+        return submit(key, valueLoader, future, false);
+    }
+
+    private boolean submit(Object key, Callable<?> valueLoader, CompletableFuture<Object> future, boolean runInCallerIfRejected) {
+        try {
+            refreshExecutor.execute(() -> load(key, valueLoader, future));
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (runInCallerIfRejected) {
+                load(key, valueLoader, future);
+                return true;
+            }
+            inFlight.remove(key, future);
+            future.cancel(false);
+            return false;
+        }
+    }
+
+    private void load(Object key, Callable<?> valueLoader, CompletableFuture<Object> future) {
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            Object value = valueLoader.call();
+            long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            loads.increment();
+            // 로드 중에 evict 되었으면 (in-flight 표시가 사라졌으면) 결과는 돌려주되 저장하지 않는다
+            if (value != null && inFlight.get(key) == future) {
+                delegate.put(key, newEntry(value, Math.max(computeMillis, 1)));
+            }
+            future.complete(value);
+        } catch (Throwable e) {
+            failed = true;
+            loadFailures.increment();
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setCacheName(getName());
+                event.setFailed(failed);
+                event.commit();
+            }
+        }
+    }
+
+    private Entry lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper == null || wrapper.get() == null ? null : unwrap(wrapper.get());
+    }
+
+    private Entry newEntry(Object value, long computeMillis) {
+        return new Entry(value, computeMillis, clock.getAsLong() + freshMillis);
+    }
+
+    /**
+     * 데코레이터 적용 전에 저장된 값은 신선한 것으로 취급
+     */
+    private static Entry unwrap(Object stored) {
+        return stored instanceof Entry entry ? entry : new Entry(stored, 0, Long.MAX_VALUE);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String cacheName) {
+        return Counter.builder(name).tag("cache", cacheName).register(meterRegistry);
+    }
+
+    /**
+     * 실제 캐시에 저장되는 값 (offheap 저장을 위해 Serializable)
+     *
+     * @param computeMillis 값을 만드는 데 걸린 시간 (XFetch delta)
+     * @param freshUntil    이 시각 이후로는 stale
+     */
+    record Entry(Object value, long computeMillis, long freshUntil) implements Serializable {
+    }
+}
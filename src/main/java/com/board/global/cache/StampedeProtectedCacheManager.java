@@ -0,0 +1,94 @@
+package com.board.global.cache;
+
+import com.board.global.config.CacheStampedeProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import javax.cache.configuration.CompleteConfiguration;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 모든 캐시를 StampedeProtectedCache 로 감싸는 CacheManager
+ * - 신선/stale 구간은 ehcache.xml 의 TTL 기준으로 나눈다 (TTL 을 읽지 못하면 defaultTtl)
+ */
+@Slf4j
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheStampedeProperties properties;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(
+            CacheManager delegate,
+            CacheStampedeProperties properties,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> decorate(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private Cache decorate(Cache target) {
+        Duration ttl = resolveTtl(target);
+        log.info("캐시 스탬피드 방지 적용: cache={}, ttl={}", target.getName(), ttl);
+        return new StampedeProtectedCache(
+                target,
+                ttl,
+                properties.getStaleRatio(),
+                properties.getBeta(),
+                properties.getStaleLoadTimeout(),
+                refreshExecutor,
+                meterRegistry,
+                System::currentTimeMillis,
+                () -> ThreadLocalRandom.current().nextDouble()
+        );
+    }
+
+    /**
+     * JCache 설정의 생성 시점 만료 시간 (ehcache.xml 의 ttl)
+     */
+    private Duration resolveTtl(Cache cache) {
+        if (cache.getNativeCache() instanceof javax.cache.Cache<?, ?> jcache) {
+            try {
+                @SuppressWarnings("unchecked")
+                CompleteConfiguration<?, ?> configuration = jcache.getConfiguration(CompleteConfiguration.class);
+                javax.cache.expiry.Duration expiry = configuration.getExpiryPolicyFactory().create().getExpiryForCreation();
+                if (expiry != null && !expiry.isEternal() && !expiry.isZero()) {
+                    return Duration.of(expiry.getDurationAmount(), expiry.getTimeUnit().toChronoUnit());
+                }
+            } catch (RuntimeException e) {
+                log.debug("캐시 TTL 조회 실패 - 기본값 사용: cache={}", cache.getName(), e);
+            }
+        }
+        return properties.getDefaultTtl();
+    }
+}
@@ -0,0 +1,10 @@
+package com.board.global.common;
+
+/**
+ * 페이징 목록의 전체 개수 계산 방식
+ */
+public enum CountMode {
+    EXACT,      // COUNT(*) 결과를 필터 조합별로 캐시, 작성/삭제 시 무효화
+    ESTIMATED,  // 카테고리별 카운터 컬럼 기반 (COUNT 쿼리 없음, 외부 변경 시 오차 가능)
+    NONE        // 전체 개수 없이 다음 페이지 존재 여부만 반환
+}
@@ -0,0 +1,141 @@
+package com.board.global.concurrency;
+
+import com.board.api.response.ErrorResponse;
+import com.board.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 엔드포인트 그룹별 적응형 동시성 제한 (컨트롤러 앞단에서 즉시 503)
+ * - DB 커넥션 풀(10~20) 보다 훨씬 많은 톰캣 스레드가 풀 대기(connection-timeout 30초) 에 묶이기 전에 거절
+ * - 비동기 요청(SSE 등) 은 디스패치가 끝나면 바로 반환하고 지연 샘플로 쓰지 않는다
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final List<Route> routes;
+    private final List<String> excludedPaths;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Counter> rejections = new HashMap<>();
+
+    public ConcurrencyLimitFilter(
+            List<Route> routes,
+            List<String> excludedPaths,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.routes = routes;
+        this.excludedPaths = excludedPaths;
+        this.objectMapper = objectMapper;
+        for (Route route : routes) {
+            GradientConcurrencyLimiter limiter = route.limiter();
+            Gauge.builder("concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                    .tag("group", limiter.getName())
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.in_flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                    .tag("group", limiter.getName())
+                    .register(meterRegistry);
+            rejections.put(limiter.getName(), Counter.builder("concurrency.rejected")
+                    .tag("group", limiter.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        GradientConcurrencyLimiter limiter = resolve(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<GradientConcurrencyLimiter.Permit> acquired = limiter.tryAcquire();
+        if (acquired.isEmpty()) {
+            rejections.get(limiter.getName()).increment();
+            reject(response);
+            return;
+        }
+
+        GradientConcurrencyLimiter.Permit permit = acquired.get();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.dropped();
+            throw e;
+        } finally {
+            if (request.isAsyncStarted()) {
+                permit.ignore();
+            } else if (response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+        }
+    }
+
+    private GradientConcurrencyLimiter resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String excluded : excludedPaths) {
+            if (pathMatcher.match(excluded, path)) {
+                return null;
+            }
+        }
+        for (Route route : routes) {
+            if (route.matches(request.getMethod(), path, pathMatcher)) {
+                return route.limiter();
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVICE_OVERLOADED;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode));
+    }
+
+    /**
+     * @param methods 비어 있으면 모든 메서드
+     */
+    public record Route(Set<String> methods, List<String> paths, GradientConcurrencyLimiter limiter) {
+
+        boolean matches(String method, String path, AntPathMatcher pathMatcher) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (String pattern : paths) {
+                if (pathMatcher.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.board.global.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 기울기(gradient) 기반 적응형 동시성 제한
+ * - 평소 지연(long RTT, 느린 EMA) 과 최근 지연(short RTT, 빠른 EMA) 의 비율로 제한을 조정
+ *   gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ *   newLimit = limit * gradient + sqrt(limit)  (sqrt(limit) 만큼은 대기 여유로 허용)
+ * - 5xx / 예외(커넥션 풀 고갈 등) 는 지연과 무관하게 제한을 backoffRatio 배로 줄인다
+ * - 실제 동시 실행 수가 제한의 절반도 안 되면 제한을 늘리지 않는다 (부하가 없을 때 제한이 무한히 커지는 것 방지)
+ * - 제한을 넘는 요청은 대기시키지 않고 바로 거절
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double rttTolerance,
+            double smoothing,
+            double backoffRatio
+    ) {
+        this(name, initialLimit, minLimit, maxLimit, rttTolerance, smoothing, backoffRatio, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime 지연 측정용 시계 (테스트에서 지연을 직접 정할 때 사용)
+     */
+    GradientConcurrencyLimiter(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double rttTolerance,
+            double smoothing,
+            double backoffRatio,
+            LongSupplier nanoTime
+    ) {
+        this.name = name;
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return 허용되면 실행 완료 시 반드시 호출해야 하는 Permit, 제한 초과면 empty
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) estimatedLimit) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(nanoTime.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSuccess(long rttNanos, int inFlightAtStart) {
+        shortRttNanos = shortRttNanos == 0 ? rttNanos : ema(shortRttNanos, rttNanos, SHORT_WINDOW);
+        longRttNanos = longRttNanos == 0 ? rttNanos : ema(longRttNanos, rttNanos, LONG_WINDOW);
+
+        // 과부하가 지나간 뒤 long RTT 가 높게 남아 있으면 빠르게 끌어내린다
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private synchronized void onDropped() {
+        update(estimatedLimit * backoffRatio);
+    }
+
+    private void update(double limit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    private static double ema(double previous, double sample, double window) {
+        return previous + (sample - previous) / window;
+    }
+
+    public class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 완료 - 지연 샘플 반영
+         */
+        public void success() {
+            if (release()) {
+                onSuccess(nanoTime.getAsLong() - startNanos, inFlightAtStart);
+            }
+        }
+
+        /**
+         * 과부하 신호(5xx / 예외) - 제한 감소
+         */
+        public void dropped() {
+            if (release()) {
+                onDropped();
+            }
+        }
+
+        /**
+         * 지연 샘플로 쓰지 않고 반환만 (비동기 요청 등)
+         */
+        public void ignore() {
+            release();
+        }
+
+        private boolean release() {
+            if (released) {
+                return false;
+            }
+            released = true;
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+}
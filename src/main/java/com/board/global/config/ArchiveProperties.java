@@ -0,0 +1,45 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "archive")
+public class ArchiveProperties {
+
+    /**
+     * 아카이브 작업 실행 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실행 주기
+     */
+    private String cron = "0 30 4 * * *";
+
+    /**
+     * 소프트 삭제 후 원본 테이블에 남겨둘 기간 (이 기간 안에는 일반 복구 가능)
+     */
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * 한 트랜잭션에서 옮길 최대 행 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 배치 사이 대기 시간 (primary 부하 조절)
+     */
+    private Duration pauseBetweenBatches = Duration.ofMillis(100);
+
+    /**
+     * 테이블별 한 번 실행에서 처리할 최대 배치 수
+     */
+    private int maxBatchesPerRun = 200;
+}
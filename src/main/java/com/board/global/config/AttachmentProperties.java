@@ -0,0 +1,24 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "attachment")
+public class AttachmentProperties {
+
+    /**
+     * 첨부파일 저장 루트 디렉터리 (로컬 파일시스템)
+     */
+    private String storagePath = "./data/attachments";
+
+    /**
+     * 파일 하나의 최대 크기 - 넘으면 업로드 중에 중단하고 413
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(20);
+}
@@ -0,0 +1,76 @@
+package com.board.global.config;
+
+import com.board.global.cache.StampedeProtectedCache;
+import com.board.global.cache.StampedeProtectedCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 스탬피드 방지 설정
+ * - Boot 가 만든 cacheManager 빈을 감싼다 (ehcache.xml / JCache 설정은 그대로)
+ * - 감싼 캐시도 기존 cache.* (JCache) 메트릭이 유지되도록 MeterBinder 를 등록
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache.stampede", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheStampedeConfig {
+
+    private static final String CACHE_MANAGER_BEAN_NAME = "cacheManager";
+
+    @Bean
+    public static BeanPostProcessor stampedeProtectedCacheManagerPostProcessor(
+            ObjectProvider<CacheStampedeProperties> propertiesProvider,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (CACHE_MANAGER_BEAN_NAME.equals(beanName)
+                        && bean instanceof CacheManager cacheManager
+                        && !(bean instanceof StampedeProtectedCacheManager)) {
+                    CacheStampedeProperties properties = propertiesProvider.getObject();
+                    return new StampedeProtectedCacheManager(
+                            cacheManager,
+                            properties,
+                            refreshExecutor(properties),
+                            meterRegistryProvider.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public CacheMeterBinderProvider<StampedeProtectedCache> stampedeProtectedCacheMeterBinderProvider() {
+        return (cache, tags) -> cache.getNativeCache() instanceof javax.cache.Cache<?, ?>
+                ? new JCacheMetrics<>((javax.cache.Cache<Object, Object>) cache.getNativeCache(), tags)
+                : null;
+    }
+
+    /**
+     * 데몬 스레드 - 종료 시 진행 중인 갱신은 버려도 된다 (다음 요청이 다시 로드)
+     */
+    private static ThreadPoolExecutor refreshExecutor(CacheStampedeProperties properties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(
+                properties.getRefreshThreads(),
+                properties.getRefreshThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getRefreshQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
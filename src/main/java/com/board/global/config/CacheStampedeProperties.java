@@ -0,0 +1,46 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.stampede")
+public class CacheStampedeProperties {
+
+    /**
+     * false 면 CacheManager 를 감싸지 않는다 (ehcache 동작 그대로)
+     */
+    private boolean enabled = true;
+
+    /**
+     * XFetch 조기 갱신 강도 - 클수록 만료 전에 더 일찍 갱신 (1.0 이 논문 기본값)
+     */
+    private double beta = 1.0;
+
+    /**
+     * ehcache TTL 중 마지막 구간의 비율 - 이 구간의 값은 stale 로 보고 갱신하면서 필요하면 그대로 내려준다
+     */
+    private double staleRatio = 0.2;
+
+    /**
+     * stale 값이 있을 때 갱신 결과를 기다리는 최대 시간 - 넘으면 stale 값 응답 (갱신은 계속 진행)
+     */
+    private Duration staleLoadTimeout = Duration.ofMillis(200);
+
+    /**
+     * ehcache 설정에서 TTL 을 읽지 못한 캐시에 사용할 TTL
+     */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /**
+     * 백그라운드 갱신 스레드 수 / 대기열 크기 (가득 차면 조기 갱신은 건너뜀)
+     */
+    private int refreshThreads = 2;
+    private int refreshQueueCapacity = 256;
+}
@@ -0,0 +1,40 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comment.stream")
+public class CommentStreamProperties {
+
+    /**
+     * 연결별 전송 대기 큐 크기 - 가득 차면 느린 구독자로 보고 연결을 끊는다
+     */
+    private int queueCapacity = 128;
+
+    /**
+     * 연결 최대 유지 시간 (이후 클라이언트가 재연결)
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * 하트비트 전송 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 클라이언트 재연결 대기 시간 (retry 필드)
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+
+    /**
+     * 재연결 시 Last-Event-ID 이후로 다시 보내줄 최대 댓글 수 (queueCapacity 보다 작아야 한다)
+     */
+    private int maxReplay = 50;
+}
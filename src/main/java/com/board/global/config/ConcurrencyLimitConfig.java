@@ -0,0 +1,56 @@
+package com.board.global.config;
+
+import com.board.global.concurrency.ConcurrencyLimitFilter;
+import com.board.global.concurrency.GradientConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 적응형 동시성 제한 설정
+ * - 거절 비용이 가장 싸도록 SQL 집계 필터 바로 뒤, 보안 필터보다 앞에서 실행
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        List<ConcurrencyLimitFilter.Route> routes = properties.getGroups().entrySet().stream()
+                .map(entry -> {
+                    ConcurrencyLimitProperties.Group group = entry.getValue();
+                    return new ConcurrencyLimitFilter.Route(
+                            group.getMethods().stream()
+                                    .map(method -> method.toUpperCase(Locale.ROOT))
+                                    .collect(Collectors.toSet()),
+                            List.copyOf(group.getPaths()),
+                            new GradientConcurrencyLimiter(
+                                    entry.getKey(),
+                                    group.getInitialLimit(),
+                                    group.getMinLimit(),
+                                    group.getMaxLimit(),
+                                    group.getRttTolerance(),
+                                    group.getSmoothing(),
+                                    group.getBackoffRatio()));
+                })
+                .toList();
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(routes, List.copyOf(properties.getExcludedPaths()), objectMapper, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,67 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 적응형 동시성 제한 필터 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 제한하지 않는 경로 (헬스 체크 등)
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/api/health"));
+
+    /**
+     * 엔드포인트 그룹별 제한 - 선언 순서대로 처음 일치하는 그룹 적용, 어느 그룹에도 속하지 않으면 제한 없음
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * 비어 있으면 모든 메서드
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Ant 스타일 경로 패턴
+         */
+        private List<String> paths = new ArrayList<>();
+
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+
+        /**
+         * 평소 지연(long RTT) 대비 허용 배율 - 최근 지연이 이 배율 안이면 제한을 줄이지 않는다
+         */
+        private double rttTolerance = 1.5;
+
+        /**
+         * 새 제한값 반영 비율 (0~1, 작을수록 천천히 변함)
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * 5xx / 예외 발생 시 제한 감소 비율 (AIMD 의 multiplicative decrease)
+         */
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,30 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "counter.cache")
+public class CounterCacheProperties {
+
+    /**
+     * false 면 Redis 를 거치지 않고 항상 DB 에서 읽는다 (Redis 없는 환경/테스트)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis 키 접두사
+     */
+    private String keyPrefix = "counter:";
+
+    /**
+     * DB 에서 채운 값의 유지 시간 - 쓰기 경로가 무효화하지 못한 변경은 이 시간만큼 늦게 반영된다
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
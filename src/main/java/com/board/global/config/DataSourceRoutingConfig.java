@@ -0,0 +1,123 @@
+package com.board.global.config;
+
+import com.board.global.datasource.RecentWriteTracker;
+import com.board.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Primary / Replica 라우팅 DataSource 설정
+ * - datasource.routing.enabled=true 일 때만 활성화 (기본은 spring.datasource 단일 풀)
+ * - primary 는 spring.datasource(.hikari) 설정을, 레플리카는 primary 풀 설정을 복사해서 URL/계정만 바꿔 사용
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String POOL_NAME_PREFIX = "board-";
+
+    private final DataSourceRoutingProperties routingProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(POOL_NAME_PREFIX + ReplicationRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            replicas.put(replica.getName(), createReplicaPool(primaryDataSource, replica, meterRegistry));
+        }
+        bindMetrics(primaryDataSource, meterRegistry);
+
+        return new ReplicationRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                new RecentWriteTracker(routingProperties.getPrimaryStickyWindow()),
+                DataSourceRoutingConfig::currentUsername,
+                routingProperties.getHealthCheckInterval(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻도록 지연시켜야 readOnly 여부로 라우팅할 수 있다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createReplicaPool(
+            HikariDataSource primaryDataSource,
+            DataSourceRoutingProperties.Replica replica,
+            MeterRegistry meterRegistry
+    ) {
+        HikariConfig config = new HikariConfig();
+        primaryDataSource.copyStateTo(config);
+        config.setPoolName(POOL_NAME_PREFIX + replica.getName());
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername());
+        config.setPassword(replica.getPassword());
+        config.setReadOnly(true);
+        // 레플리카가 내려가 있어도 기동은 되도록 초기 연결 검증 생략 (헬스 체크가 라우팅에서 제외)
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(meterRegistry != null ? new MicrometerMetricsTrackerFactory(meterRegistry) : null);
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * 풀별 hikaricp.* 메트릭 (pool 태그로 구분)
+     */
+    private void bindMetrics(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+        if (meterRegistry != null
+                && dataSource.getMetricsTrackerFactory() == null
+                && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
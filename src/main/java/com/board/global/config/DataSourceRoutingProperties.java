@@ -0,0 +1,44 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * readOnly 트랜잭션을 레플리카로 라우팅할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 쓰기 직후 해당 사용자의 읽기를 primary 에 고정하는 시간 (레플리카 복제 지연 대비)
+     */
+    private Duration primaryStickyWindow = Duration.ofSeconds(3);
+
+    /**
+     * 레플리카 헬스 체크 주기
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+    }
+}
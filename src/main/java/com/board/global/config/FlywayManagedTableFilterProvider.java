@@ -0,0 +1,63 @@
+package com.board.global.config;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+import java.util.Set;
+
+/**
+ * Flyway 가 관리하는 테이블을 hibernate ddl-auto(create/drop/update) 대상에서 제외
+ * - ddl-auto=create-drop 인 환경에서도 파티션 테이블이 Hibernate DDL 로 덮어써지지 않도록 한다
+ * - validate 는 그대로 수행해서 엔티티 매핑과 마이그레이션이 어긋나면 기동 시 실패하게 둔다
+ * - post_bodies 는 Flyway 가 만들지만 posts 와 PK 를 공유하므로 제외하지 않는다
+ *   (posts 만 다시 만들어지면 id 가 1 부터 재사용되어 남은 본문 행과 PK 가 충돌한다)
+ */
+public class FlywayManagedTableFilterProvider implements SchemaFilterProvider {
+
+    private static final Set<String> FLYWAY_MANAGED_TABLES = Set.of("post_views", "outbox_events");
+
+    private static final SchemaFilter EXCLUDE_FLYWAY_MANAGED = new SchemaFilter() {
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return !FLYWAY_MANAGED_TABLES.contains(table.getName().toLowerCase());
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return EXCLUDE_FLYWAY_MANAGED;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return EXCLUDE_FLYWAY_MANAGED;
+    }
+
+    @Override
+    public SchemaFilter getTruncatorFilter() {
+        return EXCLUDE_FLYWAY_MANAGED;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return EXCLUDE_FLYWAY_MANAGED;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return SchemaFilter.ALL;
+    }
+}
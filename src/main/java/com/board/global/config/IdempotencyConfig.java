@@ -0,0 +1,50 @@
+package com.board.global.config;
+
+import com.board.global.idempotency.IdempotencyFilter;
+import com.board.global.idempotency.IdempotencyStore;
+import com.board.global.idempotency.LocalIdempotencyStore;
+import com.board.global.idempotency.RedisIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Idempotency-Key 처리 설정
+ * - 필터는 Spring Security 필터 체인 바로 뒤 (사용자별 키 범위, 인증 실패 응답은 저장하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            IdempotencyProperties properties,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper
+    ) {
+        return switch (properties.getStore()) {
+            case REDIS -> new RedisIdempotencyStore(redisTemplateProvider.getObject(), objectMapper);
+            case LOCAL -> new LocalIdempotencyStore(properties.getMaxEntries());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            IdempotencyProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, properties, objectMapper, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,68 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Idempotency-Key 헤더 처리 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 응답 저장소 - LOCAL: 인스턴스 메모리 (단일 인스턴스), REDIS: 인스턴스 간 공유
+     */
+    private StoreType store = StoreType.LOCAL;
+
+    /**
+     * 저장된 응답 유지 시간 (이 시간 안의 재시도는 첫 응답을 재생)
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * 실행 중 표시 유지 시간 (REDIS) - 실행 인스턴스가 죽어도 이 시간 후에는 재시도 가능
+     */
+    private Duration lockTtl = Duration.ofSeconds(30);
+
+    /**
+     * 같은 키의 실행이 끝나기를 기다리는 최대 시간 - 넘으면 409
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 다른 인스턴스가 실행 중일 때 저장소 확인 간격 (REDIS)
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /**
+     * LOCAL 저장소 최대 항목 수 (넘으면 오래된 것부터 제거)
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * 요청 본문 비교(키 재사용 검증) 를 위해 메모리에 읽어 둘 최대 크기
+     * - 넘거나 길이를 모르는(chunked) 요청은 본문을 비교할 수 없으므로 저장/재생 없이 그대로 실행
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    /**
+     * 저장/재생하지 않는 경로 (Ant 패턴) - 토큰 발급 응답은 다른 호출자에게 재생되면 안 된다
+     */
+    private List<String> excludedPaths = List.of("/api/auth/login", "/api/auth/refresh");
+
+    public enum StoreType {
+        LOCAL,
+        REDIS
+    }
+}
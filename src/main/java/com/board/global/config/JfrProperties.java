@@ -0,0 +1,36 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+
+    /**
+     * 녹화 파일을 내려받기 위해 덤프하는 디렉터리
+     */
+    private String dumpDirectory = System.getProperty("java.io.tmpdir") + "/board-jfr";
+
+    /**
+     * 동시에 유지할 수 있는 녹화 수 (닫지 않은 녹화 기준)
+     */
+    private int maxRecordings = 3;
+
+    /**
+     * 녹화 시간 상한 - 요청에 시간이 없거나 더 길면 이 값으로 자동 종료
+     */
+    private Duration maxDuration = Duration.ofMinutes(30);
+
+    /**
+     * 녹화당 디스크 사용량 상한
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+}
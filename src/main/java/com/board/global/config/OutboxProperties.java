@@ -0,0 +1,61 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /**
+     * Kafka 토픽 접두사 - 토픽명은 {prefix}{aggregate}.events (예: board.post.events)
+     */
+    private String topicPrefix = "board.";
+
+    /**
+     * 발행 완료된 이벤트 보관 기간 (이후 삭제)
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    private Relay relay = new Relay();
+
+    @Getter
+    @Setter
+    public static class Relay {
+
+        /**
+         * Kafka 발행 여부 (비활성화해도 Outbox 기록은 계속된다)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 한 번에 잠금/발행할 최대 이벤트 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 이전 발행이 끝난 뒤 다음 발행까지의 간격 (ms) - @Scheduled 에서 직접 참조
+         */
+        private long fixedDelay = 500;
+
+        /**
+         * 기동 후 첫 발행까지의 지연 (ms) - @Scheduled 에서 직접 참조
+         */
+        private long initialDelay = 5000;
+
+        /**
+         * 배치 전체의 브로커 ack 대기 시간
+         */
+        private Duration sendTimeout = Duration.ofSeconds(10);
+    }
+
+    public String topicOf(String aggregateTopicName) {
+        return topicPrefix + aggregateTopicName + ".events";
+    }
+}
@@ -0,0 +1,19 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post-body")
+public class PostBodyProperties {
+
+    /**
+     * 이 크기(UTF-8) 이상인 본문만 LZ4 로 압축 - 짧은 본문은 압축 이득보다 CPU 비용이 크다
+     */
+    private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+}
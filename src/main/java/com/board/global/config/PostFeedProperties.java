@@ -0,0 +1,34 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post-feed")
+public class PostFeedProperties {
+
+    /**
+     * false 면 링 없이 항상 DB 에서 조회
+     */
+    private boolean enabled = true;
+
+    /**
+     * 카테고리별로 메모리에 유지할 최신 게시글 수 - 이 범위 안의 페이지는 SQL 없이 응답
+     */
+    private int capacity = 100;
+
+    /**
+     * 전체 링 재적재 간격 (ms) - 다른 인스턴스의 변경 / 새 카테고리 반영, @Scheduled 에서 직접 참조
+     */
+    private long refreshInterval = 30000;
+
+    /**
+     * Outbox 의 게시글 토픽을 구독해서 다른 인스턴스의 변경을 링에 바로 반영 (outbox.relay.enabled 필요)
+     * - 인스턴스마다 별도 consumer group 으로 모든 이벤트를 받는다
+     */
+    private boolean kafkaSync = false;
+}
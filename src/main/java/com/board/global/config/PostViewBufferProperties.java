@@ -0,0 +1,55 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post-view.buffer")
+public class PostViewBufferProperties {
+
+    /**
+     * 링 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    private int capacity = 65536;
+
+    /**
+     * 버퍼가 가득 찼을 때 writer 스레드의 spill 을 기다리는 기록의 최대 수 (SPILL 정책, 넘치면 버림)
+     */
+    private int overflowCapacity = 8192;
+
+    /**
+     * 한 번에 INSERT 할 최대 건수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 배치가 다 차지 않아도 flush 하는 최대 대기 시간
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 버퍼가 가득 찼거나 INSERT 가 실패했을 때의 처리 방식
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SPILL;
+
+    /**
+     * SPILL 정책일 때 기록할 로컬 파일 (다음 기동 시 재적재 후 삭제)
+     */
+    private String spillPath = "./data/post-view-spill.log";
+
+    /**
+     * 종료 시 남은 기록을 flush 하며 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public enum OverflowPolicy {
+        DROP,
+        SPILL
+    }
+}
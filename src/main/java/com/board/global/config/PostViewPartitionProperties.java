@@ -0,0 +1,50 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post-view.partition")
+public class PostViewPartitionProperties {
+
+    /**
+     * 파티션 생성/만료 작업 실행 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 작업 실행 주기 (기동 직후에도 한 번 실행)
+     */
+    private String cron = "0 0 3 * * *";
+
+    /**
+     * 이번 달 이후로 미리 만들어 둘 월 파티션 수
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * 보관 개월 수 (이번 달 포함) - 이보다 오래된 파티션은 아카이브 후 삭제
+     */
+    private int retentionMonths = 6;
+
+    /**
+     * 삭제 전 gzip CSV 로 아카이브할지 여부 (false 면 바로 삭제)
+     */
+    private boolean archiveEnabled = true;
+
+    /**
+     * 아카이브 파일 저장 디렉터리
+     */
+    private String archivePath = "./data/archive/post-views";
+
+    /**
+     * 인스턴스 간 잠금 최대 유지 시간 - 작업 중 인스턴스가 죽으면 이 시간이 지나야 다른 인스턴스가 실행
+     */
+    private Duration lockAtMostFor = Duration.ofHours(1);
+}
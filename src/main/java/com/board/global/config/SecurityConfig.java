@@ -4,6 +4,7 @@ import com.board.global.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -52,6 +53,12 @@ public class SecurityConfig {
                         "/error",
                         "/docs/**"
                     ).permitAll()
+                    // 댓글 스트림은 로그인 사용자만 (JwtAuthenticationFilter 로 인증)
+                    .requestMatchers(HttpMethod.GET, "/api/v1/posts/*/comments/stream").authenticated()
+                    // 게시글 조회는 비회원도 가능
+                    .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
+                    // 작성자 프로필 일괄 조회도 게시글 목록과 같이 공개
+                    .requestMatchers(HttpMethod.GET, "/api/v1/users").permitAll()
                     // 관리자만 접근 가능
                     .requestMatchers("/api/admin/**").hasRole("ADMIN")
                     // 나머지는 인증 필요
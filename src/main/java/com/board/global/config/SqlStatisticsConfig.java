@@ -0,0 +1,55 @@
+package com.board.global.config;
+
+import com.board.global.sql.SqlCountingDataSource;
+import com.board.global.sql.SqlStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 수 집계 설정
+ * - 애플리케이션이 사용하는 dataSource 빈만 감싼다 (라우팅 모드에서는 LazyConnectionDataSourceProxy 바깥)
+ * - 필터는 보안 필터보다 앞에서 범위를 열어 인증 과정의 쿼리까지 포함한다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql.statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * BeanPostProcessor 는 static 으로 선언해야 다른 빈보다 먼저 등록되면서 설정 클래스를 조기 초기화하지 않는다
+     */
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName)
+                        && bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            SqlStatisticsProperties properties
+    ) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatisticsFilter(meterRegistry, properties.getNPlusOneThreshold()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,23 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sql.statistics")
+public class SqlStatisticsProperties {
+
+    /**
+     * 요청별 SQL 실행 수 집계 (http.server.sql.statements)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 요청에서 같은 문장(정규화 기준) 이 이 횟수 이상 실행되면 N+1 의심으로 기록
+     */
+    private int nPlusOneThreshold = 5;
+}
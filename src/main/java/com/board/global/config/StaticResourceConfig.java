@@ -0,0 +1,42 @@
+package com.board.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+/**
+ * API 문서 정적 리소스 설정
+ * - EncodedResourceResolver: Accept-Encoding 에 맞춰 빌드 시 만든 .br / .gz 를 그대로 응답 (Vary: Accept-Encoding)
+ * - ETag: 응답 본문 해시 (ShallowEtagHeaderFilter) - 내용이 같으면 304
+ * - 문서 HTML 이 css/js 를 버전 없는 고정 URL 로 참조하므로 모두 no-cache 로 재검증 (장기 캐시하면 재배포 후에도 옛 파일이 남는다)
+ * - 동적 JSON 응답 압축은 server.compression 에서 처리 (이미 Content-Encoding 이 있는 응답은 다시 압축하지 않음)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private final StaticResourceProperties properties;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/docs/**")
+                .addResourceLocations(properties.getLocation())
+                .setCacheControl(CacheControl.noCache().cachePublic())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> docsEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/docs/*");
+        return registration;
+    }
+}
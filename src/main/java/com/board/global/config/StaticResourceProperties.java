@@ -0,0 +1,18 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "static-resources.docs")
+public class StaticResourceProperties {
+
+    /**
+     * 문서 리소스 위치 (copyDocs / bootJar 가 사전 압축본을 함께 넣는 곳)
+     */
+    private String location = "classpath:/static/docs/";
+}
@@ -0,0 +1,134 @@
+package com.board.global.config;
+
+import com.board.global.tracing.FileSpanExporter;
+import com.board.global.tracing.ObservedDataSource;
+import com.board.global.tracing.ObservedPasswordEncoder;
+import com.board.global.tracing.ObservedStringRedisTemplate;
+import com.board.global.tracing.RepositoryObservationInterceptor;
+import com.board.global.tracing.TailSamplingSpanExporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * 분산 추적 설정
+ * - 스팬: HTTP 요청(Boot 기본), JWT 필터, @Observed 서비스 메서드, 리포지토리 호출, 커넥션 획득, BCrypt, Redis
+ * - 헤드 샘플링은 100% (management.tracing.sampling.probability) 로 두고 TailSamplingSpanExporter 가 보관 여부를 정한다
+ */
+@Configuration
+public class TracingConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * BeanPostProcessor 는 static 으로 선언한다
+     * - ObservationRegistry 는 첫 호출 시점에 가져온다 (dataSource 생성 중에 메트릭/추적 빈을 끌어오지 않도록)
+     */
+    @Bean
+    public static BeanPostProcessor tracingInstrumentationPostProcessor(
+            ObjectProvider<ObservationRegistry> registryProvider
+    ) {
+        Supplier<ObservationRegistry> registry = SingletonSupplier.of(
+                () -> registryProvider.getIfAvailable(() -> ObservationRegistry.NOOP));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return observeConnectionAcquire(dataSource, registry);
+                }
+                if (bean instanceof PasswordEncoder passwordEncoder
+                        && !(bean instanceof ObservedPasswordEncoder)) {
+                    return new ObservedPasswordEncoder(passwordEncoder, registry);
+                }
+                if (bean instanceof Repository<?, ?> && bean instanceof Advised advised && !advised.isFrozen()) {
+                    String repositoryName = repositoryName(advised, bean);
+                    advised.addAdvice(0, new RepositoryObservationInterceptor(repositoryName, registry));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * @Observed 메서드 계측 (AuthService 등)
+     */
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * Boot 기본 stringRedisTemplate 를 대체한다
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            ObservationRegistry observationRegistry
+    ) {
+        return new ObservedStringRedisTemplate(redisConnectionFactory, observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SpanExporter tailSamplingSpanExporter(TracingProperties properties, MeterRegistry meterRegistry) {
+        return new TailSamplingSpanExporter(
+                new FileSpanExporter(Path.of(properties.getExportFile())),
+                properties.getSlowThreshold(),
+                properties.getNormalSampleRatio(),
+                properties.getMaxPendingTraces(),
+                properties.getPendingTimeout(),
+                meterRegistry);
+    }
+
+    /**
+     * 풀에서 커넥션을 얻는 구간을 감싼다
+     * - 라우팅 모드의 dataSource 는 LazyConnectionDataSourceProxy 라 getConnection 은 프록시만 만들고
+     *   Hikari 대기는 첫 쿼리 시점에 일어난다 → 프록시 뒤의 라우팅 DataSource(primary/레플리카 풀) 를 감싼다
+     * - SQL 집계 프록시가 먼저 감쌌을 수 있으므로 위임 체인을 따라가며 지연 프록시를 찾는다
+     */
+    private static DataSource observeConnectionAcquire(DataSource dataSource, Supplier<ObservationRegistry> registry) {
+        DataSource current = dataSource;
+        while (current instanceof DelegatingDataSource delegating) {
+            if (current instanceof ObservedDataSource) {
+                return dataSource;
+            }
+            if (current instanceof LazyConnectionDataSourceProxy lazyProxy) {
+                DataSource target = lazyProxy.getTargetDataSource();
+                if (target != null && !(target instanceof ObservedDataSource)) {
+                    lazyProxy.setTargetDataSource(new ObservedDataSource(target, registry));
+                }
+                return dataSource;
+            }
+            current = delegating.getTargetDataSource();
+        }
+        return new ObservedDataSource(dataSource, registry);
+    }
+
+    private static String repositoryName(Advised advised, Object bean) {
+        for (Class<?> type : advised.getProxiedInterfaces()) {
+            if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("com.board.")) {
+                return type.getSimpleName();
+            }
+        }
+        return AopUtils.getTargetClass(bean).getSimpleName();
+    }
+}
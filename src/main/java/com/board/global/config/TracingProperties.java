@@ -0,0 +1,45 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    /**
+     * false 면 스팬을 내보내지 않는다 (Observation 자체는 메트릭용으로 계속 동작)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 로컬 루트 스팬이 이 시간 이상 걸린 트레이스는 항상 보관
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * 빠르고 오류 없는 트레이스 중 보관할 비율 (0.0 ~ 1.0)
+     */
+    private double normalSampleRatio = 0.01;
+
+    /**
+     * 판단을 기다리는 트레이스 최대 수 - 넘으면 가장 오래된 트레이스부터 판단해서 내보낸다
+     */
+    private int maxPendingTraces = 10_000;
+
+    /**
+     * 루트 스팬이 끝나지 않은 트레이스를 붙잡아 두는 최대 시간
+     */
+    private Duration pendingTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 보관된 스팬을 JSON Lines 로 쓰는 파일 (로컬 수집기가 읽어 간다)
+     */
+    private String exportFile = "logs/traces.jsonl";
+}
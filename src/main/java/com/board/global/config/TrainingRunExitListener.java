@@ -0,0 +1,34 @@
+package com.board.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * AppCDS 학습 실행 (./gradlew cdsArchive) - 기동이 끝나면 바로 종료해서 JVM 이 아카이브를 덤프하게 한다
+ * - AOT 모드에서는 @ConditionalOnProperty 가 빌드 시점에 고정되므로 실행 시점에 속성을 직접 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainingRunExitListener {
+
+    private static final String TRAINING_RUN_PROPERTY = "startup.training-run";
+
+    private final ApplicationContext applicationContext;
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitAfterStartup() {
+        if (!environment.getProperty(TRAINING_RUN_PROPERTY, Boolean.class, false)) {
+            return;
+        }
+        log.info("CDS 학습 실행 - 기동 완료 후 종료합니다.");
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
@@ -0,0 +1,40 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user.deletion")
+public class UserDeletionProperties {
+
+    /**
+     * 한 트랜잭션에서 처리할 최대 행 수
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 청크 사이 대기 시간 (primary 부하 조절)
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(200);
+
+    /**
+     * 한 번 실행에서 처리할 최대 청크 수 (남은 청크는 다음 실행에서 이어서 처리)
+     */
+    private int maxChunksPerRun = 100;
+
+    /**
+     * 이 횟수만큼 실패한 작업은 더 이상 집지 않는다 (lastError 확인 후 수동 조치)
+     */
+    private int maxFailures = 5;
+
+    /**
+     * 실행 간격 (ms) - @Scheduled 에서 직접 참조
+     */
+    private long fixedDelay = 5000;
+}
@@ -0,0 +1,19 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user.export")
+public class UserExportProperties {
+
+    /**
+     * 내보내기 스트림 쿼리의 JDBC fetch size - 내보내기 쿼리에만 적용된다
+     * - MySQL 은 Integer.MIN_VALUE(-2147483648) 면 행 단위 스트리밍 (useCursorFetch 없이 결과 전체를 메모리에 올리지 않음)
+     */
+    private int fetchSize = 500;
+}
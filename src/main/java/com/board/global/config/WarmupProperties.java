@@ -0,0 +1,40 @@
+package com.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    /**
+     * 기동 직후 JIT 워밍업 실행 여부 (끝날 때까지 readiness 는 REFUSING_TRAFFIC)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 워밍업 최대 시간 - 넘으면 남은 반복을 건너뛰고 트래픽 수신 시작
+     */
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    /**
+     * JWT / JSON 직렬화 반복 횟수 (C2 컴파일 임계치 10k 호출을 넘기도록)
+     */
+    private int iterations = 12000;
+
+    /**
+     * BCrypt 반복 횟수 (1회 수십 ms)
+     */
+    private int passwordIterations = 20;
+
+    /**
+     * 롤백 트랜잭션 안에서 실행할 리포지토리 호출 반복 횟수
+     */
+    private int repositoryIterations = 200;
+}
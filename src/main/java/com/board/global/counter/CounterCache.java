@@ -0,0 +1,169 @@
+package com.board.global.counter;
+
+import com.board.global.config.CounterCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 목록 화면용 카운터 일괄 조회 (Redis MGET -> 누락분 DB 일괄 조회 -> 파이프라인 write-back)
+ * - 한 페이지의 모든 키를 MGET 한 번으로 읽고, 누락된 키만 loader 에 모아서 넘긴다
+ * - loader 결과는 SET EX 파이프라인 한 번으로 되돌려 쓴다 (loader 가 돌려주지 않은 키는 0 으로 캐시)
+ * - Redis 장애 시 전체를 loader 로 읽고 write-back 은 생략 (목록 조회는 실패시키지 않음)
+ */
+@Slf4j
+@Component
+public class CounterCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter errors;
+
+    public CounterCache(StringRedisTemplate redisTemplate, CounterCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.hits = Counter.builder("counter.cache.hits").register(meterRegistry);
+        this.misses = Counter.builder("counter.cache.misses").register(meterRegistry);
+        this.errors = Counter.builder("counter.cache.errors").register(meterRegistry);
+    }
+
+    /**
+     * @param keys   조회할 카운터 키 (접두사 제외)
+     * @param loader 누락된 키 집합 -> 키별 값 (한 번의 IN 쿼리로 구현)
+     * @return 키별 값 (모든 키 포함, 값이 없으면 0)
+     */
+    public Map<String, Long> getAll(Collection<String> keys, Function<Set<String>, Map<String, Long>> loader) {
+        Set<String> requested = new LinkedHashSet<>(keys);
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+        if (!properties.isEnabled()) {
+            return fill(requested, loader.apply(requested));
+        }
+
+        List<String> cached;
+        try {
+            cached = redisTemplate.opsForValue().multiGet(requested.stream().map(this::redisKey).toList());
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("카운터 MGET 실패 - DB 조회로 대체: {}", e.getMessage());
+            return fill(requested, loader.apply(requested));
+        }
+
+        Map<String, Long> result = new HashMap<>(requested.size() * 2);
+        Set<String> missing = new LinkedHashSet<>();
+        int index = 0;
+        for (String key : requested) {
+            Long value = parse(cached == null ? null : cached.get(index++));
+            if (value == null) {
+                missing.add(key);
+            } else {
+                result.put(key, value);
+            }
+        }
+        hits.increment(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        misses.increment(missing.size());
+        Map<String, Long> loaded = fill(missing, loader.apply(missing));
+        result.putAll(loaded);
+        writeBack(loaded);
+        return result;
+    }
+
+    /**
+     * 쓰기 경로에서 커밋 이후 호출 - 다음 조회가 DB 에서 다시 채운다
+     */
+    public void evict(Collection<String> keys) {
+        if (!properties.isEnabled() || keys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(keys.stream().map(this::redisKey).toList());
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("카운터 무효화 실패 (TTL 만료 후 반영): {}", e.getMessage());
+        }
+    }
+
+    private void writeBack(Map<String, Long> values) {
+        long ttlSeconds = properties.getTtl().toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                values.forEach((key, value) -> stringConnection.setEx(redisKey(key), ttlSeconds, String.valueOf(value)));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            errors.increment();
+            log.warn("카운터 write-back 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> fill(Set<String> keys, Map<String, Long> loaded) {
+        Map<String, Long> result = new HashMap<>(keys.size() * 2);
+        for (String key : keys) {
+            result.put(key, loaded.getOrDefault(key, 0L));
+        }
+        return result;
+    }
+
+    private static Long parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String redisKey(String key) {
+        return properties.getKeyPrefix() + key;
+    }
+
+    /**
+     * 여러 엔티티의 카운터 키를 만들 때 사용 (예: post:1:views)
+     */
+    public static List<String> keys(String namespace, Collection<Long> ids, String... fields) {
+        List<String> keys = new ArrayList<>(ids.size() * fields.length);
+        for (Long id : ids) {
+            for (String field : fields) {
+                keys.add(key(namespace, id, field));
+            }
+        }
+        return keys;
+    }
+
+    public static String key(String namespace, Long id, String field) {
+        return namespace + ":" + id + ":" + field;
+    }
+
+    /**
+     * key(namespace, id, field) 로 만든 키에서 id 추출
+     */
+    public static Long idOf(String key) {
+        int start = key.indexOf(':') + 1;
+        int end = key.indexOf(':', start);
+        return Long.parseLong(key.substring(start, end));
+    }
+}
@@ -0,0 +1,52 @@
+package com.board.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각 기록 (read-your-writes)
+ * - 쓰기 커밋 후 stickyWindow 동안은 해당 사용자의 readOnly 트랜잭션도 primary 로 보낸다
+ */
+public class RecentWriteTracker {
+
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final long stickyWindowMillis;
+    private final Clock clock;
+
+    public RecentWriteTracker(Duration stickyWindow) {
+        this(stickyWindow, Clock.systemUTC());
+    }
+
+    public RecentWriteTracker(Duration stickyWindow, Clock clock) {
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        this.clock = clock;
+    }
+
+    public void recordWrite(String user) {
+        if (user != null && stickyWindowMillis > 0) {
+            lastWriteAt.put(user, clock.millis());
+        }
+    }
+
+    public boolean isSticky(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(user);
+        return writtenAt != null && clock.millis() - writtenAt < stickyWindowMillis;
+    }
+
+    /**
+     * 만료된 기록 정리 - 헬스 체크 주기마다 호출
+     */
+    public void purgeExpired() {
+        long now = clock.millis();
+        lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= stickyWindowMillis);
+    }
+
+    public int size() {
+        return lastWriteAt.size();
+    }
+}
@@ -0,0 +1,214 @@
+package com.board.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션을 레플리카로 보내는 라우팅 DataSource
+ * - 트랜잭션의 readOnly 여부는 커넥션 획득 시점에 판단하므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다
+ * - 레플리카는 라운드로빈으로 고르되, 헬스 체크 또는 커넥션 획득에 실패한 레플리카는 제외한다
+ * - 쓰기 커밋 직후에는 해당 사용자의 읽기를 primary 에 고정한다 (RecentWriteTracker)
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final RecentWriteTracker writeTracker;
+    private final Supplier<String> currentUser;
+    private final Duration healthCheckInterval;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routedCounters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicationRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            RecentWriteTracker writeTracker,
+            Supplier<String> currentUser,
+            Duration healthCheckInterval,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = List.copyOf(replicas.keySet());
+        this.writeTracker = writeTracker;
+        this.currentUser = currentUser;
+        this.healthCheckInterval = healthCheckInterval;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (meterRegistry != null) {
+            replicaNames.forEach(name -> Gauge.builder("datasource.routing.replica.healthy",
+                            unhealthyReplicas, set -> set.contains(name) ? 0 : 1)
+                    .tag("replica", name)
+                    .description("레플리카 헬스 상태 (1: 정상, 0: 제외됨)")
+                    .register(meterRegistry));
+        }
+        if (!replicaNames.isEmpty() && !healthCheckInterval.isZero()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "datasource-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (writeTracker.isSticky(currentUser.get())) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String target = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(target)) {
+            return getPrimaryConnection();
+        }
+        try {
+            Connection connection = replicas.get(target).getConnection();
+            countRouted(target);
+            return connection;
+        } catch (SQLException e) {
+            markUnhealthy(target, e);
+            return getPrimaryConnection();
+        }
+    }
+
+    /**
+     * 헬스 체크 - 제외된 레플리카도 다시 검사해서 복구되면 라우팅 대상으로 되돌린다
+     */
+    public void checkReplicas() {
+        for (String name : replicaNames) {
+            try (Connection connection = replicas.get(name).getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    if (unhealthyReplicas.remove(name)) {
+                        log.info("레플리카 복구: {}", name);
+                    }
+                } else {
+                    markUnhealthy(name, null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markUnhealthy(name, e);
+            }
+        }
+        writeTracker.purgeExpired();
+    }
+
+    public boolean isHealthy(String replicaName) {
+        return replicas.containsKey(replicaName) && !unhealthyReplicas.contains(replicaName);
+    }
+
+    @Override
+    public void destroy() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("레플리카 커넥션 풀 종료 실패", e);
+                }
+            }
+        }
+    }
+
+    private Connection getPrimaryConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        countRouted(PRIMARY);
+        registerWriteIfNeeded();
+        return connection;
+    }
+
+    /**
+     * 읽기-쓰기 트랜잭션이 커밋되면 해당 사용자를 primary 에 고정
+     */
+    private void registerWriteIfNeeded() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String user = currentUser.get();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeTracker.recordWrite(user);
+            }
+        });
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaNames.size();
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get(Math.floorMod(cursor.getAndIncrement(), size));
+            if (!unhealthyReplicas.contains(name)) {
+                return name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markUnhealthy(String name, Exception cause) {
+        if (unhealthyReplicas.add(name)) {
+            log.warn("레플리카 라우팅 제외: {} ({})", name, cause != null ? cause.getMessage() : "validation failed");
+        }
+    }
+
+    private void countRouted(String target) {
+        if (meterRegistry == null) {
+            return;
+        }
+        routedCounters.computeIfAbsent(target, key -> Counter.builder("datasource.routing.connections")
+                        .tag("target", key)
+                        .description("라우팅된 커넥션 획득 수")
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -15,6 +15,12 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "C004", "Entity not found"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "Invalid type value"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "Access denied"),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "C007", "Invalid idempotency key"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C008", "Idempotency key reused with a different request"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C009", "Request with the same idempotency key is in progress"),
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "C010", "Server is overloaded, retry later"),
+    RECORDING_NOT_FOUND(HttpStatus.NOT_FOUND, "C011", "Recording not found"),
+    RECORDING_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "C012", "Too many active recordings"),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "User not found"),
@@ -37,7 +43,12 @@ public enum ErrorCode {
 
     // Like
     ALREADY_LIKED(HttpStatus.CONFLICT, "L001", "Already liked"),
-    LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "L002", "Like not found");
+    LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "L002", "Like not found"),
+
+    // Attachment
+    ATTACHMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "F001", "Attachment not found"),
+    ATTACHMENT_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "F002", "Attachment exceeds the maximum size"),
+    INVALID_ATTACHMENT_NAME(HttpStatus.BAD_REQUEST, "F003", "Invalid attachment file name");
 
     private final HttpStatus status;
     private final String code;
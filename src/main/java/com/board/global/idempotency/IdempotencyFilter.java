@@ -0,0 +1,309 @@
+package com.board.global.idempotency;
+
+import com.board.api.response.ErrorResponse;
+import com.board.global.config.IdempotencyProperties;
+import com.board.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청의 첫 응답을 저장하고, 같은 키의 재시도에는 저장된 응답을 재생
+ * - 키 범위: 메서드 + 경로 + 사용자(미인증은 anonymous) + 헤더 값
+ * - 같은 키의 동시 요청은 먼저 온 요청의 실행이 끝나기를 기다린 뒤 그 응답을 재생 (waitTimeout 초과 시 409)
+ * - 같은 키로 본문이 다른 요청은 422
+ * - 5xx / 예외 응답은 저장하지 않는다 (재시도 시 다시 실행)
+ * - 보안 필터 뒤에서 실행되어 인증 실패 응답은 저장되지 않는다
+ * - 본문을 비교할 수 없는 요청(크기 초과 / chunked) 과 토큰 발급 경로는 저장/재생 없이 그대로 실행
+ * - 저장소 장애(Redis 등) 시에는 저장/재생 없이 그대로 실행 (idempotency.store.errors) - 보호 대상 API 까지 500 으로 만들지 않는다
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String ANONYMOUS = "anonymous";
+    private static final List<String> STORED_HEADERS =
+            List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, HttpHeaders.ETAG);
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter replayed;
+    private final Counter waited;
+    private final Counter rejected;
+    private final Counter storeErrors;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            IdempotencyProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.replayed = Counter.builder("idempotency.replayed").register(meterRegistry);
+        this.waited = Counter.builder("idempotency.waited").register(meterRegistry);
+        this.rejected = Counter.builder("idempotency.rejected").register(meterRegistry);
+        this.storeErrors = Counter.builder("idempotency.store.errors").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getExcludedPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        // 본문을 비교할 수 없으면 같은 키의 다른 요청에 응답이 재생될 수 있으므로 멱등 처리하지 않는다
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0 || contentLength > properties.getMaxBodySize().toBytes()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = sha256(String.join("\n",
+                request.getMethod(), request.getRequestURI(), currentPrincipal(), idempotencyKey)
+                .getBytes(StandardCharsets.UTF_8));
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        HttpServletRequest target = new CachedBodyRequest(request, body);
+        String fingerprint = sha256(body);
+
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            IdempotentResponse stored;
+            try {
+                stored = store.find(key);
+            } catch (DataAccessException e) {
+                storeFailed("조회", e);
+                filterChain.doFilter(target, response);
+                return;
+            }
+            if (stored != null) {
+                replay(stored, fingerprint, response);
+                return;
+            }
+
+            CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> existing = inFlight.putIfAbsent(key, execution);
+            if (existing == null) {
+                boolean acquired;
+                try {
+                    acquired = store.tryAcquire(key, properties.getLockTtl());
+                } catch (DataAccessException e) {
+                    inFlight.remove(key, execution);
+                    execution.complete(null);
+                    storeFailed("실행 표시", e);
+                    filterChain.doFilter(target, response);
+                    return;
+                }
+                if (acquired) {
+                    execute(key, fingerprint, target, response, filterChain, execution);
+                    return;
+                }
+                // 다른 인스턴스가 실행 중 - 저장될 때까지 폴링
+                inFlight.remove(key, execution);
+                execution.complete(null);
+                if (!pause(deadline)) {
+                    rejectInProgress(response);
+                    return;
+                }
+                continue;
+            }
+
+            waited.increment();
+            long remaining = deadline - System.nanoTime();
+            try {
+                // 같은 인스턴스의 실행 결과는 저장소를 다시 거치지 않고 재생
+                IdempotentResponse result = existing.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                if (result != null) {
+                    replay(result, fingerprint, response);
+                    return;
+                }
+            } catch (TimeoutException e) {
+                rejectInProgress(response);
+                return;
+            } catch (ExecutionException e) {
+                // 먼저 온 실행 실패 - 저장된 응답이 없으므로 다시 시도
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejectInProgress(response);
+                return;
+            }
+        }
+    }
+
+    private void execute(
+            String key,
+            String fingerprint,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            CompletableFuture<IdempotentResponse> execution
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR && !request.isAsyncStarted()) {
+                result = new IdempotentResponse(
+                        wrapper.getStatus(), storedHeaders(wrapper), wrapper.getContentAsByteArray(), fingerprint);
+                complete(key, result);
+            }
+        } finally {
+            if (result == null) {
+                release(key);
+            }
+            inFlight.remove(key, execution);
+            execution.complete(result);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 응답은 이미 만들어졌으므로 저장 실패는 기록만 한다 (재시도는 다시 실행됨, 실행 표시는 lockTtl 후 만료)
+     */
+    private void complete(String key, IdempotentResponse result) {
+        try {
+            store.complete(key, result, properties.getTtl());
+        } catch (DataAccessException e) {
+            storeFailed("응답 저장", e);
+        }
+    }
+
+    private void release(String key) {
+        try {
+            store.release(key);
+        } catch (DataAccessException e) {
+            storeFailed("실행 표시 해제", e);
+        }
+    }
+
+    private void storeFailed(String operation, DataAccessException e) {
+        storeErrors.increment();
+        log.warn("멱등 저장소 {} 실패 - 저장/재생 없이 처리: {}", operation, e.getMessage());
+    }
+
+    private void replay(IdempotentResponse stored, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!fingerprint.equals(stored.getFingerprint())) {
+            rejected.increment();
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        replayed.increment();
+        response.setStatus(stored.getStatus());
+        stored.getHeaders().forEach(response::setHeader);
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private void rejectInProgress(HttpServletResponse response) throws IOException {
+        rejected.increment();
+        writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    /**
+     * @return 대기 시간이 남아 있으면 pollInterval 만큼 쉬고 true
+     */
+    private boolean pause(long deadline) {
+        if (System.nanoTime() >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode));
+    }
+
+    private static Map<String, String> storedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            String value = name.equals(HttpHeaders.CONTENT_TYPE) ? response.getContentType() : response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return ANONYMOUS;
+        }
+        return authentication.getName();
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.board.global.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 응답 저장소
+ * - 같은 인스턴스의 동시 중복은 IdempotencyFilter 가 직접 기다리게 하고,
+ *   저장소의 실행 중 표시(tryAcquire) 는 인스턴스 간 중복 실행을 막는 데 사용
+ * - 저장소 장애는 DataAccessException 으로 그대로 던진다 (IdempotencyFilter 가 저장/재생 없이 통과시킴)
+ */
+public interface IdempotencyStore {
+
+    IdempotentResponse find(String key);
+
+    /**
+     * 실행 권한 획득 - 다른 인스턴스가 실행 중이면 false
+     */
+    boolean tryAcquire(String key, Duration lockTtl);
+
+    /**
+     * 응답 저장 + 실행 중 표시 해제
+     */
+    void complete(String key, IdempotentResponse response, Duration ttl);
+
+    /**
+     * 응답을 저장하지 않고 실행 중 표시만 해제 (5xx / 예외 - 재시도 허용)
+     */
+    void release(String key);
+}
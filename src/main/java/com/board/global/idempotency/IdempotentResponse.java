@@ -0,0 +1,25 @@
+package com.board.global.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 저장된 첫 응답 (재시도 시 그대로 재생)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentResponse {
+
+    private int status;
+    private Map<String, String> headers;
+    private byte[] body;
+
+    /**
+     * 첫 요청 본문 해시 - 같은 키로 다른 요청을 보내면 422 (본문이 너무 커서 비교하지 않은 경우 null)
+     */
+    private String fingerprint;
+}
@@ -0,0 +1,56 @@
+package com.board.global.idempotency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인스턴스 메모리 저장소 (항목 수 제한, 만료 시각 지난 항목은 조회 시 제거)
+ * - 단일 인스턴스 배포용, 재시도가 다른 인스턴스로 가면 다시 실행된다
+ */
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries;
+
+    public LocalIdempotencyStore(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized IdempotentResponse find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.response();
+    }
+
+    /**
+     * 같은 인스턴스 안의 동시 실행은 필터가 이미 막으므로 항상 true
+     */
+    @Override
+    public boolean tryAcquire(String key, Duration lockTtl) {
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response, Duration ttl) {
+        entries.put(key, new Entry(response, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void release(String key) {
+    }
+
+    private record Entry(IdempotentResponse response, long expiresAt) {
+    }
+}
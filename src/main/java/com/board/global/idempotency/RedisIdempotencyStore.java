@@ -0,0 +1,60 @@
+package com.board.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Redis 저장소 - 인스턴스 간 공유
+ * - idempotency:{key} : 응답 JSON (TTL)
+ * - idempotency:{key}:lock : 실행 중 표시 (SET NX, lockTtl)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String LOCK_SUFFIX = ":lock";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public IdempotentResponse find(String key) {
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, IdempotentResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 멱등 응답 역직렬화 실패 - 무시: key={}", key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String key, Duration lockTtl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key + LOCK_SUFFIX, "1", lockTtl));
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 직렬화 실패 - 저장 생략: key={}", key, e);
+        } finally {
+            release(key);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key + LOCK_SUFFIX);
+    }
+}
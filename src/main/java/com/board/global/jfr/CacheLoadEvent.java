@@ -0,0 +1,27 @@
+package com.board.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 캐시 미스 시 원본 로드 (StampedeProtectedCache)
+ */
+@Name("com.board.CacheLoad")
+@Label("Cache Load")
+@Description("캐시 미스/조기 갱신으로 원본 데이터를 읽은 구간")
+@Category({"Board", "Cache"})
+@StackTrace(false)
+@Setter
+public class CacheLoadEvent extends Event {
+
+    @Label("Cache Name")
+    private String cacheName;
+
+    @Label("Failed")
+    private boolean failed;
+}
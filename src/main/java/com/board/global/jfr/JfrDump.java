@@ -0,0 +1,29 @@
+package com.board.global.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 다운로드 한 번을 위한 녹화 덤프 파일 - 전송이 끝나면 close 로 삭제한다
+ * @param path     덤프마다 새로 만든 임시 파일 (동시 다운로드끼리 덮어쓰지 않음)
+ * @param filename 내려받을 파일 이름
+ */
+@Slf4j
+public record JfrDump(Path path, String filename) implements AutoCloseable {
+
+    public long size() throws IOException {
+        return Files.size(path);
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("JFR 덤프 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
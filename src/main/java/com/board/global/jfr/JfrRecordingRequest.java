@@ -0,0 +1,31 @@
+package com.board.global.jfr;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrRecordingRequest {
+
+    /**
+     * JDK 기본 설정 이름 - default (상시 녹화용, 약 1%) / profile (CPU, 할당 샘플링 강화)
+     */
+    @Pattern(regexp = "default|profile", message = "settings 는 default 또는 profile 이어야 합니다.")
+    private String settings;
+
+    /**
+     * 녹화 시간(초) - 없으면 설정된 상한까지
+     */
+    @Positive(message = "녹화 시간은 양수여야 합니다.")
+    private Long durationSeconds;
+
+    /**
+     * 느린 쿼리 이벤트 임계값(ms) - 없으면 이벤트 기본값(100ms)
+     */
+    @Positive(message = "느린 쿼리 임계값은 양수여야 합니다.")
+    private Long slowQueryThresholdMillis;
+}
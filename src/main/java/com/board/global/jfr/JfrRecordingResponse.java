@@ -0,0 +1,36 @@
+package com.board.global.jfr;
+
+import jdk.jfr.Recording;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class JfrRecordingResponse {
+
+    private Long id;
+    private String name;
+    private String settings;
+    private String state;
+    private Instant startTime;
+    private Instant stopTime;
+    private Long durationSeconds;
+    private Long sizeBytes;
+
+    public static JfrRecordingResponse of(Recording recording, String settings) {
+        Duration duration = recording.getDuration();
+        return JfrRecordingResponse.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .settings(settings)
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .durationSeconds(duration != null ? duration.toSeconds() : null)
+                .sizeBytes(recording.getSize())
+                .build();
+    }
+}
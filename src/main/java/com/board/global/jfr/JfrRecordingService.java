@@ -0,0 +1,148 @@
+package com.board.global.jfr;
+
+import com.board.global.config.JfrProperties;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운영 중 JFR 녹화 시작 / 중지 / 덤프
+ * - 녹화는 항상 디스크 기반이고 시간/크기 상한이 걸린다 (관리자가 중지를 잊어도 자동 종료)
+ * - 애플리케이션 이벤트(com.board.*) 는 JDK 이벤트와 함께 기록되어 CPU/할당 핫스팟과 같은 타임라인에서 볼 수 있다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JfrRecordingService {
+
+    private static final String SLOW_QUERY_EVENT = "com.board.SlowQuery";
+
+    private final JfrProperties properties;
+
+    private final Map<Long, ManagedRecording> recordings = new ConcurrentHashMap<>();
+
+    public synchronized JfrRecordingResponse start(JfrRecordingRequest request) {
+        String settings = request.getSettings() != null ? request.getSettings() : "profile";
+        long active = recordings.values().stream()
+                .filter(managed -> managed.recording().getState() != RecordingState.CLOSED)
+                .count();
+        if (active >= properties.getMaxRecordings()) {
+            throw new BusinessException(ErrorCode.RECORDING_LIMIT_EXCEEDED);
+        }
+
+        Recording recording = new Recording(configuration(settings));
+        recording.setName("board-" + settings);
+        recording.setToDisk(true);
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setDuration(duration(request.getDurationSeconds()));
+        if (request.getSlowQueryThresholdMillis() != null) {
+            recording.enable(SLOW_QUERY_EVENT).withThreshold(Duration.ofMillis(request.getSlowQueryThresholdMillis()));
+        }
+        recording.start();
+
+        recordings.put(recording.getId(), new ManagedRecording(recording, settings));
+        log.atInfo().addKeyValue("recordingId", recording.getId()).addKeyValue("settings", settings)
+                .log("JFR 녹화 시작");
+        return JfrRecordingResponse.of(recording, settings);
+    }
+
+    public List<JfrRecordingResponse> getRecordings() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparing(managed -> managed.recording().getId()))
+                .map(ManagedRecording::toResponse)
+                .toList();
+    }
+
+    public JfrRecordingResponse stop(Long id) {
+        ManagedRecording managed = find(id);
+        if (managed.recording().getState() == RecordingState.RUNNING) {
+            managed.recording().stop();
+            log.atInfo().addKeyValue("recordingId", id).log("JFR 녹화 중지");
+        }
+        return managed.toResponse();
+    }
+
+    /**
+     * 녹화 내용을 새 임시 파일로 덤프 (실행 중이면 지금까지의 내용)
+     * - 호출 측이 전송 후 close 해서 파일을 지운다 - 덤프는 녹화 하나당 최대 maxSize 라 남겨두면 디스크가 찬다
+     */
+    public JfrDump dump(Long id) {
+        ManagedRecording managed = find(id);
+        Path file = null;
+        try {
+            Path directory = Path.of(properties.getDumpDirectory());
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "board-" + id + "-", ".jfr");
+            managed.recording().dump(file);
+            return new JfrDump(file, "board-" + id + ".jfr");
+        } catch (IOException e) {
+            if (file != null) {
+                new JfrDump(file, file.getFileName().toString()).close();
+            }
+            throw new UncheckedIOException("JFR 녹화 덤프 실패: " + id, e);
+        }
+    }
+
+    public void delete(Long id) {
+        ManagedRecording managed = recordings.remove(id);
+        if (managed == null) {
+            throw new BusinessException(ErrorCode.RECORDING_NOT_FOUND);
+        }
+        managed.recording().close();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        recordings.values().forEach(managed -> managed.recording().close());
+        recordings.clear();
+    }
+
+    private ManagedRecording find(Long id) {
+        ManagedRecording managed = recordings.get(id);
+        if (managed == null || managed.recording().getState() == RecordingState.CLOSED) {
+            throw new BusinessException(ErrorCode.RECORDING_NOT_FOUND);
+        }
+        return managed;
+    }
+
+    private Duration duration(Long durationSeconds) {
+        Duration max = properties.getMaxDuration();
+        if (durationSeconds == null) {
+            return max;
+        }
+        Duration requested = Duration.ofSeconds(durationSeconds);
+        return requested.compareTo(max) > 0 ? max : requested;
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new BusinessException("JFR 설정을 읽을 수 없습니다: " + settings, ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private record ManagedRecording(Recording recording, String settings) {
+
+        private JfrRecordingResponse toResponse() {
+            return JfrRecordingResponse.of(recording, settings);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.board.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해시 계산 (User.encodePassword / matchPassword)
+ */
+@Name("com.board.PasswordHash")
+@Label("Password Hash")
+@Description("BCrypt 해시 생성 / 비교")
+@Category({"Board", "Security"})
+@StackTrace(false)
+@Setter
+public class PasswordHashEvent extends Event {
+
+    public static final String ENCODE = "encode";
+    public static final String MATCH = "match";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Matched")
+    private boolean matched;
+}
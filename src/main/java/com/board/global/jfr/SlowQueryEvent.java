@@ -0,0 +1,26 @@
+package com.board.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+/**
+ * 임계값보다 오래 걸린 SQL 실행 (SqlCountingDataSource)
+ * - 임계값은 녹화 설정에서 바꿀 수 있다 (com.board.SlowQuery#threshold)
+ * - 호출 위치를 알아야 하므로 스택 트레이스를 남긴다
+ */
+@Name("com.board.SlowQuery")
+@Label("Slow Query")
+@Description("임계값보다 오래 걸린 JDBC 문장 실행")
+@Category({"Board", "Database"})
+@Threshold("100 ms")
+@Setter
+public class SlowQueryEvent extends Event {
+
+    @Label("SQL")
+    private String sql;
+}
@@ -0,0 +1,27 @@
+package com.board.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JWT 서명 검증 (JwtTokenProvider.validateToken)
+ */
+@Name("com.board.TokenVerification")
+@Label("Token Verification")
+@Description("JWT 서명/만료 검증")
+@Category({"Board", "Security"})
+@StackTrace(false)
+@Setter
+public class TokenVerificationEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+
+    @Label("Failure Reason")
+    private String failureReason;
+}
@@ -0,0 +1,57 @@
+package com.board.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 예약 작업 잠금 (job_locks 행 하나 = 잠금 하나)
+ * - 조건부 UPDATE 한 번으로 획득 - 잠금이 만료된(locked_until 이 지난) 경우에만 성공
+ * - 시각은 DB 기준(LOCALTIMESTAMP) 으로 비교해서 인스턴스 간 시계 차이에 영향받지 않는다
+ * - lockAtMostFor 는 작업이 끝나지 않고 인스턴스가 죽었을 때 잠금이 풀리는 시간 - 작업 최대 소요 시간보다 길게
+ */
+@Component
+@RequiredArgsConstructor
+public class JobLock {
+
+    private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 잠금을 얻었으면 true (다른 인스턴스가 잡고 있으면 false)
+     */
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        long seconds = Math.max(lockAtMostFor.toSeconds(), 1);
+        int updated = jdbcTemplate.update(
+                "UPDATE job_locks SET locked_until = TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP(6)), locked_by = ?"
+                        + " WHERE name = ? AND locked_until <= LOCALTIMESTAMP(6)",
+                seconds, OWNER, name);
+        if (updated == 1) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO job_locks (name, locked_until, locked_by)"
+                            + " VALUES (?, TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP(6)), ?)",
+                    name, seconds, OWNER);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이 인스턴스가 잡은 잠금만 푼다 (만료 후 다른 인스턴스가 가져간 잠금은 건드리지 않음)
+     */
+    public void unlock(String name) {
+        jdbcTemplate.update(
+                "UPDATE job_locks SET locked_until = LOCALTIMESTAMP(6) WHERE name = ? AND locked_by = ?",
+                name, OWNER);
+    }
+}
@@ -0,0 +1,122 @@
+package com.board.global.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.slf4j.event.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 줄짜리 JSON 로그 인코더 (운영 프로파일)
+ * - 타임스탬프, 레벨, 로거, 스레드, 마스킹된 메시지, MDC, 구조화 필드(addKeyValue), 마스킹된 예외
+ * - 인코딩은 비동기 어펜더의 단일 워커 스레드에서만 일어나므로 StringBuilder 를 재사용한다
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private StringBuilder buffer = new StringBuilder(512);
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = buffer;
+        json.setLength(0);
+
+        json.append('{');
+        appendField(json, "timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+        json.append(',');
+        appendField(json, "level", event.getLevel().toString());
+        json.append(',');
+        appendField(json, "logger", event.getLoggerName());
+        json.append(',');
+        appendField(json, "thread", event.getThreadName());
+        json.append(',');
+        appendField(json, "message", LogMasker.mask(event.getFormattedMessage()));
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                json.append(',');
+                appendField(json, entry.getKey(), LogMasker.mask(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        List<KeyValuePair> pairs = event.getKeyValuePairs();
+        if (pairs != null) {
+            for (KeyValuePair pair : pairs) {
+                json.append(',');
+                appendValue(json, pair.key, pair.value);
+            }
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            json.append(',');
+            appendField(json, "exception", LogMasker.mask(ThrowableProxyUtil.asString(throwable)));
+        }
+        json.append('}').append('\n');
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        if (json.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(512);
+        }
+        return bytes;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+
+    private void appendValue(StringBuilder json, String key, Object value) {
+        if (value instanceof Number || value instanceof Boolean) {
+            appendString(json, key);
+            json.append(':').append(value);
+            return;
+        }
+        appendField(json, key, LogMasker.mask(key, value));
+    }
+
+    private void appendField(StringBuilder json, String key, String value) {
+        appendString(json, key);
+        json.append(':');
+        if (value == null) {
+            json.append("null");
+        } else {
+            appendString(json, value);
+        }
+    }
+
+    private void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
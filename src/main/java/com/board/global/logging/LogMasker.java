@@ -0,0 +1,67 @@
+package com.board.global.logging;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 메시지 / 구조화 필드의 개인정보 마스킹
+ * - 이메일: 첫 글자만 남김 (a***@example.com)
+ * - JWT / Bearer 토큰: 앞부분만 남김
+ * - 대부분의 메시지는 마스킹 대상이 없으므로 문자 검사로 먼저 걸러서 정규식/할당을 피한다
+ */
+public final class LogMasker {
+
+    private static final Pattern EMAIL = Pattern.compile("([A-Za-z0-9._%+-])[A-Za-z0-9._%+-]*@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})");
+    private static final Pattern JWT = Pattern.compile("eyJ[A-Za-z0-9_-]*\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern BEARER = Pattern.compile("(?i)(bearer\\s+)[A-Za-z0-9._~+/=-]+");
+
+    private static final String MASK = "***";
+    private static final Set<String> SECRET_KEYS = Set.of(
+            "password", "token", "accesstoken", "refreshtoken", "authorization", "secret");
+
+    private LogMasker() {
+    }
+
+    public static String mask(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        String masked = value;
+        if (masked.indexOf('@') >= 0) {
+            masked = EMAIL.matcher(masked).replaceAll("$1" + MASK + "@$2");
+        }
+        if (masked.contains("eyJ")) {
+            masked = JWT.matcher(masked).replaceAll("eyJ" + MASK);
+        }
+        if (containsIgnoreCase(masked, "bearer")) {
+            Matcher matcher = BEARER.matcher(masked);
+            masked = matcher.replaceAll("$1" + MASK);
+        }
+        return masked;
+    }
+
+    /**
+     * 비밀번호/토큰 같은 키는 값 전체를 가린다
+     */
+    public static String mask(String key, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (key != null && SECRET_KEYS.contains(key.toLowerCase(Locale.ROOT))) {
+            return MASK;
+        }
+        return mask(String.valueOf(value));
+    }
+
+    private static boolean containsIgnoreCase(String value, String word) {
+        int length = word.length();
+        for (int i = 0; i <= value.length() - length; i++) {
+            if (value.regionMatches(true, i, word, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
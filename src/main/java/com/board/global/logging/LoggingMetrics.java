@@ -0,0 +1,22 @@
+package com.board.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 로깅 파이프라인 메트릭
+ * - logging.events.dropped: 링 버퍼가 가득 차 버려진 로그 이벤트 수
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", RingBufferAsyncAppender.class,
+                        type -> RingBufferAsyncAppender.droppedCount())
+                .description("Log events dropped because the async ring buffer was full")
+                .register(registry);
+    }
+}
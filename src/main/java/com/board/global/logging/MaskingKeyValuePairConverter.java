@@ -0,0 +1,29 @@
+package com.board.global.logging;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.List;
+
+/**
+ * 패턴 레이아웃용 구조화 필드 출력 (key=value ..., 값은 마스킹)
+ */
+public class MaskingKeyValuePairConverter extends ClassicConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        List<KeyValuePair> pairs = event.getKeyValuePairs();
+        if (pairs == null || pairs.isEmpty()) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(pairs.size() * 16);
+        for (KeyValuePair pair : pairs) {
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(pair.key).append('=').append(LogMasker.mask(pair.key, pair.value));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.board.global.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 패턴 레이아웃의 %m / %msg 를 마스킹된 메시지로 대체 (logback-spring.xml conversionRule)
+ */
+public class MaskingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return LogMasker.mask(event.getFormattedMessage());
+    }
+}
@@ -0,0 +1,16 @@
+package com.board.global.logging;
+
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import org.springframework.boot.logging.logback.ExtendedWhitespaceThrowableProxyConverter;
+
+/**
+ * 패턴 레이아웃의 %wEx 를 마스킹된 스택 트레이스로 대체 (logback-spring.xml conversionRule)
+ * - 예외 메시지에도 이메일/토큰이 들어갈 수 있다 (예: 인증 실패 메시지)
+ */
+public class MaskingThrowableProxyConverter extends ExtendedWhitespaceThrowableProxyConverter {
+
+    @Override
+    protected String throwableProxyToString(IThrowableProxy tp) {
+        return LogMasker.mask(super.throwableProxyToString(tp));
+    }
+}
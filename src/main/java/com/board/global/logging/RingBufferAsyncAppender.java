@@ -0,0 +1,151 @@
+package com.board.global.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import com.board.global.util.MpscRingBuffer;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 기반 비동기 어펜더
+ * - 요청 스레드는 MpscRingBuffer 에 offer 만 하고 즉시 반환한다 (버퍼가 가득 차면 이벤트를 버리고 카운트)
+ * - 단일 워커 스레드가 버퍼를 비우며 실제 어펜더(콘솔 등)로 전달한다
+ * - logback 기본 AsyncAppender 는 discard 수를 노출하지 않으므로 직접 구현했다
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    private int bufferSize = 8192;
+    private boolean includeCallerData = false;
+    private long shutdownTimeoutMillis = 1000;
+
+    private MpscRingBuffer<ILoggingEvent> buffer;
+    private volatile Thread worker;
+
+    /**
+     * 프로세스 전체에서 버려진 로그 이벤트 수 (Micrometer 에서 조회)
+     */
+    public static long droppedCount() {
+        return DROPPED.get();
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (bufferSize < 2) {
+            addError("bufferSize 는 2 이상이어야 합니다: " + bufferSize);
+            return;
+        }
+        buffer = new MpscRingBuffer<>(bufferSize);
+        super.start();
+        Thread thread = new Thread(this::drainLoop, "log-writer-" + getName());
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(shutdownTimeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 소비자는 하나여야 하므로 워커가 끝난 경우에만 남은 이벤트를 직접 흘려보낸다
+        if (thread == null || !thread.isAlive()) {
+            buffer.drain(appenders::appendLoopOnAppenders, Integer.MAX_VALUE);
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 메시지 포맷팅, MDC 복사를 호출 스레드에서 끝내 둔다 (파라미터 객체가 나중에 변해도 안전)
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (!buffer.offer(event)) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        while (worker != null) {
+            int drained = buffer.drain(appenders::appendLoopOnAppenders, DRAIN_BATCH);
+            if (drained == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -1,5 +1,7 @@
 package com.board.global.security;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +22,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObservationRegistry observationRegistry;
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
@@ -29,6 +32,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
+        // 토큰 검증 구간만 스팬으로 남긴다 (이후 필터 체인 시간은 포함하지 않음)
+        Observation.createNotStarted("security.jwt.authenticate", observationRegistry)
+                .observe(() -> authenticate(request));
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request) {
         // 1. Request Header에서 JWT 토큰 추출
         String token = resolveToken(request);
 
@@ -41,8 +52,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } else {
             log.debug("유효한 JWT 토큰이 없습니다.");
         }
-
-        filterChain.doFilter(request, response);
     }
 
     /**
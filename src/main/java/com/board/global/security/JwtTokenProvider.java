@@ -1,6 +1,7 @@
 package com.board.global.security;
 
 import com.board.global.config.JwtProperties;
+import com.board.global.jfr.TokenVerificationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -87,20 +88,35 @@ public class JwtTokenProvider {
      * Token 검증
      */
     public boolean validateToken(String token) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        String failureReason = "error";
         try {
             Jwts.parser()
                     .verifyWith(getSigningKey())
                     .build()
                     .parseSignedClaims(token);
+            failureReason = null;
             return true;
         } catch (SecurityException | MalformedJwtException e) {
+            failureReason = "signature";
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
+            failureReason = "expired";
             log.info("만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
+            failureReason = "unsupported";
             log.info("지원되지 않는 JWT 토큰입니다.");
         } catch (IllegalArgumentException e) {
+            failureReason = "illegal";
             log.info("JWT 토큰이 잘못되었습니다.");
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setValid(failureReason == null);
+                event.setFailureReason(failureReason);
+                event.commit();
+            }
         }
         return false;
     }
@@ -0,0 +1,119 @@
+package com.board.global.sql;
+
+import com.board.global.jfr.SlowQueryEvent;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 실행되는 SQL 을 SqlStatisticsRecorder 로 보내는 DataSource 프록시
+ * - Connection / Statement 를 JDK 동적 프록시로 감싸 execute* 호출 시점에 기록한다
+ * - 활성 범위가 없으면 기록 비용은 ThreadLocal 조회 한 번
+ * - 실행 시간이 임계값을 넘으면 JFR SlowQueryEvent 를 남긴다 (녹화 중이 아니면 비용 없음)
+ * - unwrap / isWrapperFor 는 DelegatingDataSource 가 위임하므로 Hikari 지표/헬스 체크는 그대로 동작한다
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = SqlCountingDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return proxyStatement(statement, CallableStatement.class, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return proxyStatement(statement, PreparedStatement.class, (String) args[0]);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxyStatement(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private static Object proxyStatement(Statement statement, Class<?> type, String preparedSql) {
+            return Proxy.newProxyInstance(
+                    SqlCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(statement, preparedSql));
+        }
+    }
+
+    /**
+     * @param preparedSql PreparedStatement 면 준비된 SQL, Statement 면 null (execute 인자 사용)
+     */
+    private record StatementHandler(Statement target, String preparedSql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return SqlCountingDataSource.invoke(target, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? s
+                    : "<batch>";
+            SqlStatisticsRecorder.record(sql);
+
+            SlowQueryEvent event = new SlowQueryEvent();
+            event.begin();
+            try {
+                return SqlCountingDataSource.invoke(target, method, args);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.setSql(SqlNormalizer.normalize(sql));
+                    event.commit();
+                }
+            }
+        }
+    }
+}
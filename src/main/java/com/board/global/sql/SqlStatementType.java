@@ -0,0 +1,34 @@
+package com.board.global.sql;
+
+public enum SqlStatementType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OTHER;
+
+    public static SqlStatementType of(String sql) {
+        String trimmed = sql.stripLeading();
+        // Hibernate 가 붙이는 /* 주석 */ 건너뛰기
+        while (trimmed.startsWith("/*")) {
+            int end = trimmed.indexOf("*/");
+            if (end < 0) {
+                return OTHER;
+            }
+            trimmed = trimmed.substring(end + 2).stripLeading();
+        }
+        if (trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4)) {
+            return SELECT;
+        }
+        if (trimmed.regionMatches(true, 0, "insert", 0, 6)) {
+            return INSERT;
+        }
+        if (trimmed.regionMatches(true, 0, "update", 0, 6)) {
+            return UPDATE;
+        }
+        if (trimmed.regionMatches(true, 0, "delete", 0, 6)) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,53 @@
+package com.board.global.sql;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 범위(요청, 테스트 블록) 에서 실행된 SQL 통계
+ * - 실행 단위로 센다 (executeBatch 는 배치 크기와 관계없이 1회)
+ * - 단일 스레드에서만 기록된다 (SqlStatisticsRecorder 의 ThreadLocal 범위)
+ */
+public class SqlStatistics {
+
+    private final Map<SqlStatementType, Integer> countsByType = new EnumMap<>(SqlStatementType.class);
+    private final Map<String, Integer> countsBySql = new LinkedHashMap<>();
+    private int total;
+
+    void record(String sql) {
+        total++;
+        countsByType.merge(SqlStatementType.of(sql), 1, Integer::sum);
+        countsBySql.merge(SqlNormalizer.normalize(sql), 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int count(SqlStatementType type) {
+        return countsByType.getOrDefault(type, 0);
+    }
+
+    /**
+     * 정규화된 SQL 별 실행 횟수 (실행 순서 유지)
+     */
+    public Map<String, Integer> getCountsBySql() {
+        return Map.copyOf(countsBySql);
+    }
+
+    /**
+     * 파라미터만 다른 같은 문장이 threshold 번 이상 실행된 경우 - N+1 의심
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        return countsBySql.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    public String toString() {
+        return "SqlStatistics{total=" + total + ", byType=" + countsByType + ", bySql=" + countsBySql + "}";
+    }
+}
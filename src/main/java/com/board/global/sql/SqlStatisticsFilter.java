@@ -0,0 +1,86 @@
+package com.board.global.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 수 집계
+ * - http.server.sql.statements{method, uri} 분포로 엔드포인트별 쿼리 수 히스토그램 노출
+ * - 같은 문장이 threshold 번 이상 반복되면 sql.n_plus_one.suspected 증가 + WARN 로그
+ * - 비동기 디스패치(SSE 등) 는 최초 요청 스레드에서 실행된 SQL 만 집계된다
+ */
+@Slf4j
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final double[] SLO_BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (SqlStatisticsRecorder.Scope scope = SqlStatisticsRecorder.start()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                report(request, scope.statistics());
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics statistics) {
+        String method = request.getMethod();
+        String uri = resolveUri(request);
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 실행된 SQL 문장 수")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(SLO_BUCKETS)
+                .register(meterRegistry)
+                .record(statistics.getTotal());
+
+        Map<String, Integer> repeated = statistics.getRepeatedStatements(nPlusOneThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        Counter.builder("sql.n_plus_one.suspected")
+                .description("같은 SQL 이 반복 실행된 요청 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+        repeated.forEach((sql, count) ->
+                log.warn("N+1 의심: {} {} 에서 같은 SQL {}회 실행 - {}", method, uri, count, sql));
+    }
+
+    /**
+     * 템플릿 경로(/api/v1/posts/{postId}) 로 태그를 잡아야 카디널리티가 폭발하지 않는다
+     */
+    private static String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
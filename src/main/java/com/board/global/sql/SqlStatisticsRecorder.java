@@ -0,0 +1,62 @@
+package com.board.global.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 활성 범위들에 기록
+ * - 범위는 중첩될 수 있다 (테스트 블록 안에서 요청 필터가 다시 범위를 여는 경우 양쪽에 모두 기록)
+ * - 다른 스레드(비동기 작업, 스케줄러) 에서 실행된 SQL 은 기록되지 않는다
+ *
+ * <pre>
+ * try (SqlStatisticsRecorder.Scope scope = SqlStatisticsRecorder.start()) {
+ *     authService.login(request);
+ *     assertThat(scope.statistics().count(SqlStatementType.SELECT)).isLessThanOrEqualTo(1);
+ * }
+ * </pre>
+ */
+public final class SqlStatisticsRecorder {
+
+    private static final ThreadLocal<Deque<SqlStatistics>> ACTIVE = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatisticsRecorder() {
+    }
+
+    public static Scope start() {
+        SqlStatistics statistics = new SqlStatistics();
+        ACTIVE.get().push(statistics);
+        return new Scope(statistics);
+    }
+
+    static void record(String sql) {
+        Deque<SqlStatistics> active = ACTIVE.get();
+        if (active.isEmpty()) {
+            return;
+        }
+        for (SqlStatistics statistics : active) {
+            statistics.record(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final SqlStatistics statistics;
+
+        private Scope(SqlStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        public SqlStatistics statistics() {
+            return statistics;
+        }
+
+        @Override
+        public void close() {
+            Deque<SqlStatistics> active = ACTIVE.get();
+            active.remove(statistics);
+            if (active.isEmpty()) {
+                ACTIVE.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.board.global.sse;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Servlet 비동기 + 논블로킹 I/O 기반 SSE 연결
+ * - 연결마다 스레드를 점유하지 않는다 (요청 스레드는 startAsync 후 바로 반환)
+ * - 미리 인코딩된 프레임(byte[]) 을 여러 연결이 공유하고, 연결별로는 크기가 제한된 큐에 참조만 쌓는다
+ * - 소켓에 쓸 수 없는 동안은 큐에 쌓아두고 WriteListener.onWritePossible 에서 이어서 쓴다
+ * - 큐가 가득 차면 send 가 false 를 반환하고, 호출한 쪽이 연결을 끊는다 (클라이언트는 Last-Event-ID 로 재연결)
+ */
+@Slf4j
+public class SseConnection implements WriteListener, AsyncListener {
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream outputStream;
+    private final Queue<byte[]> queue;
+    private final Object writeLock = new Object();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile Runnable closeCallback = () -> { };
+    private boolean started;
+    private boolean flushPending;
+
+    protected SseConnection(AsyncContext asyncContext, ServletOutputStream outputStream, int queueCapacity) {
+        this.asyncContext = asyncContext;
+        this.outputStream = outputStream;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 요청을 비동기 모드로 전환하고 SSE 응답 헤더를 쓴다
+     */
+    public static SseConnection open(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            int queueCapacity,
+            Duration timeout
+    ) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // 프록시(nginx) 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeout.toMillis());
+        SseConnection connection = new SseConnection(asyncContext, response.getOutputStream(), queueCapacity);
+        asyncContext.addListener(connection);
+        return connection;
+    }
+
+    /**
+     * 연결이 끝났을 때(클라이언트 종료, 타임아웃, 오류, close) 한 번 호출될 콜백
+     */
+    public void onClose(Runnable callback) {
+        this.closeCallback = callback;
+    }
+
+    /**
+     * 논블로킹 쓰기 시작 - 이후 컨테이너가 onWritePossible 을 호출한다
+     */
+    public void start() {
+        synchronized (writeLock) {
+            started = true;
+        }
+        outputStream.setWriteListener(this);
+    }
+
+    /**
+     * @return 큐가 가득 찼거나 이미 닫힌 연결이면 false
+     */
+    public boolean send(byte[] frame) {
+        if (closed.get() || !queue.offer(frame)) {
+            return false;
+        }
+        drain();
+        return true;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public void close() {
+        if (markClosed()) {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 요청
+            }
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.debug("SSE 쓰기 오류: {}", t.getMessage());
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        markClosed();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    /**
+     * 쓸 수 있는 만큼만 쓰고 반환 - isReady() 가 false 면 컨테이너가 나중에 onWritePossible 로 다시 호출한다
+     */
+    private void drain() {
+        synchronized (writeLock) {
+            if (!started || closed.get()) {
+                return;
+            }
+            try {
+                while (outputStream.isReady()) {
+                    byte[] frame = queue.poll();
+                    if (frame != null) {
+                        outputStream.write(frame);
+                        flushPending = true;
+                    } else if (flushPending) {
+                        flushPending = false;
+                        outputStream.flush();
+                    } else {
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패: {}", e.getMessage());
+                close();
+            }
+        }
+    }
+
+    private boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        closeCallback.run();
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.board.global.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * SSE 프레임 인코딩 (text/event-stream)
+ * - 브로드캐스트 시 이벤트당 한 번만 인코딩해서 모든 구독자가 같은 byte[] 를 공유한다
+ */
+public final class SseFrames {
+
+    /**
+     * 주석 프레임 - 프록시 유휴 타임아웃 방지 및 끊긴 연결 감지용
+     */
+    public static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private SseFrames() {
+    }
+
+    /**
+     * @param id   null 이면 id 필드 생략 (Last-Event-ID 가 갱신되지 않음)
+     * @param data 한 줄짜리 데이터 (JSON)
+     */
+    public static byte[] event(String name, Long id, String data) {
+        StringBuilder frame = new StringBuilder(data.length() + 64);
+        if (id != null) {
+            frame.append("id: ").append(id).append('\n');
+        }
+        frame.append("event: ").append(name).append('\n');
+        frame.append("data: ").append(data).append("\n\n");
+        return frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] retry(Duration reconnectDelay) {
+        return ("retry: " + reconnectDelay.toMillis() + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,11 @@
+package com.board.global.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 내려보낼 파일과 응답 메타데이터
+ * @param eTag         강한 검증자 (따옴표 포함)
+ * @param lastModified epoch millis
+ */
+public record FileDownload(Path path, String filename, String contentType, long size, String eTag, long lastModified) {
+}
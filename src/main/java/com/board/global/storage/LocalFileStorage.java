@@ -0,0 +1,103 @@
+package com.board.global.storage;
+
+import com.board.global.config.AttachmentProperties;
+import com.board.global.exception.BusinessException;
+import com.board.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 로컬 파일시스템 저장소
+ * - 요청 본문을 고정 크기 버퍼로 읽으면서 바로 임시 파일에 쓰고 SHA-256 을 계산한다 (파일 전체를 힙에 올리지 않음)
+ * - 크기 상한을 넘는 순간 중단하고 임시 파일을 지운다
+ * - 다 받은 뒤에만 최종 경로로 원자적 이동 - 중간에 끊긴 업로드가 보이지 않는다
+ * - 경로: {root}/{key 앞 2자}/{key} (디렉터리당 파일 수 분산)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalFileStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_PREFIX = ".upload-";
+
+    private final AttachmentProperties properties;
+
+    public StoredFile store(InputStream source, long maxSize) {
+        String key = UUID.randomUUID().toString();
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, null);
+
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = source.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new BusinessException(ErrorCode.ATTACHMENT_TOO_LARGE);
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+                channel.force(false);
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            return new StoredFile(key, size, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 저장 실패: " + key, e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    public Path resolve(String key) {
+        return Path.of(properties.getStoragePath()).resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    public void delete(String key) {
+        deleteQuietly(resolve(key));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
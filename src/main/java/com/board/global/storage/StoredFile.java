@@ -0,0 +1,10 @@
+package com.board.global.storage;
+
+/**
+ * 저장 완료된 파일
+ * @param key      저장소 내 식별자 (UUID)
+ * @param size     바이트 수
+ * @param checksum SHA-256 (hex)
+ */
+public record StoredFile(String key, long size, String checksum) {
+}
@@ -0,0 +1,133 @@
+package com.board.global.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 스팬을 한 줄에 하나씩 JSON 으로 파일에 추가한다
+ * - 로컬에서는 OTel Collector 의 filelog 수신기 등이 이 파일을 읽어 수집기 역할을 대신한다
+ * - 쓰기 실패는 익스포트 실패로만 보고하고 요청 처리에는 영향을 주지 않는다
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path file;
+    private BufferedWriter writer;
+
+    public FileSpanExporter(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            BufferedWriter out = writer();
+            StringBuilder line = new StringBuilder(256);
+            for (SpanData span : spans) {
+                line.setLength(0);
+                appendSpan(line, span);
+                out.append(line).append('\n');
+            }
+            out.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("스팬 파일 쓰기 실패: {}", file, e);
+            closeQuietly();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        closeQuietly();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (writer == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return writer;
+    }
+
+    private void closeQuietly() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // 다음 export 에서 다시 연다
+        }
+        writer = null;
+    }
+
+    private static void appendSpan(StringBuilder json, SpanData span) {
+        json.append('{');
+        appendString(json, "traceId", span.getTraceId()).append(',');
+        appendString(json, "spanId", span.getSpanId()).append(',');
+        if (span.getParentSpanContext().isValid()) {
+            appendString(json, "parentSpanId", span.getParentSpanId()).append(',');
+        }
+        appendString(json, "name", span.getName()).append(',');
+        appendString(json, "kind", span.getKind().name()).append(',');
+        json.append("\"startEpochNanos\":").append(span.getStartEpochNanos()).append(',');
+        json.append("\"durationMicros\":")
+                .append((span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000).append(',');
+        appendString(json, "status", span.getStatus().getStatusCode().name()).append(',');
+        json.append("\"attributes\":{");
+        boolean first = true;
+        for (Map.Entry<AttributeKey<?>, Object> attribute : span.getAttributes().asMap().entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendString(json, attribute.getKey().getKey(), String.valueOf(attribute.getValue()));
+        }
+        json.append("}}");
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String key, String value) {
+        quote(json, key);
+        json.append(':');
+        quote(json, value);
+        return json;
+    }
+
+    private static void quote(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
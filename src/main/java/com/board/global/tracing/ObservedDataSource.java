@@ -0,0 +1,51 @@
+package com.board.global.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션 획득 구간을 스팬으로 남긴다 (Hikari 대기 시간과 쿼리 시간을 구분하기 위함)
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+
+    private static final String OBSERVATION_NAME = "jdbc.connection.acquire";
+
+    private final Supplier<ObservationRegistry> registry;
+
+    public ObservedDataSource(DataSource targetDataSource, Supplier<ObservationRegistry> registry) {
+        super(targetDataSource);
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Observation observation = Observation.start(OBSERVATION_NAME, registry.get());
+        try {
+            return obtainTargetDataSource().getConnection();
+        } catch (SQLException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Observation observation = Observation.start(OBSERVATION_NAME, registry.get());
+        try {
+            return obtainTargetDataSource().getConnection(username, password);
+        } catch (SQLException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
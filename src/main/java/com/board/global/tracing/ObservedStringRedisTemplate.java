@@ -0,0 +1,28 @@
+package com.board.global.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 호출을 스팬으로 남기는 StringRedisTemplate
+ * - opsForValue(), executePipelined() 등 모든 연산이 거치는 execute 를 감싼다
+ * - 이 버전의 Lettuce 에는 Micrometer Tracing 연동이 없어 템플릿 단위로 계측한다
+ */
+public class ObservedStringRedisTemplate extends StringRedisTemplate {
+
+    private final ObservationRegistry registry;
+
+    public ObservedStringRedisTemplate(RedisConnectionFactory connectionFactory, ObservationRegistry registry) {
+        super(connectionFactory);
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return Observation.createNotStarted("redis.command", registry)
+                .observe(() -> super.execute(action, exposeConnection, pipeline));
+    }
+}
@@ -0,0 +1,43 @@
+package com.board.global.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.function.Supplier;
+
+/**
+ * Spring Data 리포지토리 메서드 호출을 스팬으로 남긴다
+ * - 리포지토리 프록시의 가장 바깥 어드바이스로 붙어 트랜잭션 / 쿼리 실행 시간을 모두 포함한다
+ */
+public class RepositoryObservationInterceptor implements MethodInterceptor {
+
+    private static final String OBSERVATION_NAME = "repository.invocation";
+
+    private final String repositoryName;
+    private final Supplier<ObservationRegistry> registry;
+
+    public RepositoryObservationInterceptor(String repositoryName, Supplier<ObservationRegistry> registry) {
+        this.repositoryName = repositoryName;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, registry.get())
+                .contextualName(repositoryName + "." + method)
+                .lowCardinalityKeyValue("repository", repositoryName)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.board.global.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트레이스 단위 꼬리(tail) 샘플링 익스포터
+ * - 헤드 샘플링은 100% 로 두고, 끝난 스팬을 트레이스별로 모았다가 로컬 루트 스팬이 끝나면 보관 여부를 정한다
+ * - 보관: 오류 스팬이 하나라도 있음 / 루트가 slowThreshold 이상 / normalSampleRatio 확률
+ * - BatchSpanProcessor 의 단일 익스포트 스레드에서만 호출되지만 flush/shutdown 과 겹칠 수 있어 동기화한다
+ */
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    private final SpanExporter delegate;
+    private final long slowThresholdNanos;
+    private final double normalSampleRatio;
+    private final int maxPendingTraces;
+    private final long pendingTimeoutNanos;
+
+    private final Map<String, PendingTrace> pending = new LinkedHashMap<>();
+
+    private final Counter keptError;
+    private final Counter keptSlow;
+    private final Counter keptSampled;
+    private final Counter dropped;
+
+    public TailSamplingSpanExporter(
+            SpanExporter delegate,
+            Duration slowThreshold,
+            double normalSampleRatio,
+            int maxPendingTraces,
+            Duration pendingTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.normalSampleRatio = normalSampleRatio;
+        this.maxPendingTraces = maxPendingTraces;
+        this.pendingTimeoutNanos = pendingTimeout.toNanos();
+        this.keptError = keptCounter(meterRegistry, "error");
+        this.keptSlow = keptCounter(meterRegistry, "slow");
+        this.keptSampled = keptCounter(meterRegistry, "sampled");
+        this.dropped = Counter.builder("tracing.tail.traces")
+                .tag("decision", "dropped")
+                .tag("reason", "normal")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> kept = new ArrayList<>();
+        long now = System.nanoTime();
+
+        for (SpanData span : spans) {
+            PendingTrace trace = pending.computeIfAbsent(span.getTraceId(), id -> new PendingTrace(now));
+            trace.add(span);
+            if (isLocalRoot(span)) {
+                pending.remove(span.getTraceId());
+                decide(trace, kept);
+            }
+        }
+        evictStale(now, kept);
+
+        if (kept.isEmpty()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        return delegate.export(kept);
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        // 루트가 끝나지 않은 트레이스도 판단해서 내보낸다
+        List<SpanData> kept = new ArrayList<>();
+        pending.values().forEach(trace -> decide(trace, kept));
+        pending.clear();
+        if (!kept.isEmpty()) {
+            delegate.export(kept).join(5, TimeUnit.SECONDS);
+        }
+        return delegate.shutdown();
+    }
+
+    int pendingTraceCount() {
+        return pending.size();
+    }
+
+    private void evictStale(long now, List<SpanData> kept) {
+        Iterator<PendingTrace> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            PendingTrace trace = iterator.next();
+            boolean overflow = pending.size() > maxPendingTraces;
+            if (!overflow && now - trace.createdAtNanos < pendingTimeoutNanos) {
+                // 삽입 순서이므로 이후 트레이스는 더 최근이다
+                break;
+            }
+            iterator.remove();
+            decide(trace, kept);
+        }
+    }
+
+    private void decide(PendingTrace trace, List<SpanData> kept) {
+        if (trace.hasError) {
+            keptError.increment();
+        } else if (trace.maxDurationNanos >= slowThresholdNanos) {
+            keptSlow.increment();
+        } else if (ThreadLocalRandom.current().nextDouble() < normalSampleRatio) {
+            keptSampled.increment();
+        } else {
+            dropped.increment();
+            return;
+        }
+        kept.addAll(trace.spans);
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static Counter keptCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tracing.tail.traces")
+                .tag("decision", "kept")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class PendingTrace {
+
+        private final long createdAtNanos;
+        private final List<SpanData> spans = new ArrayList<>(8);
+        private boolean hasError;
+        private long maxDurationNanos;
+
+        private PendingTrace(long createdAtNanos) {
+            this.createdAtNanos = createdAtNanos;
+        }
+
+        private void add(SpanData span) {
+            spans.add(span);
+            if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+                hasError = true;
+            }
+            maxDurationNanos = Math.max(maxDurationNanos, span.getEndEpochNanos() - span.getStartEpochNanos());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.board.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 조건부 GET(If-None-Match) 용 ETag 생성 유틸
+ * - 응답 본문에 timestamp 가 포함되므로 바이트 동일성을 보장하지 않는 weak ETag 를 사용
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    /**
+     * 단건 리소스 ETag - 엔티티 @Version 기반
+     */
+    public static String ofVersion(String resource, Long id, Long version) {
+        return weak(resource + "-" + id + "-v" + (version != null ? version : 0L));
+    }
+
+    /**
+     * 목록 리소스 ETag - 목록 버전(범위 내 변경마다 증가하는 워터마크)과 조회 조건 기반
+     */
+    public static String ofListVersion(String resource, long version, Object... conditions) {
+        return weak(resource + "-" + Long.toHexString(version) + "-" + Integer.toHexString(Arrays.hashCode(conditions)));
+    }
+
+    private static String weak(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,165 @@
+package com.board.global.warmup;
+
+import com.board.api.response.ApiResponse;
+import com.board.api.response.ErrorResponse;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.config.WarmupProperties;
+import com.board.global.exception.ErrorCode;
+import com.board.global.security.JwtTokenProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기동 직후 JIT 워밍업
+ * - 배포 직후 첫 요청들이 인터프리터로 실행되며 수 초씩 걸리는 구간(JWT, BCrypt, Jackson, Hibernate) 을 미리 태운다
+ * - ApplicationRunner 가 끝나야 Boot 가 ACCEPTING_TRAFFIC 을 발행하므로 그동안 readiness 는 REFUSING_TRAFFIC
+ * - 시간 예산을 넘기면 남은 반복은 중단하고 트래픽 수신을 시작한다
+ * - DB 호출은 롤백 전용 트랜잭션 안에서만 실행 (합성 사용자 INSERT 포함, 커밋되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JitWarmupRunner implements ApplicationRunner {
+
+    private static final String WARMUP_EMAIL = "warmup@board.local";
+    private static final String WARMUP_PASSWORD = "Warmup1234!";
+
+    private final WarmupProperties properties;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile long deadlineNanos;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long budgetMillis = properties.getTimeBudget().toMillis();
+        long start = System.nanoTime();
+        deadlineNanos = start + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+
+        // 예산을 넘긴 단계가 있어도 기동은 계속되도록 별도 스레드에서 실행하고 예산만큼만 기다린다
+        CompletableFuture<Void> warmup = CompletableFuture.runAsync(this::warmup, runnable -> {
+            Thread thread = new Thread(runnable, "jit-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        try {
+            warmup.get(budgetMillis, TimeUnit.MILLISECONDS);
+            log.info("JIT 워밍업 완료: {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            log.warn("JIT 워밍업 시간 예산({}ms) 초과 - 남은 단계 생략", budgetMillis);
+        } catch (ExecutionException e) {
+            log.warn("JIT 워밍업 실패 - 트래픽 수신은 계속 진행", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void warmup() {
+        warmupJwt();
+        warmupJson();
+        warmupPassword();
+        warmupRepositories();
+    }
+
+    /**
+     * 토큰 생성 -> 검증 -> Authentication 복원 (JwtAuthenticationFilter 경로)
+     */
+    private void warmupJwt() {
+        for (int i = 0; i < properties.getIterations() && hasBudget(); i++) {
+            String token = jwtTokenProvider.createAccessToken(WARMUP_EMAIL, Role.USER.getKey());
+            if (jwtTokenProvider.validateToken(token)) {
+                jwtTokenProvider.getAuthentication(token);
+            }
+            jwtTokenProvider.getExpiration(jwtTokenProvider.createRefreshToken(WARMUP_EMAIL));
+        }
+    }
+
+    /**
+     * ApiResponse / ErrorResponse 직렬화 (컨트롤러와 GlobalExceptionHandler 응답 경로)
+     */
+    private void warmupJson() {
+        Map<String, Object> payload = Map.of("id", 1L, "title", "warmup", "tags", List.of("a", "b"));
+        try {
+            for (int i = 0; i < properties.getIterations() && hasBudget(); i++) {
+                objectMapper.writeValueAsBytes(ApiResponse.success(payload, "warmup"));
+                objectMapper.writeValueAsBytes(ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void warmupPassword() {
+        String encoded = passwordEncoder.encode(WARMUP_PASSWORD);
+        for (int i = 0; i < properties.getPasswordIterations() && hasBudget(); i++) {
+            passwordEncoder.matches(WARMUP_PASSWORD, encoded);
+        }
+    }
+
+    /**
+     * 목록/상세/로그인 조회와 INSERT 경로 - 항상 롤백
+     */
+    private void warmupRepositories() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        PageRequest page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+
+            User user = User.builder()
+                    .email(UUID.randomUUID() + "@warmup.local")
+                    .password(WARMUP_PASSWORD)
+                    .nickname("warmup-" + UUID.randomUUID().toString().substring(0, 8))
+                    .role(Role.USER)
+                    .build();
+            userRepository.saveAndFlush(user);
+
+            for (int i = 0; i < properties.getRepositoryIterations() && hasBudget(); i++) {
+                userRepository.findActiveUserByEmail(WARMUP_EMAIL);
+                postRepository.findSliceByDeletedAtIsNull(page);
+                postRepository.findById(0L);
+                commentRepository.findSliceByPostIdAndDeletedAtIsNull(0L, page);
+            }
+        });
+    }
+
+    private boolean hasBudget() {
+        return System.nanoTime() < deadlineNanos;
+    }
+}
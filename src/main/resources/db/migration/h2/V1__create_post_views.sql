@@ -0,0 +1,13 @@
+-- 게시글 조회 기록 (H2 - 파티션 없음, 보관 기간 정리는 범위 DELETE 로 대체)
+CREATE TABLE post_views (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT       NOT NULL,
+    user_id    BIGINT       NULL,
+    ip_address VARCHAR(45)  NULL,
+    viewed_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, viewed_at)
+);
+
+CREATE INDEX idx_user_post_viewed ON post_views (user_id, post_id, viewed_at);
+CREATE INDEX idx_ip_post_viewed ON post_views (ip_address, post_id, viewed_at);
+CREATE INDEX idx_post_viewed ON post_views (post_id, viewed_at);
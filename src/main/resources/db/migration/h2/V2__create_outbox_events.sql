@@ -0,0 +1,13 @@
+-- Transactional Outbox
+CREATE TABLE outbox_events (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20)  NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    event_type     VARCHAR(50)  NOT NULL,
+    payload        TEXT         NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6) NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_outbox_published ON outbox_events (published_at, id);
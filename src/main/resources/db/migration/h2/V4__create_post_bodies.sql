@@ -0,0 +1,20 @@
+-- 게시글 본문 분리 (목록 조회가 본문을 읽지 않도록, PK = 게시글 id)
+-- encoding: RAW(UTF-8 그대로) / LZ4(블록 압축, 복원에 original_length 사용)
+CREATE TABLE post_bodies (
+    id              BIGINT      NOT NULL,
+    encoding        VARCHAR(10) NOT NULL,
+    original_length INT         NOT NULL,
+    body            BLOB        NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE post_bodies_archive (
+    id              BIGINT       NOT NULL,
+    encoding        VARCHAR(10)  NOT NULL,
+    original_length INT          NOT NULL,
+    body            BLOB         NOT NULL,
+    archived_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE posts_archive DROP COLUMN content;
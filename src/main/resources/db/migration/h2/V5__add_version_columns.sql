@@ -0,0 +1,9 @@
+-- BaseEntity @Version 컬럼 추가 (낙관적 락 / 조건부 GET ETag)
+-- 기존 행은 0 으로 채워야 Hibernate 가 버전을 비교하고 증가시킬 수 있다
+-- 대상 테이블은 ddl-auto 로 만들어지므로 테이블이 없거나 이미 컬럼이 있으면 건너뜀
+ALTER TABLE IF EXISTS users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS posts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS categories ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS comments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS attachments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS user_deletion_jobs ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- 탈퇴 시각 컬럼 추가 (ColdRowArchiver 가 보관 기간 경과 여부를 판단)
+-- 대상 테이블은 ddl-auto 로 만들어지므로 테이블이 없거나 이미 컬럼이 있으면 건너뜀
+-- (H2 는 create-drop 으로만 쓰여 기존 탈퇴 회원 백필은 MySQL 스크립트에만 둔다)
+ALTER TABLE IF EXISTS users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
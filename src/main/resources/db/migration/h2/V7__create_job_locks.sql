@@ -0,0 +1,8 @@
+-- 여러 인스턴스 중 한 곳에서만 돌아야 하는 예약 작업의 잠금 행 (name 별 한 행, 처음 잠글 때 생성)
+-- locked_until 이 지나면 다른 인스턴스가 가져갈 수 있다 - 작업 중 인스턴스가 죽어도 잠금이 영구히 남지 않게
+CREATE TABLE job_locks (
+    name         VARCHAR(64)  NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
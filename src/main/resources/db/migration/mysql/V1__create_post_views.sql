@@ -0,0 +1,17 @@
+-- 게시글 조회 기록 (월 단위 RANGE 파티션)
+-- 파티션 키(viewed_at) 가 모든 UNIQUE 키에 포함되어야 하므로 PK 는 (id, viewed_at)
+-- 월별 파티션(pYYYYMM) 은 PostViewPartitionManager 가 p_future 를 분할해서 미리 만든다
+CREATE TABLE post_views (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NULL,
+    ip_address VARCHAR(45) NULL,
+    viewed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, viewed_at),
+    KEY idx_user_post_viewed (user_id, post_id, viewed_at),
+    KEY idx_ip_post_viewed (ip_address, post_id, viewed_at),
+    KEY idx_post_viewed (post_id, viewed_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4
+PARTITION BY RANGE COLUMNS (viewed_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
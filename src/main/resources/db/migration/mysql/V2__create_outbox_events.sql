@@ -0,0 +1,12 @@
+-- Transactional Outbox (도메인 변경과 같은 트랜잭션에서 기록, OutboxRelay 가 Kafka 로 발행)
+CREATE TABLE outbox_events (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    event_type     VARCHAR(50) NOT NULL,
+    payload        TEXT        NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    published_at   DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    KEY idx_outbox_published (published_at, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,51 @@
+-- 소프트 삭제 후 보관 기간이 지난 행을 옮겨두는 아카이브 테이블 (ColdRowArchiver)
+-- 원본 테이블과 같은 컬럼 + archived_at, 조회가 드물어 압축 행 포맷 / 최소 인덱스만 둔다
+-- 원본 email 은 재가입으로 다시 쓰일 수 있으므로 유니크 제약을 두지 않는다
+CREATE TABLE users_archive (
+    id          BIGINT       NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    nickname    VARCHAR(50)  NOT NULL,
+    role        VARCHAR(20)  NOT NULL,
+    deleted     BIT          NOT NULL,
+    deleted_at  DATETIME(6)  NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NULL,
+    version     BIGINT       NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_email (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE posts_archive (
+    id            BIGINT       NOT NULL,
+    title         VARCHAR(200) NOT NULL,
+    content       TEXT         NOT NULL,
+    author_id     BIGINT       NOT NULL,
+    category_id   BIGINT       NOT NULL,
+    view_count    BIGINT       NOT NULL,
+    like_count    INT          NOT NULL,
+    dislike_count INT          NOT NULL,
+    deleted_at    DATETIME(6)  NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NULL,
+    version       BIGINT       NULL,
+    archived_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_author (author_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE comments_archive (
+    id          BIGINT        NOT NULL,
+    content     VARCHAR(1000) NOT NULL,
+    post_id     BIGINT        NOT NULL,
+    author_id   BIGINT        NOT NULL,
+    parent_id   BIGINT        NULL,
+    deleted_at  DATETIME(6)   NULL,
+    created_at  DATETIME(6)   NOT NULL,
+    updated_at  DATETIME(6)   NULL,
+    version     BIGINT        NULL,
+    archived_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_post (post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED;
@@ -0,0 +1,41 @@
+-- 게시글 본문 분리 (목록 조회가 본문을 읽지 않도록, PK = 게시글 id)
+-- encoding: RAW(UTF-8 그대로) / LZ4(블록 압축, 복원에 original_length 사용)
+CREATE TABLE post_bodies (
+    id              BIGINT      NOT NULL,
+    encoding        VARCHAR(10) NOT NULL,
+    original_length INT         NOT NULL,
+    body            MEDIUMBLOB  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_bodies_archive (
+    id              BIGINT      NOT NULL,
+    encoding        VARCHAR(10) NOT NULL,
+    original_length INT         NOT NULL,
+    body            MEDIUMBLOB  NOT NULL,
+    archived_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED;
+
+-- 기존 posts.content 이관 (posts 는 ddl-auto 로 만들어지므로 빈 DB 에서는 건너뜀)
+-- 이관분은 RAW 로 두고, 이후 수정될 때 임계값에 따라 압축된다
+SET @has_content := (SELECT COUNT(*) FROM information_schema.columns
+                     WHERE table_schema = DATABASE() AND table_name = 'posts' AND column_name = 'content');
+
+SET @copy_sql := IF(@has_content > 0,
+    'INSERT INTO post_bodies (id, encoding, original_length, body) SELECT id, ''RAW'', OCTET_LENGTH(content), CAST(content AS BINARY) FROM posts',
+    'DO 0');
+PREPARE stmt FROM @copy_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @drop_sql := IF(@has_content > 0, 'ALTER TABLE posts DROP COLUMN content', 'DO 0');
+PREPARE stmt FROM @drop_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 아카이브된 게시글 본문도 같은 구조로 옮긴다
+INSERT INTO post_bodies_archive (id, encoding, original_length, body, archived_at)
+SELECT id, 'RAW', OCTET_LENGTH(content), CAST(content AS BINARY), archived_at FROM posts_archive;
+
+ALTER TABLE posts_archive DROP COLUMN content;
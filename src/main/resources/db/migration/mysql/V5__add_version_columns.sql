@@ -0,0 +1,63 @@
+-- BaseEntity @Version 컬럼 추가 (낙관적 락 / 조건부 GET ETag)
+-- 기존 행은 0 으로 채워야 Hibernate 가 버전을 비교하고 증가시킬 수 있다
+-- 대상 테이블은 ddl-auto 로 만들어지므로 테이블이 없거나 이미 컬럼이 있으면 건너뜀
+
+SET @add_sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'users') > 0
+                   AND (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'version') = 0,
+    'ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'posts') > 0
+                   AND (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'posts' AND column_name = 'version') = 0,
+    'ALTER TABLE posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'categories') > 0
+                   AND (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'categories' AND column_name = 'version') = 0,
+    'ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'comments') > 0
+                   AND (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'comments' AND column_name = 'version') = 0,
+    'ALTER TABLE comments ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'attachments') > 0
+                   AND (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'attachments' AND column_name = 'version') = 0,
+    'ALTER TABLE attachments ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'user_deletion_jobs') > 0
+                   AND (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'user_deletion_jobs' AND column_name = 'version') = 0,
+    'ALTER TABLE user_deletion_jobs ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,21 @@
+-- 탈퇴 시각 컬럼 추가 (ColdRowArchiver 가 보관 기간 경과 여부를 판단)
+-- 대상 테이블은 ddl-auto 로 만들어지므로 테이블이 없거나 이미 컬럼이 있으면 건너뜀
+-- 이미 탈퇴한 회원은 마지막 수정 시각을 탈퇴 시각으로 채운다 (NULL 이면 아카이브 대상이 되지 않음)
+SET @has_users := (SELECT COUNT(*) FROM information_schema.tables
+                   WHERE table_schema = DATABASE() AND table_name = 'users');
+SET @has_deleted_at := (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'deleted_at');
+
+SET @add_sql := IF(@has_users > 0 AND @has_deleted_at = 0,
+    'ALTER TABLE users ADD COLUMN deleted_at DATETIME(6) NULL',
+    'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @backfill_sql := IF(@has_users > 0 AND @has_deleted_at = 0,
+    'UPDATE users SET deleted_at = COALESCE(updated_at, created_at) WHERE deleted = TRUE AND deleted_at IS NULL',
+    'DO 0');
+PREPARE stmt FROM @backfill_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,118 @@
+package com.board.api;
+
+import com.board.common.RestDocsTestSupport;
+import com.board.global.config.JfrProperties;
+import com.board.global.jfr.JfrRecordingRequest;
+import com.board.global.jfr.JfrRecordingService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("JFR 녹화 관리 API 테스트")
+class AdminJfrControllerTest extends RestDocsTestSupport {
+
+    @Autowired
+    private JfrRecordingService jfrRecordingService;
+
+    @Autowired
+    private JfrProperties jfrProperties;
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordingService.closeAll();
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("JFR 녹화 시작 실패 - ADMIN 이 아니면 403")
+    void startRecording_Forbidden() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(post("/api/admin/jfr/recordings"));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isForbidden());
+        assertThat(jfrRecordingService.getRecordings()).isEmpty();
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    @DisplayName("JFR 녹화 시작 실패 - 동시 녹화 수 초과 시 409")
+    void startRecording_LimitExceeded() throws Exception {
+        // given
+        for (int i = 0; i < jfrProperties.getMaxRecordings(); i++) {
+            startRecording().andExpect(status().isCreated());
+        }
+
+        // when
+        ResultActions result = startRecording();
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("C012"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    @DisplayName("JFR 녹화 시작 / 중지 / 다운로드 / 삭제 - 다운로드한 덤프 파일은 남지 않음")
+    void recording_Lifecycle() throws Exception {
+        // given
+        JsonNode started = objectMapper.readTree(startRecording()
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("data");
+        long id = started.get("id").asLong();
+
+        // when
+        mockMvc.perform(post("/api/admin/jfr/recordings/{recordingId}/stop", id))
+                .andExpect(status().isOk());
+        MvcResult download = mockMvc.perform(get("/api/admin/jfr/recordings/{recordingId}/file", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"board-" + id + ".jfr\""))
+                .andReturn();
+        mockMvc.perform(delete("/api/admin/jfr/recordings/{recordingId}", id))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(download.getResponse().getContentAsByteArray()).isNotEmpty();
+        assertThat(dumpFiles(id)).isZero();
+        mockMvc.perform(get("/api/admin/jfr/recordings/{recordingId}/file", id))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("C011"));
+    }
+
+    private ResultActions startRecording() throws Exception {
+        return mockMvc.perform(post("/api/admin/jfr/recordings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new JfrRecordingRequest("default", 60L, null))));
+    }
+
+    private long dumpFiles(long id) throws Exception {
+        Path directory = Path.of(jfrProperties.getDumpDirectory());
+        if (Files.notExists(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("board-" + id + "-")).count();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.board.api;
+
+import com.board.common.RestDocsTestSupport;
+import com.board.domain.attachment.repository.AttachmentRepository;
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.config.AttachmentProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("첨부파일 API 테스트")
+class AttachmentControllerTest extends RestDocsTestSupport {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private AttachmentProperties attachmentProperties;
+
+    private Post post;
+
+    private DataSize defaultMaxFileSize;
+
+    @BeforeEach
+    void setUpData() {
+        User author = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("encodedPassword")
+                .nickname("테스터")
+                .role(Role.USER)
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        post = postRepository.saveAndFlush(Post.builder()
+                .title("게시글 제목")
+                .author(author)
+                .category(category)
+                .build());
+        postBodyRepository.saveAndFlush(postBodyCodec.encode(post.getId(), "게시글 내용"));
+        userRepository.save(User.builder()
+                .email("other@example.com")
+                .password("encodedPassword")
+                .nickname("다른사용자")
+                .role(Role.USER)
+                .build());
+        defaultMaxFileSize = attachmentProperties.getMaxFileSize();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        attachmentProperties.setMaxFileSize(defaultMaxFileSize);
+        attachmentRepository.deleteAll();
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+        // 파일 삭제는 커밋 이후에만 일어나므로 (테스트 트랜잭션은 롤백) 저장 디렉터리를 직접 지운다
+        FileSystemUtils.deleteRecursively(Path.of(attachmentProperties.getStoragePath()));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("첨부파일 업로드 성공 - 요청 본문을 그대로 저장")
+    void upload_Success() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts/{postId}/attachments", post.getId())
+                .param("filename", "notes.txt")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(CONTENT));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.filename").value("notes.txt"))
+                .andExpect(jsonPath("$.data.contentType").value(MediaType.TEXT_PLAIN_VALUE))
+                .andExpect(jsonPath("$.data.size").value(CONTENT.length))
+                .andDo(document("attachment/upload",
+                        pathParameters(
+                                parameterWithName("postId").description("게시글 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("filename").description("원본 파일 이름 (255자 이하)")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").description("성공 여부"),
+                                fieldWithPath("message").description("응답 메시지"),
+                                fieldWithPath("data").description("응답 데이터"),
+                                fieldWithPath("data.id").description("첨부파일 ID"),
+                                fieldWithPath("data.postId").description("게시글 ID"),
+                                fieldWithPath("data.filename").description("원본 파일 이름"),
+                                fieldWithPath("data.contentType").description("Content-Type"),
+                                fieldWithPath("data.size").description("크기 (바이트)"),
+                                fieldWithPath("data.checksum").description("SHA-256 (hex)"),
+                                fieldWithPath("data.createdAt").description("업로드 일시"),
+                                fieldWithPath("timestamp").description("응답 시간")
+                        )
+                ));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("첨부파일 업로드 실패 - 최대 크기 초과 시 413")
+    void upload_TooLarge() throws Exception {
+        // given
+        attachmentProperties.setMaxFileSize(DataSize.ofBytes(CONTENT.length - 1));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts/{postId}/attachments", post.getId())
+                .param("filename", "notes.txt")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(CONTENT));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.code").value("F002"));
+        assertThat(attachmentRepository.count()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = "other@example.com")
+    @DisplayName("첨부파일 업로드 실패 - 게시글 작성자가 아니면 403")
+    void upload_NotAuthor() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts/{postId}/attachments", post.getId())
+                .param("filename", "notes.txt")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content(CONTENT));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("C006"));
+        assertThat(attachmentRepository.count()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = "other@example.com")
+    @DisplayName("첨부파일 삭제 실패 - 게시글 작성자가 아니면 403")
+    void delete_NotAuthor() throws Exception {
+        // given
+        long attachmentId = upload();
+
+        // when
+        ResultActions result = mockMvc.perform(delete("/api/v1/posts/{postId}/attachments/{attachmentId}",
+                post.getId(), attachmentId));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("C006"));
+        mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}", post.getId(), attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("첨부파일 다운로드 - Range 요청 시 206")
+    void download_PartialContent() throws Exception {
+        // given
+        long attachmentId = upload();
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}",
+                post.getId(), attachmentId)
+                .header(HttpHeaders.RANGE, "bytes=10-14"));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-14/" + CONTENT.length))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().string("abcde"))
+                .andDo(document("attachment/download-range",
+                        pathParameters(
+                                parameterWithName("postId").description("게시글 ID"),
+                                parameterWithName("attachmentId").description("첨부파일 ID")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.RANGE).description("단일 바이트 범위")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.CONTENT_RANGE).description("전송한 범위 / 전체 크기"),
+                                headerWithName(HttpHeaders.ACCEPT_RANGES).description("bytes"),
+                                headerWithName(HttpHeaders.ETAG).description("내용 해시 기반 ETag"),
+                                headerWithName(HttpHeaders.CONTENT_DISPOSITION).description("원본 파일 이름")
+                        )
+                ));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("첨부파일 다운로드 - 파일 크기를 벗어난 Range 요청 시 416")
+    void download_RangeNotSatisfiable() throws Exception {
+        // given
+        long attachmentId = upload();
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}",
+                post.getId(), attachmentId)
+                .header(HttpHeaders.RANGE, "bytes=" + CONTENT.length + "-"));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("첨부파일 다운로드 - If-None-Match 일치 시 304")
+    void download_NotModified() throws Exception {
+        // given
+        long attachmentId = upload();
+        String eTag = mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}",
+                        post.getId(), attachmentId))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}/attachments/{attachmentId}",
+                post.getId(), attachmentId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    /**
+     * 게시글 작성자로 업로드 (테스트의 인증 사용자와 무관)
+     */
+    private long upload() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/posts/{postId}/attachments", post.getId())
+                        .with(user("test@example.com"))
+                        .param("filename", "notes.txt")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(CONTENT))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode data = objectMapper.readTree(body).get("data");
+        return data.get("id").asLong();
+    }
+}
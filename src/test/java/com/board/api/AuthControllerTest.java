@@ -6,6 +6,8 @@ import com.board.domain.user.dto.SignUpRequest;
 import com.board.domain.user.entity.Role;
 import com.board.domain.user.entity.User;
 import com.board.domain.user.repository.UserRepository;
+import com.board.global.sql.SqlStatementType;
+import com.board.global.sql.SqlStatisticsRecorder;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -126,6 +129,34 @@ class AuthControllerTest extends RestDocsTestSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("로그인은 SELECT 1회 이내로 처리된다")
+    void login_QueryBudget() throws Exception {
+        // given
+        User user = User.builder()
+                .email("test@example.com")
+                .password("Test1234!")
+                .nickname("테스터")
+                .role(Role.USER)
+                .build();
+        user.encodePassword(passwordEncoder);
+        userRepository.save(user);
+
+        LoginRequest request = new LoginRequest("test@example.com", "Test1234!");
+
+        // when
+        try (SqlStatisticsRecorder.Scope scope = SqlStatisticsRecorder.start()) {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+
+            // then
+            assertThat(scope.statistics().count(SqlStatementType.SELECT)).isLessThanOrEqualTo(1);
+            assertThat(scope.statistics().getTotal()).isLessThanOrEqualTo(1);
+        }
+    }
+
     @Test
     @DisplayName("토큰 재발급 성공")
     void refreshToken_Success() throws Exception {
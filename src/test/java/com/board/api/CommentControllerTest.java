@@ -0,0 +1,157 @@
+package com.board.api;
+
+import com.board.common.RestDocsTestSupport;
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.comment.dto.CommentCreateRequest;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("댓글 API 테스트")
+class CommentControllerTest extends RestDocsTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUpData() {
+        author = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("encodedPassword")
+                .nickname("테스터")
+                .role(Role.USER)
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        post = postRepository.saveAndFlush(Post.builder()
+                .title("게시글 제목")
+                .author(author)
+                .category(category)
+                .build());
+        postBodyRepository.saveAndFlush(postBodyCodec.encode(post.getId(), "게시글 내용"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("댓글 작성 성공")
+    void createComment_Success() throws Exception {
+        // given
+        CommentCreateRequest request = new CommentCreateRequest("댓글 내용", null);
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts/{postId}/comments", post.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.content").value("댓글 내용"))
+                .andExpect(jsonPath("$.data.postId").value(post.getId()))
+                .andDo(document("comment/create",
+                        pathParameters(
+                                parameterWithName("postId").description("게시글 ID")
+                        ),
+                        requestFields(
+                                fieldWithPath("content").description("내용 (1000자 이하)"),
+                                fieldWithPath("parentId").description("부모 댓글 ID (대댓글인 경우)").optional()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 성공")
+    void getComments_Success() throws Exception {
+        // given
+        saveComment("첫 번째 댓글");
+        saveComment("두 번째 댓글");
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}/comments", post.getId())
+                .param("size", "1"));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].content").value("첫 번째 댓글"))
+                .andExpect(jsonPath("$.data.pageable.hasNext").value(true))
+                .andDo(document("comment/list",
+                        pathParameters(
+                                parameterWithName("postId").description("게시글 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("size").description("페이지 크기 (기본 50)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("댓글 스트림 - 인증 없이 구독 시 거부")
+    void streamComments_Fail_Unauthenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/{postId}/comments/stream", post.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    private Comment saveComment(String content) {
+        return commentRepository.saveAndFlush(Comment.builder()
+                .content(content)
+                .post(post)
+                .author(author)
+                .build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.board.api;
+
+import com.board.common.RestDocsTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 문서 정적 리소스 테스트")
+class DocsResourceTest extends RestDocsTestSupport {
+
+    private static final String CSS = "body { color: #333; }";
+
+    private static Path docsDir;
+
+    @DynamicPropertySource
+    static void docsLocation(DynamicPropertyRegistry registry) throws IOException {
+        docsDir = Files.createTempDirectory("board-test-docs");
+        Files.writeString(docsDir.resolve("guide.css"), CSS);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(docsDir.resolve("guide.css.gz")))) {
+            out.write(CSS.getBytes(StandardCharsets.UTF_8));
+        }
+        registry.add("static-resources.docs.location", () -> docsDir.toUri().toString());
+    }
+
+    @AfterAll
+    static void deleteDocsDir() throws IOException {
+        FileSystemUtils.deleteRecursively(docsDir);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 이 맞으면 사전 압축본을 Content-Encoding 과 함께 응답")
+    void getDocs_Precompressed() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/docs/guide.css")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    @Test
+    @DisplayName("압축을 받지 않는 클라이언트에는 원본, 버전 없는 URL 이므로 장기 캐시하지 않음")
+    void getDocs_Identity() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/docs/guide.css"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(content().string(CSS));
+    }
+}
@@ -0,0 +1,440 @@
+package com.board.api;
+
+import com.board.common.RestDocsTestSupport;
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.dto.PostCreateRequest;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.post.service.PostFeedCache;
+import com.board.domain.post.service.PostListVersion;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.sql.SqlStatisticsRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("게시글 API 테스트")
+class PostControllerTest extends RestDocsTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @Autowired
+    private PostFeedCache postFeedCache;
+
+    @Autowired
+    private PostListVersion postListVersion;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    void setUpData() {
+        author = userRepository.save(User.builder()
+                .email("test@example.com")
+                .password("encodedPassword")
+                .nickname("테스터")
+                .role(Role.USER)
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("게시글 작성 성공")
+    void createPost_Success() throws Exception {
+        // given
+        PostCreateRequest request = new PostCreateRequest("게시글 제목", "게시글 내용", category.getId());
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.title").value("게시글 제목"))
+                .andExpect(jsonPath("$.data.authorNickname").value("테스터"))
+                .andDo(document("post/create",
+                        requestFields(
+                                fieldWithPath("title").description("제목 (2-200자)"),
+                                fieldWithPath("content").description("내용"),
+                                fieldWithPath("categoryId").description("카테고리 ID")
+                        )
+                ));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("게시글 작성 시 본문은 SELECT 없이 저장")
+    void createPost_PersistsBodyWithoutSelect() throws Exception {
+        // given
+        PostCreateRequest request = new PostCreateRequest("게시글 제목", "게시글 내용", category.getId());
+
+        // when
+        try (SqlStatisticsRecorder.Scope scope = SqlStatisticsRecorder.start()) {
+            mockMvc.perform(post("/api/v1/posts")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+
+            // then - id 를 직접 넣어도 merge 의 존재 확인 SELECT 가 없음
+            assertThat(scope.statistics().getCountsBySql().keySet())
+                    .noneMatch(sql -> sql.toLowerCase().contains("from post_bodies"));
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 성공 - ETag 반환")
+    void getPost_Success() throws Exception {
+        // given
+        Post post = savePost("게시글 제목");
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}", post.getId()));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data.id").value(post.getId()))
+                .andExpect(jsonPath("$.data.content").value("게시글 내용"))
+                .andDo(document("post/get",
+                        pathParameters(
+                                parameterWithName("postId").description("게시글 ID")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("게시글 버전 기반 ETag (조건부 조회용)")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").description("성공 여부"),
+                                fieldWithPath("data").description("응답 데이터"),
+                                fieldWithPath("data.id").description("게시글 ID"),
+                                fieldWithPath("data.title").description("제목"),
+                                fieldWithPath("data.content").description("내용"),
+                                fieldWithPath("data.authorId").description("작성자 ID"),
+                                fieldWithPath("data.authorNickname").description("작성자 닉네임"),
+                                fieldWithPath("data.categoryId").description("카테고리 ID"),
+                                fieldWithPath("data.categoryName").description("카테고리명"),
+                                fieldWithPath("data.viewCount").description("조회수"),
+                                fieldWithPath("data.likeCount").description("좋아요 수"),
+                                fieldWithPath("data.dislikeCount").description("싫어요 수"),
+                                fieldWithPath("data.createdAt").description("작성 일시"),
+                                fieldWithPath("data.updatedAt").description("수정 일시"),
+                                fieldWithPath("timestamp").description("응답 시간")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - If-None-Match 일치 시 304")
+    void getPost_NotModified() throws Exception {
+        // given
+        Post post = savePost("게시글 제목");
+        String eTag = mockMvc.perform(get("/api/v1/posts/{postId}", post.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}", post.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""))
+                .andDo(document("post/get-not-modified",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 수정 후에는 새 ETag 로 200")
+    void getPost_ModifiedAfterUpdate() throws Exception {
+        // given
+        Post post = savePost("게시글 제목");
+        String eTag = mockMvc.perform(get("/api/v1/posts/{postId}", post.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        post.update("수정된 제목");
+        postRepository.flush();
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts/{postId}", post.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("수정된 제목"));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 성공 - 워터마크 ETag 로 304")
+    void getPosts_NotModified() throws Exception {
+        // given
+        savePost("첫 번째 글");
+        savePost("두 번째 글");
+        String eTag = mockMvc.perform(get("/api/v1/posts")
+                        .param("categoryId", String.valueOf(category.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.pageable.totalElements").value(2))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions result;
+        try (SqlStatisticsRecorder.Scope scope = SqlStatisticsRecorder.start()) {
+            result = mockMvc.perform(get("/api/v1/posts")
+                    .param("categoryId", String.valueOf(category.getId()))
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // then - 목록 버전만으로 판단 (목록/카운터/COUNT 조회 없음)
+            assertThat(scope.statistics().getTotal()).isZero();
+        }
+        result.andDo(print())
+                .andExpect(status().isNotModified())
+                .andDo(document("post/list-not-modified",
+                        queryParameters(
+                                parameterWithName("categoryId").description("카테고리 ID (선택)")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 목록 응답의 ETag")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 목록 버전이 오르면 (댓글 수 변화 등) 새 ETag 로 200")
+    void getPosts_ModifiedAfterVersionBump() throws Exception {
+        // given
+        savePost("첫 번째 글");
+        String eTag = mockMvc.perform(get("/api/v1/posts")
+                        .param("categoryId", String.valueOf(category.getId())))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        postListVersion.bump(category.getId());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts")
+                .param("categoryId", String.valueOf(category.getId()))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - countMode=NONE 이면 전체 개수 없이 다음 페이지 여부만 반환")
+    void getPosts_CountModeNone() throws Exception {
+        // given
+        savePost("첫 번째 글");
+        savePost("두 번째 글");
+        savePost("세 번째 글");
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/posts")
+                .param("countMode", "NONE")
+                .param("size", "2"));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.pageable.hasNext").value(true))
+                .andExpect(jsonPath("$.data.pageable.countMode").value("NONE"))
+                .andExpect(jsonPath("$.data.pageable.totalElements").doesNotExist())
+                .andDo(document("post/list",
+                        queryParameters(
+                                parameterWithName("countMode").description("전체 개수 계산 방식 (EXACT: 기본값, 캐시된 COUNT / ESTIMATED: 카운터 기반 / NONE: 다음 페이지 여부만)"),
+                                parameterWithName("size").description("페이지 크기 (기본 20)")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("data.content").description("게시글 목록 (본문 제외)"),
+                                fieldWithPath("data.pageable.pageNumber").description("페이지 번호"),
+                                fieldWithPath("data.pageable.pageSize").description("페이지 크기"),
+                                fieldWithPath("data.pageable.hasNext").description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.pageable.countMode").description("사용된 카운트 방식 (EXACT/ESTIMATED 인 경우 totalPages, totalElements 포함)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("피드 조회 - 링이 덮는 첫 페이지에서 DB 로 커서가 끊김 없이 이어짐")
+    void getFeed_ContinuesFromRingToDatabase() throws Exception {
+        // given - 테스트 링 크기 3, 게시글 5개
+        List<Long> newestFirst = IntStream.range(0, 5)
+                .mapToObj(i -> savePost("게시글 " + i).getId())
+                .sorted((a, b) -> Long.compare(b, a))
+                .toList();
+        postFeedCache.refreshAll();
+        Counter ringHits = meterRegistry.counter("post.feed.requests", "source", "ring");
+        double ringHitsBefore = ringHits.count();
+
+        // when
+        ResultActions firstPage = mockMvc.perform(get("/api/v1/posts/feed")
+                .param("categoryId", category.getId().toString())
+                .param("size", "2"));
+        JsonNode first = objectMapper.readTree(firstPage.andReturn().getResponse().getContentAsString()).get("data");
+        JsonNode second = feedPage(first.get("nextCursor").asText());
+        JsonNode third = feedPage(second.get("nextCursor").asText());
+
+        // then
+        firstPage.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andDo(document("post/feed",
+                        queryParameters(
+                                parameterWithName("categoryId").description("카테고리 ID"),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                parameterWithName("size").description("페이지 크기 (1-100, 기본 20)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("success").description("성공 여부"),
+                                subsectionWithPath("data.content[]").description("최신순 게시글 요약 (목록 조회와 같은 항목)"),
+                                fieldWithPath("data.nextCursor").description("다음 페이지 커서 (마지막 페이지면 null)"),
+                                fieldWithPath("data.hasNext").description("다음 페이지 여부"),
+                                fieldWithPath("message").description("응답 메시지").optional(),
+                                fieldWithPath("timestamp").description("응답 시간")
+                        )
+                ));
+        assertThat(ringHits.count() - ringHitsBefore).isEqualTo(1);
+        assertThat(List.of(ids(first), ids(second), ids(third))).containsExactly(
+                newestFirst.subList(0, 2), newestFirst.subList(2, 4), newestFirst.subList(4, 5));
+        assertThat(third.get("hasNext").asBoolean()).isFalse();
+        assertThat(third.path("nextCursor").isTextual()).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 카테고리 최신순 첫 페이지는 피드 링에서, 다음 페이지는 DB 에서")
+    void getPosts_FirstCategoryPageFromRing() throws Exception {
+        // given - 테스트 링 크기 3, 게시글 5개
+        List<Long> newestFirst = IntStream.range(0, 5)
+                .mapToObj(i -> savePost("게시글 " + i).getId())
+                .sorted((a, b) -> Long.compare(b, a))
+                .toList();
+        postFeedCache.refreshAll();
+        Counter ringHits = meterRegistry.counter("post.feed.requests", "source", "ring");
+        double ringHitsBefore = ringHits.count();
+
+        // when
+        JsonNode first = postsPage(0);
+        JsonNode second = postsPage(1);
+
+        // then
+        assertThat(ringHits.count() - ringHitsBefore).isEqualTo(1);
+        assertThat(ids(first)).isEqualTo(newestFirst.subList(0, 2));
+        assertThat(ids(second)).containsExactlyInAnyOrderElementsOf(newestFirst.subList(2, 4));
+    }
+
+    private JsonNode postsPage(int page) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/posts")
+                        .param("categoryId", category.getId().toString())
+                        .param("countMode", "NONE")
+                        .param("page", String.valueOf(page))
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+
+    private JsonNode feedPage(String cursor) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/posts/feed")
+                        .param("categoryId", category.getId().toString())
+                        .param("cursor", cursor)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+
+    private List<Long> ids(JsonNode page) {
+        return IntStream.range(0, page.get("content").size())
+                .mapToObj(i -> page.get("content").get(i).get("id").asLong())
+                .toList();
+    }
+
+    private Post savePost(String title) {
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .title(title)
+                .author(author)
+                .category(category)
+                .build());
+        postBodyRepository.saveAndFlush(postBodyCodec.encode(post.getId(), "게시글 내용"));
+        return post;
+    }
+}
@@ -0,0 +1,180 @@
+package com.board.api;
+
+import com.board.common.RestDocsTestSupport;
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("회원 API 테스트")
+class UserControllerTest extends RestDocsTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 일괄 조회 성공 - 요청 순서 유지, 없는 사용자 제외")
+    void getUsers_Success() throws Exception {
+        // given
+        User first = userRepository.save(user("first@example.com", "첫번째"));
+        User second = userRepository.save(user("second@example.com", "두번째"));
+        String ids = second.getId() + "," + first.getId() + ",999999";
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/users").param("ids", ids));
+
+        // then
+        result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.data[0].nickname").value("두번째"))
+                .andExpect(jsonPath("$.data[1].id").value(first.getId()))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist())
+                .andDo(document("user/get-users",
+                        queryParameters(
+                                parameterWithName("ids").description("조회할 사용자 ID 목록 (쉼표 구분, 최대 100개)")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").description("성공 여부"),
+                                fieldWithPath("data[]").description("요청 순서대로 정렬된 사용자 요약 (없거나 탈퇴한 사용자 제외)"),
+                                fieldWithPath("data[].id").description("사용자 ID"),
+                                fieldWithPath("data[].nickname").description("닉네임"),
+                                fieldWithPath("data[].role").description("역할 (USER, ADMIN)"),
+                                fieldWithPath("data[].createdAt").description("가입 일시"),
+                                fieldWithPath("message").description("응답 메시지").optional(),
+                                fieldWithPath("timestamp").description("응답 시간")
+                        )
+                ));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("내 데이터 내보내기 성공 - 사용자, 게시글, 댓글 순서의 NDJSON")
+    void export_Success() throws Exception {
+        // given
+        User me = userRepository.save(user("test@example.com", "테스터"));
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .title("게시글 제목")
+                .author(me)
+                .category(category)
+                .build());
+        postBodyRepository.saveAndFlush(postBodyCodec.encode(post.getId(), "게시글 내용"));
+        Comment parent = commentRepository.save(Comment.builder().content("댓글").post(post).author(me).build());
+        commentRepository.saveAndFlush(Comment.builder().content("답글").post(post).author(me).parent(parent).build());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/users/me/export"));
+
+        // then
+        String[] lines = result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andDo(document("user/export"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(objectMapper.readTree(lines[0]).get("email").asText()).isEqualTo("test@example.com");
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("게시글 내용");
+        assertThat(objectMapper.readTree(lines[2]).has("parentId")).isFalse();
+        assertThat(objectMapper.readTree(lines[3]).get("parentId").asLong()).isEqualTo(parent.getId());
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("내 데이터 내보내기 - 본문이 없는 게시글도 빈 content 로 포함")
+    void export_PostWithoutBody() throws Exception {
+        // given
+        User me = userRepository.save(user("test@example.com", "테스터"));
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .title("본문 없는 게시글")
+                .author(me)
+                .category(category)
+                .build());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/users/me/export"));
+
+        // then
+        String[] lines = result.andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(post.getId());
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEmpty();
+    }
+
+    private User user(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .nickname(nickname)
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.board.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.cumulative.CumulativeCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StampedeProtectedCache 테스트")
+class StampedeProtectedCacheTest {
+
+    private static final int CALLERS = 8;
+
+    private final AtomicLong now = new AtomicLong(0);
+    private volatile double random = 0.5;
+    // 캐시에 값이 저장될 때 / 동시 미스가 합류할 때 내려가는 래치 - sleep 없이 순서를 맞춘다
+    private volatile CountDownLatch stored = new CountDownLatch(1);
+    private final CountDownLatch collapsed = new CountDownLatch(CALLERS - 1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private StampedeProtectedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry() {
+            @Override
+            protected Counter newCounter(Meter.Id id) {
+                if (!id.getName().equals("cache.stampede.collapsed")) {
+                    return super.newCounter(id);
+                }
+                return new CumulativeCounter(id) {
+                    @Override
+                    public void increment(double amount) {
+                        super.increment(amount);
+                        collapsed.countDown();
+                    }
+                };
+            }
+        };
+        executor = Executors.newFixedThreadPool(CALLERS);
+        // TTL 10초 중 마지막 2초가 stale 구간
+        cache = new StampedeProtectedCache(
+                new ConcurrentMapCache("test") {
+                    @Override
+                    public void put(Object key, Object value) {
+                        super.put(key, value);
+                        stored.countDown();
+                    }
+                },
+                Duration.ofSeconds(10),
+                0.2,
+                1.0,
+                Duration.ofMillis(50),
+                executor,
+                meterRegistry,
+                now::get,
+                () -> random);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 키의 동시 미스는 한 번만 로드")
+    void get_CollapsesConcurrentMisses() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> cache.get("key", () -> {
+                loads.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return "value";
+            })));
+        }
+        assertThat(collapsed.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.stampede.collapsed", "cache", "test").count())
+                .isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("성공: stale 구간에서 갱신이 느리면 이전 값을 응답하고 갱신 결과는 저장")
+    void get_ServesStaleWhileRevalidating() throws Exception {
+        // given
+        cache.put("key", "old");
+        now.set(Duration.ofSeconds(9).toMillis());
+        CountDownLatch release = new CountDownLatch(1);
+        stored = new CountDownLatch(1);
+
+        // when
+        String value = cache.get("key", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "new";
+        });
+        release.countDown();
+
+        // then
+        assertThat(value).isEqualTo("old");
+        assertThat(meterRegistry.counter("cache.stampede.stale_served", "cache", "test").count()).isEqualTo(1);
+        assertThat(stored.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.get("key", String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("성공: XFetch - 만료가 가깝고 난수가 작으면 신선한 값을 응답하면서 백그라운드로 미리 갱신")
+    void get_RefreshesEarly() throws Exception {
+        // given - 신선 구간 8초, 로드 소요 시간(delta) 은 1ms 이상
+        cache.get("key", () -> "v1");
+        now.set(7_900);
+        random = 1e-300; // -ln(random) ~ 690 -> now + delta * 690 >= 8000
+        stored = new CountDownLatch(1);
+
+        // when
+        String value = cache.get("key", () -> "v2");
+
+        // then
+        assertThat(value).isEqualTo("v1");
+        assertThat(stored.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.get("key", String.class)).isEqualTo("v2");
+        assertThat(meterRegistry.counter("cache.stampede.early_refresh", "cache", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: XFetch - 난수가 크면 만료 전에는 갱신하지 않음")
+    void get_SkipsEarlyRefresh() {
+        // given
+        cache.get("key", () -> "v1");
+        now.set(7_900);
+        random = 0.99; // -ln(random) ~ 0.01
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String value = cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "v2";
+        });
+
+        // then
+        assertThat(value).isEqualTo("v1");
+        assertThat(loads.get()).isZero();
+        assertThat(meterRegistry.counter("cache.stampede.early_refresh", "cache", "test").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 로더가 null 을 돌려주면 저장하지 않음")
+    void get_DoesNotCacheNull() {
+        // when
+        Object value = cache.get("missing", () -> null);
+
+        // then
+        assertThat(value).isNull();
+        assertThat(cache.get("missing")).isNull();
+    }
+}
@@ -0,0 +1,171 @@
+package com.board.global.concurrency;
+
+import com.board.global.config.ConcurrencyLimitConfig;
+import com.board.global.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimitFilter 테스트")
+class ConcurrencyLimitFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // application.yml 과 같은 선언 순서: auth-write -> write -> read
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.getGroups().put("auth-write", group(List.of("POST"), "/api/auth/**", 1));
+        properties.getGroups().put("write", group(List.of("POST", "PUT", "PATCH", "DELETE"), "/api/**", 4));
+        properties.getGroups().put("read", group(List.of("GET", "HEAD"), "/api/**", 1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitConfig()
+                .concurrencyLimitFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry)
+                .getFilter();
+    }
+
+    @Test
+    @DisplayName("실패: 제한을 넘으면 C010 본문과 Retry-After 로 503, 그룹별 거절 수 증가")
+    void rejectsOverLimitWith503() throws Exception {
+        // given - read 그룹(제한 1) 을 점유한 요청 안에서 같은 그룹 요청이 들어옴
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            nested.add(perform(request("GET", "/api/v1/posts"), okChain()));
+        };
+
+        // when
+        MockHttpServletResponse first = perform(request("GET", "/api/v1/posts"), chain);
+
+        // then
+        MockHttpServletResponse rejected = nested.get(0);
+        assertThat(first.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(rejected.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("\"code\":\"C010\"");
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("concurrency.rejected").tag("group", "read").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("concurrency.rejected").tag("group", "write").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 제외 경로는 제한이 가득 차도 통과")
+    void excludedPathBypassesLimit() throws Exception {
+        // given - read 그룹 점유 중에 헬스 체크 호출
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        FilterChain chain = (request, response) -> nested.add(perform(request("GET", "/api/health"), okChain()));
+
+        // when
+        perform(request("GET", "/api/v1/posts"), chain);
+
+        // then
+        assertThat(nested.get(0).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 선언 순서대로 처음 일치하는 그룹 적용 (auth-write 가 write 보다 먼저)")
+    void firstMatchingGroupWins() throws Exception {
+        // given
+        Map<String, Double> inFlight = new HashMap<>();
+        FilterChain chain = (request, response) -> {
+            inFlight.put("auth-write", inFlight("auth-write"));
+            inFlight.put("write", inFlight("write"));
+        };
+
+        // when
+        perform(request("POST", "/api/auth/login"), chain);
+
+        // then
+        assertThat(inFlight).containsEntry("auth-write", 1.0).containsEntry("write", 0.0);
+    }
+
+    @Test
+    @DisplayName("성공: 예외가 나도 permit 을 반환하고 제한을 줄임")
+    void releasesPermitOnException() {
+        // given
+        FilterChain chain = (request, response) -> {
+            throw new IllegalStateException("pool exhausted");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> perform(request("POST", "/api/v1/posts"), chain))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(inFlight("write")).isZero();
+        assertThat(meterRegistry.get("concurrency.limit").tag("group", "write").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("성공: 비동기 요청은 디스패치가 끝나면 바로 permit 반환")
+    void releasesPermitOnAsyncDispatch() throws Exception {
+        // given
+        FilterChain chain = (request, response) -> request.startAsync();
+
+        // when
+        MockHttpServletRequest request = request("GET", "/api/v1/posts/1/comments/live");
+        request.setAsyncSupported(true);
+        perform(request, chain);
+
+        // then - 같은 그룹의 다음 요청이 바로 실행되고 제한은 그대로
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(inFlight("read")).isZero();
+        assertThat(meterRegistry.get("concurrency.limit").tag("group", "read").gauge().value()).isEqualTo(1.0);
+        assertThat(perform(request("GET", "/api/v1/posts"), okChain()).getStatus())
+                .isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    private double inFlight(String group) {
+        return meterRegistry.get("concurrency.in_flight").tag("group", group).gauge().value();
+    }
+
+    private FilterChain okChain() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
+        };
+    }
+
+    private MockHttpServletResponse perform(HttpServletRequest request, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static ConcurrencyLimitProperties.Group group(List<String> methods, String path, int limit) {
+        ConcurrencyLimitProperties.Group group = new ConcurrencyLimitProperties.Group();
+        group.setMethods(methods);
+        group.setPaths(List.of(path));
+        group.setInitialLimit(limit);
+        group.setMinLimit(1);
+        group.setMaxLimit(limit * 2);
+        return group;
+    }
+}
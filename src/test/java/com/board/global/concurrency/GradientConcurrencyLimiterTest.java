@@ -0,0 +1,156 @@
+package com.board.global.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GradientConcurrencyLimiter 테스트")
+class GradientConcurrencyLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("실패: 제한을 넘는 요청은 대기 없이 거절")
+    void tryAcquire_RejectsOverLimit() {
+        // given
+        GradientConcurrencyLimiter limiter = limiter(2);
+        Optional<GradientConcurrencyLimiter.Permit> first = limiter.tryAcquire();
+        Optional<GradientConcurrencyLimiter.Permit> second = limiter.tryAcquire();
+
+        // when
+        Optional<GradientConcurrencyLimiter.Permit> third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(third).isEmpty();
+
+        first.get().success();
+        assertThat(limiter.tryAcquire()).isPresent();
+    }
+
+    @Test
+    @DisplayName("성공: 5xx / 예외는 제한을 줄이고 최소값 아래로는 내려가지 않음")
+    void dropped_DecreasesLimit() {
+        // given
+        GradientConcurrencyLimiter limiter = limiter(10);
+
+        // when
+        limiter.tryAcquire().orElseThrow().dropped();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(9);
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().orElseThrow().dropped();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 지연이 허용 배율 안이고 제한 가까이 사용 중이면 제한 증가")
+    void success_GrowsWithinTolerance() {
+        // given - 9건 실행 중 (새 요청 시작 시점 동시 실행 10)
+        GradientConcurrencyLimiter limiter = limiter(10, 2, 100);
+        hold(limiter, 9);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            complete(limiter, FAST);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(15);
+    }
+
+    @Test
+    @DisplayName("성공: 최근 지연이 평소 지연보다 커지면 제한 감소")
+    void success_ShrinksWhenRttRises() {
+        // given - 평소 지연 10ms 를 학습 (동시 실행 1건이라 제한은 그대로)
+        GradientConcurrencyLimiter limiter = limiter(10, 2, 100);
+        for (int i = 0; i < 20; i++) {
+            complete(limiter, FAST);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        hold(limiter, 5);
+
+        // when - 지연이 100ms 로 증가
+        for (int i = 0; i < 5; i++) {
+            complete(limiter, SLOW);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("성공: 제한은 최소/최대값 사이로 제한")
+    void success_ClampsToMinAndMax() {
+        // given
+        GradientConcurrencyLimiter growing = limiter(10, 2, 15);
+        hold(growing, 9);
+        GradientConcurrencyLimiter shrinking = limiter(10, 9, 100);
+        for (int i = 0; i < 20; i++) {
+            complete(shrinking, FAST);
+        }
+        hold(shrinking, 5);
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            complete(growing, FAST);
+            complete(shrinking, SLOW);
+        }
+
+        // then
+        assertThat(growing.getLimit()).isEqualTo(15);
+        assertThat(shrinking.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("성공: 실제 동시 실행이 제한의 절반 미만이면 지연이 좋아도 제한을 늘리지 않음")
+    void success_AppLimitedDoesNotGrow() {
+        // given
+        GradientConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        // when - 한 번에 한 건씩만 실행
+        for (int i = 0; i < 50; i++) {
+            complete(limiter, FAST);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private void complete(GradientConcurrencyLimiter limiter, Duration rtt) {
+        GradientConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+        clock.addAndGet(rtt.toNanos());
+        permit.success();
+    }
+
+    private List<GradientConcurrencyLimiter.Permit> hold(GradientConcurrencyLimiter limiter, int count) {
+        List<GradientConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+        return permits;
+    }
+
+    private GradientConcurrencyLimiter limiter(int initialLimit) {
+        return limiter(initialLimit, 2, 100);
+    }
+
+    private GradientConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new GradientConcurrencyLimiter("test", initialLimit, minLimit, maxLimit, 1.5, 0.2, 0.9, clock::get);
+    }
+}
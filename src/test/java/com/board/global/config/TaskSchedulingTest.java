@@ -0,0 +1,59 @@
+package com.board.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("@Scheduled 스케줄러 스레드 풀 테스트")
+class TaskSchedulingTest {
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    @DisplayName("성공: 긴 관리 작업이 실행 중이어도 짧은 주기 작업(outbox 발행 등) 은 계속 실행")
+    void longRunningJob_DoesNotStallFixedDelayJob() throws Exception {
+        // given - 파티션 아카이브처럼 오래 걸리는 작업이 스케줄러 스레드 하나를 점유
+        CountDownLatch maintenanceStarted = new CountDownLatch(1);
+        CountDownLatch releaseMaintenance = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            maintenanceStarted.countDown();
+            awaitQuietly(releaseMaintenance);
+        }, Instant.now());
+        assertThat(maintenanceStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 발행 주기 작업을 같은 스케줄러에 등록
+        CountDownLatch relayRuns = new CountDownLatch(3);
+        ScheduledFuture<?> relay = taskScheduler.scheduleWithFixedDelay(relayRuns::countDown, Duration.ofMillis(10));
+
+        // then - 관리 작업이 끝나기 전에 여러 번 실행된다
+        try {
+            assertThat(relayRuns.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(releaseMaintenance.getCount()).isEqualTo(1);
+        } finally {
+            relay.cancel(false);
+            releaseMaintenance.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.board.global.config;
+
+import com.board.global.sql.SqlCountingDataSource;
+import com.board.global.tracing.ObservedDataSource;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TracingConfig 커넥션 획득 계측 테스트")
+class TracingConfigTest {
+
+    private final List<String> observations = new ArrayList<>();
+
+    private BeanPostProcessor postProcessor;
+    private DataSource pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                observations.add(context.getName());
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("observationRegistry", registry);
+        postProcessor = TracingConfig.tracingInstrumentationPostProcessor(
+                beanFactory.getBeanProvider(ObservationRegistry.class));
+
+        pool = mock(DataSource.class);
+        given(pool.getConnection()).willReturn(mock(Connection.class));
+    }
+
+    @Test
+    @DisplayName("성공: 단일 풀은 dataSource 자체를 감싼다")
+    void singlePool_WrapsDataSource() throws Exception {
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(pool, "dataSource");
+        ((DataSource) processed).getConnection();
+
+        // then
+        assertThat(processed).isInstanceOf(ObservedDataSource.class);
+        assertThat(observations).containsExactly("jdbc.connection.acquire");
+    }
+
+    @Test
+    @DisplayName("성공: 라우팅 모드는 지연 프록시 뒤에서 첫 쿼리 시점의 실제 획득을 계측")
+    void routing_ObservesTargetBehindLazyProxy() throws Exception {
+        // given - SQL 집계 프록시가 먼저 감싼 경우
+        LazyConnectionDataSourceProxy lazyProxy = lazyProxy();
+        DataSource dataSource = new SqlCountingDataSource(lazyProxy);
+
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+        Connection connection = ((DataSource) processed).getConnection();
+
+        // then - 지연 프록시 획득만으로는 스팬이 없고, 첫 문장에서 풀 획득이 계측된다
+        assertThat(processed).isSameAs(dataSource);
+        assertThat(lazyProxy.getTargetDataSource()).isInstanceOf(ObservedDataSource.class);
+        assertThat(observations).isEmpty();
+
+        connection.createStatement();
+        assertThat(observations).containsExactly("jdbc.connection.acquire");
+    }
+
+    @Test
+    @DisplayName("성공: 여러 번 처리돼도 한 번만 감싼다")
+    void routing_WrapsOnce() {
+        // given
+        LazyConnectionDataSourceProxy lazyProxy = lazyProxy();
+
+        // when
+        postProcessor.postProcessAfterInitialization(lazyProxy, "dataSource");
+        DataSource observed = lazyProxy.getTargetDataSource();
+        postProcessor.postProcessAfterInitialization(lazyProxy, "dataSource");
+
+        // then
+        assertThat(lazyProxy.getTargetDataSource()).isSameAs(observed);
+    }
+
+    private LazyConnectionDataSourceProxy lazyProxy() {
+        LazyConnectionDataSourceProxy lazyProxy = new LazyConnectionDataSourceProxy();
+        lazyProxy.setDefaultAutoCommit(true);
+        lazyProxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        lazyProxy.setTargetDataSource(pool);
+        lazyProxy.afterPropertiesSet();
+        return lazyProxy;
+    }
+}
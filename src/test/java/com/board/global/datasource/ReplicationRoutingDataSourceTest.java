@@ -0,0 +1,128 @@
+package com.board.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB 를 primary / replica 로 사용하는 라우팅 테스트
+ * - 각 DB 의 node 테이블에 자기 이름을 넣어두고, 조회 결과로 어느 쪽으로 라우팅됐는지 확인
+ */
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private static final Duration STICKY_WINDOW = Duration.ofMillis(300);
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTx;
+    private TransactionTemplate readOnlyTx;
+    private final AtomicReference<String> currentUser = new AtomicReference<>("tester@example.com");
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary");
+        replica = h2("routing-replica");
+
+        routingDataSource = new ReplicationRoutingDataSource(
+                primary,
+                Map.of("replica-1", replica),
+                new RecentWriteTracker(STICKY_WINDOW),
+                currentUser::get,
+                Duration.ZERO,
+                null
+        );
+        routingDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.destroy();
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카, 읽기-쓰기 트랜잭션은 primary 로 라우팅")
+    void routeByReadOnlyFlag() {
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWriteTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후에는 같은 사용자의 읽기를 primary 에 고정")
+    void stickToPrimaryAfterWrite() throws InterruptedException {
+        readWriteTx.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE node SET updated = updated + 1"));
+
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        currentUser.set("other@example.com");
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+
+        currentUser.set("tester@example.com");
+        Thread.sleep(STICKY_WINDOW.toMillis() + 100);
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 primary 고정 대상이 아님")
+    void rollbackDoesNotStick() {
+        readWriteTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET updated = updated + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("레플리카 장애 시 primary 로 대체하고 헬스 체크로 제외")
+    void fallbackToPrimaryWhenReplicaDown() {
+        replica.close();
+
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(routingDataSource.isHealthy("replica-1")).isFalse();
+
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.isHealthy("replica-1")).isFalse();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS node");
+        template.execute("CREATE TABLE node (name VARCHAR(20), updated INT)");
+        template.update("INSERT INTO node (name, updated) VALUES (?, 0)", name.replace("routing-", ""));
+        return dataSource;
+    }
+}
@@ -0,0 +1,301 @@
+package com.board.global.idempotency;
+
+import com.board.global.config.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyProperties properties;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        filter = new IdempotencyFilter(
+                new LocalIdempotencyStore(properties.getMaxEntries()),
+                properties,
+                new ObjectMapper(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("성공: 같은 키의 재시도는 실행하지 않고 첫 응답을 재생")
+    void replaysFirstResponse() throws Exception {
+        // given
+        FilterChain chain = signUpChain(null);
+
+        // when
+        MockHttpServletResponse first = perform(request("key-1", "{\"email\":\"a@b.c\"}"), chain);
+        MockHttpServletResponse second = perform(request("key-1", "{\"email\":\"a@b.c\"}"), chain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("실패: 같은 키로 본문이 다른 요청은 422")
+    void rejectsReusedKeyWithDifferentBody() throws Exception {
+        // given
+        FilterChain chain = signUpChain(null);
+        perform(request("key-1", "{\"email\":\"a@b.c\"}"), chain);
+
+        // when
+        MockHttpServletResponse response = perform(request("key-1", "{\"email\":\"x@y.z\"}"), chain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("성공: 동시 중복 요청은 먼저 온 실행을 기다린 뒤 같은 응답을 받음")
+    void concurrentDuplicatesWaitForInFlight() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = signUpChain(release);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<MockHttpServletResponse> first = executor.submit(() -> perform(request("key-1", "{}"), chain));
+            Thread.sleep(100);
+            Future<MockHttpServletResponse> second = executor.submit(() -> perform(request("key-1", "{}"), chain));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(first.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+            assertThat(second.get(1, TimeUnit.SECONDS).getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 본문 길이를 모르는 요청은 저장/재생 없이 매번 실행")
+    void passesThroughWhenBodyCannotBeFingerprinted() throws Exception {
+        // given
+        FilterChain chain = signUpChain(null);
+        MockHttpServletRequest chunked = chunked(request("key-1", "{\"email\":\"a@b.c\"}"));
+        perform(chunked, chain);
+
+        // when
+        MockHttpServletResponse second = perform(chunked(request("key-1", "{\"email\":\"x@y.z\"}")), chain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(second.getContentAsString()).contains("x@y.z");
+    }
+
+    @Test
+    @DisplayName("성공: 크기 한도를 넘는 본문도 재생하지 않음")
+    void passesThroughWhenBodyExceedsLimit() throws Exception {
+        // given
+        properties.setMaxBodySize(DataSize.ofBytes(4));
+        FilterChain chain = signUpChain(null);
+        perform(request("key-1", "{\"email\":\"a@b.c\"}"), chain);
+
+        // when
+        MockHttpServletResponse second = perform(request("key-1", "{\"email\":\"x@y.z\"}"), chain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(second.getContentAsString()).contains("x@y.z");
+    }
+
+    @Test
+    @DisplayName("성공: 토큰 발급 경로는 같은 키여도 재생하지 않음")
+    void doesNotReplayTokenEndpoints() throws Exception {
+        // given
+        FilterChain chain = signUpChain(null);
+        MockHttpServletRequest login = request("key-1", "{}");
+        login.setRequestURI("/api/auth/login");
+        perform(login, chain);
+
+        // when
+        MockHttpServletRequest retry = request("key-1", "{}");
+        retry.setRequestURI("/api/auth/login");
+        MockHttpServletResponse second = perform(retry, chain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 저장소 장애 시 재생 없이 매번 실행 (500 으로 막지 않음)")
+    void passesThroughWhenStoreIsDown() throws Exception {
+        // given
+        IdempotencyStore store = mock(IdempotencyStore.class);
+        given(store.find(anyString())).willThrow(new RedisConnectionFailureException("down"));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper(), meterRegistry);
+        FilterChain chain = signUpChain(null);
+
+        // when
+        MockHttpServletResponse first = perform(request("key-1", "{}"), chain);
+        MockHttpServletResponse second = perform(request("key-1", "{}"), chain);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(first.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(meterRegistry.get("idempotency.store.errors").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("성공: 실행 표시에 실패하면 그대로 실행")
+    void passesThroughWhenAcquireFails() throws Exception {
+        // given
+        IdempotencyStore store = mock(IdempotencyStore.class);
+        given(store.tryAcquire(anyString(), any())).willThrow(new RedisConnectionFailureException("down"));
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper(), new SimpleMeterRegistry());
+
+        // when
+        MockHttpServletResponse response = perform(request("key-1", "{}"), signUpChain(null));
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+    }
+
+    @Test
+    @DisplayName("성공: 실행 후 응답 저장 / 표시 해제에 실패해도 응답은 그대로 전달")
+    void deliversResponseWhenCompleteFails() throws Exception {
+        // given
+        IdempotencyStore store = mock(IdempotencyStore.class);
+        given(store.tryAcquire(anyString(), any())).willReturn(true);
+        willThrow(new RedisConnectionFailureException("down")).given(store).complete(anyString(), any(), any());
+        willThrow(new RedisConnectionFailureException("down")).given(store).release(anyString());
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper(), meterRegistry);
+
+        // when
+        MockHttpServletResponse response = perform(request("key-1", "{\"email\":\"a@b.c\"}"), signUpChain(null));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(response.getContentAsString()).contains("a@b.c");
+        assertThat(meterRegistry.get("idempotency.store.errors").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 미리 읽은 본문은 ReadListener 에 바로 전달")
+    void cachedBodySupportsReadListener() throws Exception {
+        // given
+        List<String> callbacks = new ArrayList<>();
+        ServletInputStream input = new CachedBodyRequest(new MockHttpServletRequest(), "{}".getBytes())
+                .getInputStream();
+
+        // when
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                callbacks.add("available:" + input.isReady());
+            }
+
+            @Override
+            public void onAllDataRead() {
+                callbacks.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                callbacks.add("error");
+            }
+        });
+
+        // then
+        assertThat(callbacks).containsExactly("available:true", "done");
+    }
+
+    private FilterChain signUpChain(CountDownLatch release) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(HttpServletResponse.SC_CREATED);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.getWriter().write("{\"id\":" + executions.get() + ",\"request\":" + body + "}");
+        };
+    }
+
+    private MockHttpServletRequest request(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/signup");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * Content-Length 없는 요청 (Transfer-Encoding: chunked)
+     */
+    private MockHttpServletRequest chunked(MockHttpServletRequest request) {
+        return new MockHttpServletRequest(request.getMethod(), request.getRequestURI()) {
+            {
+                addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, request.getHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER));
+                setContentType(request.getContentType());
+                setContent(request.getContentAsByteArray());
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,54 @@
+package com.board.global.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlNormalizer 테스트")
+class SqlNormalizerTest {
+
+    @Test
+    @DisplayName("성공: 숫자/문자열 리터럴만 다른 문장은 같은 키")
+    void normalize_Literals() {
+        // when
+        String first = SqlNormalizer.normalize("select * from users where id = 1 and email = 'a@example.com'");
+        String second = SqlNormalizer.normalize("select * from users where id = 42 and email = 'it''s@example.com'");
+
+        // then
+        assertThat(first)
+                .isEqualTo(second)
+                .isEqualTo("select * from users where id = ? and email = ?");
+    }
+
+    @Test
+    @DisplayName("성공: IN 목록 길이가 달라도 같은 키")
+    void normalize_InListLength() {
+        // when
+        String single = SqlNormalizer.normalize("select * from posts where id in (?)");
+        String bound = SqlNormalizer.normalize("select * from posts where id in (?, ?, ?)");
+        String literal = SqlNormalizer.normalize("select * from posts where id in (1,2,3,4)");
+
+        // then
+        assertThat(bound).isEqualTo(single).isEqualTo(literal).isEqualTo("select * from posts where id in (?)");
+    }
+
+    @Test
+    @DisplayName("성공: 주석과 공백 차이는 무시하고 별칭의 숫자는 유지")
+    void normalize_CommentsWhitespaceAndAliases() {
+        // when
+        String normalized = SqlNormalizer.normalize(
+                "/* select p from Post p */ select p1_0.id\n  from posts p1_0   where p1_0.id = 7");
+
+        // then
+        assertThat(normalized).isEqualTo("select p1_0.id from posts p1_0 where p1_0.id = ?");
+    }
+
+    @Test
+    @DisplayName("성공: 테이블/컬럼이 다른 문장은 다른 키")
+    void normalize_DifferentStatements() {
+        // when & then
+        assertThat(SqlNormalizer.normalize("select * from users where id = 1"))
+                .isNotEqualTo(SqlNormalizer.normalize("select * from posts where id = 1"));
+    }
+}
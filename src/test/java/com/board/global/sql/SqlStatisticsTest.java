@@ -0,0 +1,79 @@
+package com.board.global.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatistics N+1 감지 테스트")
+class SqlStatisticsTest {
+
+    @Test
+    @DisplayName("성공: 파라미터만 다른 SELECT 가 threshold 번 이상이면 반복 문장으로 감지")
+    void getRepeatedStatements_FlagsRepeatedSelect() {
+        // given - 목록 1회 + 작성자 단건 조회 3회 (N+1)
+        SqlStatistics statistics = new SqlStatistics();
+        statistics.record("select * from posts order by id desc limit 20");
+        for (long authorId = 1; authorId <= 3; authorId++) {
+            statistics.record("select * from users where id = " + authorId);
+        }
+
+        // when & then
+        assertThat(statistics.getTotal()).isEqualTo(4);
+        assertThat(statistics.count(SqlStatementType.SELECT)).isEqualTo(4);
+        assertThat(statistics.getRepeatedStatements(3))
+                .containsExactly(Map.entry("select * from users where id = ?", 3));
+        assertThat(statistics.getRepeatedStatements(4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 요청에서 같은 SELECT 가 threshold 번 반복되면 N+1 의심 카운터 증가")
+    void filter_CountsSuspectedNPlusOne() throws Exception {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatisticsFilter filter = new SqlStatisticsFilter(meterRegistry, 3);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/posts");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (long postId = 1; postId <= 3; postId++) {
+                SqlStatisticsRecorder.record("select * from comments where post_id in (" + postId + ", 99)");
+            }
+        });
+
+        // then
+        Counter suspected = meterRegistry.find("sql.n_plus_one.suspected")
+                .tags("method", "GET", "uri", "/api/v1/posts")
+                .counter();
+        assertThat(suspected).isNotNull();
+        assertThat(suspected.count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.server.sql.statements").summary().totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("성공: threshold 미만이면 N+1 의심으로 보지 않음")
+    void filter_BelowThreshold() throws Exception {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatisticsFilter filter = new SqlStatisticsFilter(meterRegistry, 3);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/posts"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    SqlStatisticsRecorder.record("select * from users where id = 1");
+                    SqlStatisticsRecorder.record("select * from users where id = 2");
+                });
+
+        // then
+        assertThat(meterRegistry.find("sql.n_plus_one.suspected").counter()).isNull();
+    }
+}
@@ -0,0 +1,98 @@
+package com.board.global.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TailSamplingSpanExporter 테스트")
+class TailSamplingSpanExporterTest {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final String ROOT_SPAN_ID = "b7ad6b7169203331";
+
+    private SpanExporter delegate;
+    private TailSamplingSpanExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(SpanExporter.class);
+        when(delegate.export(anyCollection())).thenReturn(CompletableResultCode.ofSuccess());
+        // 정상 트레이스는 하나도 보관하지 않도록 비율 0
+        exporter = new TailSamplingSpanExporter(delegate, Duration.ofMillis(500), 0.0,
+                100, Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("성공: 자식 스팬 오류가 있으면 루트가 끝날 때 트레이스 전체를 내보냄")
+    void export_KeepsFailedTrace() {
+        // given
+        SpanData child = span("00f067aa0ba902b7", parent(), 10, StatusData.error());
+        SpanData root = span(ROOT_SPAN_ID, SpanContext.getInvalid(), 20, StatusData.unset());
+
+        // when
+        exporter.export(List.of(child));
+        exporter.export(List.of(root));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SpanData>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(delegate).export(captor.capture());
+        assertThat(captor.getValue()).containsExactly(child, root);
+    }
+
+    @Test
+    @DisplayName("성공: 느린 루트 스팬은 보관하고 빠른 정상 트레이스는 버림")
+    void export_KeepsOnlySlowTrace() {
+        // given
+        SpanData fastRoot = span(ROOT_SPAN_ID, SpanContext.getInvalid(), 20, StatusData.ok());
+
+        // when
+        exporter.export(List.of(fastRoot));
+
+        // then
+        verify(delegate, never()).export(any());
+
+        // when
+        SpanData slowRoot = span(ROOT_SPAN_ID, SpanContext.getInvalid(), 800, StatusData.ok());
+        exporter.export(List.of(slowRoot));
+
+        // then
+        verify(delegate).export(List.of(slowRoot));
+    }
+
+    private SpanContext parent() {
+        return SpanContext.create(TRACE_ID, ROOT_SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault());
+    }
+
+    private SpanData span(String spanId, SpanContext parent, long durationMillis, StatusData status) {
+        SpanData span = mock(SpanData.class);
+        when(span.getTraceId()).thenReturn(TRACE_ID);
+        when(span.getSpanId()).thenReturn(spanId);
+        when(span.getParentSpanContext()).thenReturn(parent);
+        when(span.getStatus()).thenReturn(status);
+        when(span.getStartEpochNanos()).thenReturn(0L);
+        when(span.getEndEpochNanos()).thenReturn(Duration.ofMillis(durationMillis).toNanos());
+        return span;
+    }
+}
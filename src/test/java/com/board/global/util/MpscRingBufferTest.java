@@ -0,0 +1,100 @@
+package com.board.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MpscRingBuffer 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("성공: 크기는 2의 거듭제곱으로 올림")
+    void capacity_RoundsUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<Integer>(3).capacity()).isEqualTo(4);
+        assertThat(new MpscRingBuffer<Integer>(4).capacity()).isEqualTo(4);
+        assertThatThrownBy(() -> new MpscRingBuffer<Integer>(1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실패: 가득 차면 offer 는 대기 없이 false, 꺼낸 만큼 다시 들어감")
+    void offer_ReturnsFalseWhenFull() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+
+        // when
+        boolean overflowed = buffer.offer(3);
+
+        // then
+        assertThat(overflowed).isFalse();
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: drain 은 넣은 순서대로 최대 limit 개만 꺼냄")
+    void drain_RespectsOrderAndLimit() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 1; i <= 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // when
+        int count = buffer.drain(drained::add, 3);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(2);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 여러 생산자가 동시에 넣어도 유실/중복 없음")
+    void offer_ConcurrentProducers() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(producers * perProducer);
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(base + i);
+                }
+                return null;
+            });
+        }
+        startGate.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        Set<Integer> drained = new HashSet<>();
+        buffer.drain(drained::add, Integer.MAX_VALUE);
+        assertThat(drained).hasSize(producers * perProducer);
+    }
+}
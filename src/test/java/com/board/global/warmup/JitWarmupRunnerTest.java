@@ -0,0 +1,136 @@
+package com.board.global.warmup;
+
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.config.WarmupProperties;
+import com.board.global.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("JitWarmupRunner 테스트")
+class JitWarmupRunnerTest {
+
+    private final CountDownLatch encodeStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseEncoder = new CountDownLatch(1);
+
+    private ApplicationAvailabilityBean availability;
+    private WarmupProperties properties;
+    private JitWarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        availability = new ApplicationAvailabilityBean();
+        properties = new WarmupProperties();
+        properties.setTimeBudget(Duration.ofMillis(300));
+        properties.setIterations(1);
+        properties.setPasswordIterations(1);
+        properties.setRepositoryIterations(1);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+        runner = new JitWarmupRunner(
+                properties,
+                mock(JwtTokenProvider.class),
+                new SlowPasswordEncoder(),
+                new ObjectMapper(),
+                mock(UserRepository.class),
+                mock(PostRepository.class),
+                mock(CommentRepository.class),
+                transactionManager,
+                event -> availability.onApplicationEvent((AvailabilityChangeEvent<?>) event));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseEncoder.countDown();
+    }
+
+    @Test
+    @DisplayName("성공: 워밍업이 끝나지 않은 동안 readiness 는 REFUSING_TRAFFIC")
+    void run_RefusesTrafficWhileWarmingUp() throws Exception {
+        // when
+        CompletableFuture<Void> run = CompletableFuture.runAsync(() -> runner.run(new DefaultApplicationArguments()));
+
+        // then - BCrypt 단계에서 멈춰 있는 동안
+        assertThat(encodeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(run).isNotDone();
+
+        run.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("실패: 시간 예산을 넘기면 워밍업이 끝나지 않아도 run 이 반환")
+    void run_ReturnsWhenBudgetExceeded() throws Exception {
+        // given
+        long start = System.nanoTime();
+
+        // when - 인코더는 계속 막혀 있음
+        CompletableFuture.runAsync(() -> runner.run(new DefaultApplicationArguments()))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(encodeStarted.getCount()).isZero();
+        assertThat(releaseEncoder.getCount()).isEqualTo(1);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(properties.getTimeBudget().toMillis());
+    }
+
+    @Test
+    @DisplayName("성공: 비활성화하면 readiness 를 바꾸지 않고 바로 반환")
+    void run_Disabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(availability.getReadinessState()).isNull();
+        assertThat(encodeStarted.getCount()).isEqualTo(1);
+    }
+
+    /**
+     * 풀어 줄 때까지 encode 가 끝나지 않는 인코더 (느린 BCrypt 대역)
+     */
+    private class SlowPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            encodeStarted.countDown();
+            try {
+                releaseEncoder.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.board.domain.user.dto.TokenResponse;
 import com.board.domain.user.dto.UserResponse;
 import com.board.domain.user.entity.Role;
 import com.board.domain.user.entity.User;
+import com.board.domain.user.event.UserChangedEvent;
 import com.board.domain.user.repository.UserRepository;
 import com.board.domain.user.service.AuthService;
 import com.board.global.exception.BusinessException;
@@ -14,9 +15,11 @@ import com.board.global.security.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -44,6 +47,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("실패 1: 회원가입 시 이메일 중복")
     void signUp_Fail_DuplicateEmail() {
@@ -63,6 +69,7 @@ class AuthServiceTest {
                 .hasMessage("Email already exists");
 
         verify(userRepository, never()).save(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -288,6 +295,10 @@ class AuthServiceTest {
         verify(userRepository).existsByEmail(request.getEmail());
         verify(userRepository).existsByNickname(request.getNickname());
         verify(userRepository).save(any(User.class));
+
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChangeType()).isEqualTo(UserChangedEvent.ChangeType.CREATED);
     }
 
     @Test
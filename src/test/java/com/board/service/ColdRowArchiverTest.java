@@ -0,0 +1,171 @@
+package com.board.service;
+
+import com.board.domain.archive.entity.ArchiveTable;
+import com.board.domain.archive.repository.ColdRowArchiveRepository;
+import com.board.domain.archive.service.ColdRowArchiver;
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "archive.retention=30d",
+        "archive.pause-between-batches=0"
+})
+@ActiveProfiles("test")
+@DisplayName("ColdRowArchiver 테스트")
+class ColdRowArchiverTest {
+
+    @Autowired
+    private ColdRowArchiver archiver;
+
+    @Autowired
+    private ColdRowArchiveRepository archiveRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .email("cold@example.com")
+                .password("encodedPassword")
+                .nickname("휴면회원")
+                .role(Role.USER)
+                .build();
+        user.delete();
+        user = userRepository.save(user);
+
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        Post newPost = Post.builder()
+                .title("삭제된 게시글")
+                .author(user)
+                .category(category)
+                .build();
+        newPost.delete();
+        post = postRepository.save(newPost);
+        postBodyRepository.save(postBodyCodec.encode(post.getId(), "내용"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_bodies_archive");
+        jdbcTemplate.update("DELETE FROM posts_archive");
+        jdbcTemplate.update("DELETE FROM users_archive");
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 보관 기간이 지난 삭제 행만 아카이브 테이블로 이동")
+    void run_MovesExpiredRows() {
+        // given - 게시글만 보관 기간 경과
+        backdate("posts", post.getId(), 40);
+        backdate("users", user.getId(), 10);
+
+        // when
+        archiver.run();
+
+        // then
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(count("posts_archive", post.getId())).isEqualTo(1);
+        assertThat(postBodyRepository.findById(post.getId())).isEmpty();
+        assertThat(count("post_bodies_archive", post.getId())).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId())).isPresent();
+        assertThat(count("users_archive", user.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 아카이브된 회원 복구")
+    void restore_FromArchive() {
+        // given
+        backdate("posts", post.getId(), 40);
+        backdate("users", user.getId(), 40);
+        archiver.run();
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+
+        // when
+        userService.restore(user.getId());
+
+        // then
+        User restored = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(restored.isDeleted()).isFalse();
+        assertThat(restored.getEmail()).isEqualTo("cold@example.com");
+        assertThat(count("users_archive", user.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 후보로 잡힌 뒤 삭제가 취소된 행은 옮기지 않음")
+    void archive_SkipsRowsRestoredAfterSelection() {
+        // given
+        backdate("posts", post.getId(), 40);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        List<Long> ids = archiveRepository.findCandidateIds(ArchiveTable.POSTS, 0L, cutoff, 10);
+        assertThat(ids).contains(post.getId());
+        jdbcTemplate.update("UPDATE posts SET deleted_at = NULL WHERE id = ?", post.getId());
+
+        // when
+        int moved = archiveRepository.archive(ArchiveTable.POSTS, ids, cutoff, LocalDateTime.now());
+
+        // then
+        assertThat(moved).isZero();
+        assertThat(postRepository.findById(post.getId())).isPresent();
+        assertThat(count("posts_archive", post.getId())).isZero();
+    }
+
+    private void backdate(String table, Long id, int days) {
+        jdbcTemplate.update("UPDATE " + table + " SET deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(days)), id);
+    }
+
+    private int count(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+}
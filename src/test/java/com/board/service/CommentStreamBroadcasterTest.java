@@ -0,0 +1,166 @@
+package com.board.service;
+
+import com.board.domain.comment.dto.CommentResponse;
+import com.board.domain.comment.service.CommentStreamBroadcaster;
+import com.board.global.config.CommentStreamProperties;
+import com.board.global.sse.SseConnection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CommentStreamBroadcaster 테스트")
+class CommentStreamBroadcasterTest {
+
+    private CommentStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new CommentStreamBroadcaster(
+                new ObjectMapper(), new CommentStreamProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("성공: 한 번 인코딩한 프레임을 모든 구독자가 공유")
+    void broadcast_SharesEncodedFrame() {
+        // given
+        SseConnection first = connection(true);
+        SseConnection second = connection(true);
+        broadcaster.subscribe(1L, first, List::of);
+        broadcaster.subscribe(1L, second, List::of);
+
+        // when
+        broadcaster.broadcast(1L, "frame".getBytes());
+
+        // then
+        ArgumentCaptor<byte[]> firstFrames = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> secondFrames = ArgumentCaptor.forClass(byte[].class);
+        verify(first, times(2)).send(firstFrames.capture());
+        verify(second, times(2)).send(secondFrames.capture());
+        assertThat(firstFrames.getValue()).isSameAs(secondFrames.getValue());
+    }
+
+    @Test
+    @DisplayName("성공: 큐가 가득 찬 느린 구독자는 연결 종료")
+    void broadcast_ClosesSlowConsumer() {
+        // given
+        SseConnection slow = connection(true);
+        broadcaster.subscribe(1L, slow, List::of);
+        given(slow.send(any())).willReturn(false);
+
+        // when
+        broadcaster.broadcast(1L, "frame".getBytes());
+
+        // then
+        verify(slow).close();
+    }
+
+    @Test
+    @DisplayName("성공: 마지막 구독자가 나가면 채널 제거")
+    void unsubscribe_RemovesIdleChannel() {
+        // given
+        SseConnection connection = connection(true);
+        ArgumentCaptor<Runnable> onClose = ArgumentCaptor.forClass(Runnable.class);
+        broadcaster.subscribe(1L, connection, List::of);
+        verify(connection).onClose(onClose.capture());
+        assertThat(broadcaster.getChannelCount()).isEqualTo(1);
+
+        // when
+        onClose.getValue().run();
+
+        // then
+        assertThat(broadcaster.getChannelCount()).isZero();
+        assertThat(broadcaster.getConnectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 재전송 조회 중에 작성된 댓글은 재전송 뒤에 순서대로 전달")
+    void subscribe_DeliversCommentCreatedDuringReplay() {
+        // given - 놓친 댓글(10, 11) 을 조회하는 사이 댓글 12 가 커밋되어 팬아웃됨
+        SseConnection connection = connection(true);
+        byte[] live = "id: 12".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        broadcaster.subscribe(1L, connection, () -> {
+            broadcaster.broadcast(1L, 12L, live);
+            return List.of(comment(10L), comment(11L));
+        });
+
+        // then - 재전송(10, 11) 이 실시간 이벤트(12) 보다 먼저 나간다
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).start();
+        inOrder.verify(connection).send(argThat(frame -> text(frame).startsWith("retry:")));
+        inOrder.verify(connection).send(argThat(frame -> text(frame).startsWith("id: 10\n")));
+        inOrder.verify(connection).send(argThat(frame -> text(frame).startsWith("id: 11\n")));
+        inOrder.verify(connection).send(live);
+        verify(connection, times(4)).send(any());
+    }
+
+    @Test
+    @DisplayName("성공: 재전송에 포함된 댓글의 실시간 이벤트는 한 번만 전달하고 이후는 바로 전달")
+    void subscribe_SkipsBufferedEventAlreadyReplayed() {
+        // given - 댓글 11 이 조회 결과에도 있고 버퍼에도 들어옴
+        SseConnection connection = connection(true);
+        byte[] duplicate = "id: 11".getBytes(StandardCharsets.UTF_8);
+        broadcaster.subscribe(1L, connection, () -> {
+            broadcaster.broadcast(1L, 11L, duplicate);
+            return List.of(comment(10L), comment(11L));
+        });
+
+        // when - 실시간 전환 이후 이벤트
+        byte[] next = "id: 13".getBytes(StandardCharsets.UTF_8);
+        broadcaster.broadcast(1L, 13L, next);
+
+        // then
+        verify(connection, never()).send(duplicate);
+        verify(connection).send(next);
+        verify(connection, times(4)).send(any());
+    }
+
+    @Test
+    @DisplayName("실패: 재전송 조회가 실패하면 연결을 닫고 스트림을 시작하지 않음")
+    void subscribe_ClosesWhenReplayFails() {
+        // given
+        SseConnection connection = connection(true);
+
+        // when
+        broadcaster.subscribe(1L, connection, () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        // then
+        verify(connection).close();
+        verify(connection, never()).start();
+    }
+
+    private CommentResponse comment(Long id) {
+        return CommentResponse.builder().id(id).postId(1L).content("댓글 " + id).build();
+    }
+
+    private static String text(byte[] frame) {
+        return new String(frame, StandardCharsets.UTF_8);
+    }
+
+    private SseConnection connection(boolean accepting) {
+        SseConnection connection = mock(SseConnection.class);
+        given(connection.send(any())).willReturn(accepting);
+        return connection;
+    }
+}
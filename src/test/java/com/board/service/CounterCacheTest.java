@@ -0,0 +1,117 @@
+package com.board.service;
+
+import com.board.global.config.CounterCacheProperties;
+import com.board.global.counter.CounterCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CounterCache 테스트")
+class CounterCacheTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private CounterCache counterCache;
+    private final List<Set<String>> loaderCalls = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        counterCache = new CounterCache(redisTemplate, new CounterCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("성공: 모든 키가 캐시에 있으면 loader 와 write-back 없이 반환")
+    void getAll_AllHits() {
+        // given
+        given(valueOperations.multiGet(List.of("counter:post:1:views", "counter:post:2:views")))
+                .willReturn(List.of("10", "20"));
+
+        // when
+        Map<String, Long> values = counterCache.getAll(List.of("post:1:views", "post:2:views"), loader(Map.of()));
+
+        // then
+        assertThat(values).containsEntry("post:1:views", 10L).containsEntry("post:2:views", 20L);
+        assertThat(loaderCalls).isEmpty();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("성공: 누락된 키만 loader 로 읽고, 값이 없으면 0")
+    void getAll_LoadsMissingKeysOnly() {
+        // given
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList("10", null, null));
+
+        // when
+        Map<String, Long> values = counterCache.getAll(
+                List.of("post:1:views", "post:2:views", "post:3:views"),
+                loader(Map.of("post:2:views", 7L)));
+
+        // then
+        assertThat(loaderCalls).containsExactly(Set.of("post:2:views", "post:3:views"));
+        assertThat(values)
+                .containsEntry("post:1:views", 10L)
+                .containsEntry("post:2:views", 7L)
+                .containsEntry("post:3:views", 0L);
+    }
+
+    @Test
+    @DisplayName("성공: write-back 은 누락됐던 키만 TTL 과 함께 기록")
+    @SuppressWarnings("unchecked")
+    void getAll_WritesBackMissingKeysOnly() throws Exception {
+        // given
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList("10", null));
+        counterCache.getAll(List.of("post:1:views", "post:2:views"), loader(Map.of("post:2:views", 7L)));
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+
+        // when
+        callback.getValue().doInRedis(connection);
+
+        // then
+        verify(connection).setEx("counter:post:2:views", 300L, "7");
+        verify(connection, never()).setEx(eq("counter:post:1:views"), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: evict 는 접두사를 붙인 키를 삭제")
+    void evict_DeletesPrefixedKeys() {
+        // when
+        counterCache.evict(List.of("post:1:comments"));
+
+        // then
+        verify(redisTemplate).delete(List.of("counter:post:1:comments"));
+    }
+
+    private Function<Set<String>, Map<String, Long>> loader(Map<String, Long> rows) {
+        return keys -> {
+            loaderCalls.add(Set.copyOf(keys));
+            return rows;
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.board.service;
+
+import com.board.domain.outbox.entity.AggregateType;
+import com.board.domain.outbox.repository.OutboxEventRepository;
+import com.board.domain.outbox.service.OutboxRelay;
+import com.board.domain.outbox.service.OutboxService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "outbox.relay.enabled=true",
+        "outbox.relay.initial-delay=3600000"
+})
+@EmbeddedKafka(partitions = 3, topics = "board.post.events")
+@ActiveProfiles("test")
+@DisplayName("Outbox Relay 테스트 (Embedded Kafka)")
+class OutboxRelayTest {
+
+    private static final String TOPIC = "board.post.events";
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @SpyBean
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    private Consumer<String, String> consumer;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("outbox-relay-test", "false", embeddedKafka);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumer = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        embeddedKafka.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 커밋된 이벤트를 애그리거트별 순서대로 발행하고 발행 완료로 표시")
+    void relay_PublishesInOrderPerAggregate() {
+        // given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int seq = 0; seq < 5; seq++) {
+                outboxService.append(AggregateType.POST, 1L, "PostUpdated", Map.of("seq", seq));
+                outboxService.append(AggregateType.POST, 2L, "PostUpdated", Map.of("seq", seq));
+            }
+        });
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        StreamSupport.stream(KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 10).spliterator(), false)
+                .forEach(records::add);
+
+        assertThat(records).hasSize(10);
+        assertThat(records.stream().filter(r -> r.key().equals("1")).map(ConsumerRecord::value))
+                .containsExactly("{\"seq\":0}", "{\"seq\":1}", "{\"seq\":2}", "{\"seq\":3}", "{\"seq\":4}");
+        assertThat(new String(records.get(0).headers().lastHeader("event-type").value(), StandardCharsets.UTF_8))
+                .isEqualTo("PostUpdated");
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 전송이 실패한 애그리거트의 이후 이벤트는 보내지 않고 다음 주기에 순서대로 재발행")
+    void relay_Fail_StopsAggregateAfterFailedSend() {
+        // given - 애그리거트 11 의 두 번째 이벤트 전송이 실패
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int seq = 0; seq < 4; seq++) {
+                outboxService.append(AggregateType.POST, 11L, "PostUpdated", Map.of("seq", seq));
+                outboxService.append(AggregateType.POST, 12L, "PostUpdated", Map.of("seq", seq));
+            }
+        });
+        doReturn(CompletableFuture.failedFuture(new KafkaException("broker unavailable")))
+                .when(kafkaTemplate)
+                .send(ArgumentMatchers.<ProducerRecord<String, String>>argThat(record ->
+                        record != null && record.key().equals("11") && record.value().equals("{\"seq\":1}")));
+
+        // when
+        outboxRelay.relay();
+
+        // then - 애그리거트 11 은 실패 지점에서 멈추고 애그리거트 12 는 모두 발행
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        StreamSupport.stream(KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 5).spliterator(), false)
+                .forEach(records::add);
+
+        assertThat(records.stream().filter(r -> r.key().equals("11")).map(ConsumerRecord::value))
+                .containsExactly("{\"seq\":0}");
+        assertThat(records.stream().filter(r -> r.key().equals("12"))).hasSize(4);
+        verify(kafkaTemplate, times(6)).send(ArgumentMatchers.<ProducerRecord<String, String>>any());
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isEqualTo(3);
+
+        // when - 브로커 복구 후 다음 주기
+        reset(kafkaTemplate);
+        outboxRelay.relay();
+
+        // then
+        List<ConsumerRecord<String, String>> retried = new ArrayList<>();
+        StreamSupport.stream(KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 3).spliterator(), false)
+                .forEach(retried::add);
+
+        assertThat(retried.stream().filter(r -> r.key().equals("11")).map(ConsumerRecord::value))
+                .containsExactly("{\"seq\":1}", "{\"seq\":2}", "{\"seq\":3}");
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 롤백된 트랜잭션의 이벤트는 발행되지 않음")
+    void relay_SkipsRolledBackEvents() {
+        // given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.append(AggregateType.POST, 3L, "PostCreated", Map.of("seq", 0));
+            status.setRollbackOnly();
+        });
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(2)).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 트랜잭션 밖에서 Outbox 기록")
+    void append_Fail_WithoutTransaction() {
+        assertThatThrownBy(() -> outboxService.append(AggregateType.POST, 1L, "PostCreated", Map.of()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.board.service;
+
+import com.board.domain.post.entity.BodyEncoding;
+import com.board.domain.post.entity.PostBody;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.global.config.PostBodyProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostBodyCodec 테스트")
+class PostBodyCodecTest {
+
+    private final PostBodyCodec codec = new PostBodyCodec(new PostBodyProperties());
+
+    @Test
+    @DisplayName("성공: 임계값 이상 본문은 LZ4 로 압축하고 그대로 복원")
+    void encode_CompressesLargeBody() {
+        // given
+        String content = "## 제목\n\n본문 문단입니다. **강조** 와 [링크](https://example.com)\n".repeat(200);
+
+        // when
+        PostBody body = codec.encode(1L, content);
+
+        // then
+        assertThat(body.getEncoding()).isEqualTo(BodyEncoding.LZ4);
+        assertThat(body.getBody().length).isLessThan(body.getOriginalLength());
+        assertThat(codec.decode(body)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("성공: 임계값 미만 본문은 압축하지 않음")
+    void encode_KeepsSmallBodyRaw() {
+        // given
+        String content = "짧은 본문";
+
+        // when
+        PostBody body = codec.encode(1L, content);
+
+        // then
+        assertThat(body.getEncoding()).isEqualTo(BodyEncoding.RAW);
+        assertThat(codec.decode(body)).isEqualTo(content);
+    }
+}
@@ -0,0 +1,93 @@
+package com.board.service;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.dto.PostCreateRequest;
+import com.board.domain.post.dto.PostDetailResponse;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.post.service.PostService;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("스키마 재생성 후 게시글 본문 테스트")
+class PostBodySchemaRecreateTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @AfterEach
+    void tearDown() {
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: ddl-auto 재기동으로 posts 가 다시 만들어져도 새 게시글 본문이 PK 충돌 없이 저장")
+    void createPost_AfterSchemaRecreated() {
+        // given - 이전 기동에서 id 1 번 게시글의 본문이 저장되어 있음
+        postBodyRepository.saveAndFlush(postBodyCodec.encode(1L, "재기동 전 내용"));
+
+        // when - create-drop 재기동처럼 Hibernate 가 관리하는 테이블을 지우고 다시 만든 뒤 게시글 작성
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getSchemaManager().dropMappedObjects(false);
+        sessionFactory.getSchemaManager().createMappedObjects(false);
+
+        Category category = saveFixtures();
+        PostDetailResponse created = postService.createPost("recreate@example.com",
+                new PostCreateRequest("재기동 후", "재기동 후 내용", category.getId()));
+
+        // then - posts id 가 1 부터 다시 시작해도 이전 본문이 남아 있지 않아 충돌하지 않는다
+        assertThat(created.getId()).isEqualTo(1L);
+        assertThat(postBodyRepository.count()).isEqualTo(1);
+        assertThat(postService.getPost(created.getId()).getContent()).isEqualTo("재기동 후 내용");
+    }
+
+    private Category saveFixtures() {
+        userRepository.save(User.builder()
+                .email("recreate@example.com")
+                .password("encodedPassword")
+                .nickname("재기동")
+                .role(Role.USER)
+                .build());
+        return categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.board.service;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.outbox.repository.OutboxEventRepository;
+import com.board.domain.post.dto.PostCreateRequest;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostCountCache;
+import com.board.domain.post.service.PostCountService;
+import com.board.domain.post.service.PostService;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.common.CountMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("게시글 개수 캐시 테스트")
+class PostCountCacheTest {
+
+    @Autowired
+    private PostCountService postCountService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(PostCountCache.CACHE_NAME).clear();
+        author = userRepository.save(User.builder()
+                .email("count@example.com")
+                .password("encodedPassword")
+                .nickname("카운터")
+                .role(Role.USER)
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        savePostWithoutEvent();
+        savePostWithoutEvent();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 카테고리의 두 번째 EXACT 조회는 COUNT 없이 캐시에서")
+    void countExact_SecondCallHitsCache() {
+        // given
+        long first = postCountService.count(category.getId(), CountMode.EXACT);
+        savePostWithoutEvent();
+
+        // when
+        long second = postCountService.count(category.getId(), CountMode.EXACT);
+
+        // then - 이벤트 없이 추가된 행은 캐시된 값에 반영되지 않는다
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(2);
+        assertThat(cacheManager.getCache(PostCountCache.CACHE_NAME).get(category.getId())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("성공: 작성/삭제 커밋 후 캐시 무효화")
+    void countExact_EvictedAfterCreateAndDelete() {
+        // given
+        postCountService.count(category.getId(), CountMode.EXACT);
+
+        // when - 작성
+        Long postId = postService.createPost(author.getEmail(),
+                new PostCreateRequest("새 게시글", "내용", category.getId())).getId();
+
+        // then
+        assertThat(postCountService.count(category.getId(), CountMode.EXACT)).isEqualTo(3);
+
+        // when - 삭제
+        postService.deletePost(author.getEmail(), postId);
+
+        // then
+        assertThat(postCountService.count(category.getId(), CountMode.EXACT)).isEqualTo(2);
+    }
+
+    private void savePostWithoutEvent() {
+        postRepository.save(Post.builder()
+                .title("게시글")
+                .author(author)
+                .category(category)
+                .build());
+    }
+}
@@ -0,0 +1,168 @@
+package com.board.service;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.outbox.repository.OutboxEventRepository;
+import com.board.domain.post.dto.PostCreateRequest;
+import com.board.domain.post.dto.PostResponse;
+import com.board.domain.post.dto.PostUpdateRequest;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.event.PostChangedEvent.ChangeType;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostFeedCache;
+import com.board.domain.post.service.PostService;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.sql.SqlStatisticsRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 트랜잭션 없이 실행 - 링은 커밋 이후 이벤트로 갱신되므로 테스트 트랜잭션 안에서는 확인할 수 없다
+ * - Redis 는 목으로 대체해서 카운터 캐시를 켠 상태(모든 카운터가 캐시에 있는 경우) 로 확인
+ */
+@SpringBootTest(properties = "counter.cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("PostFeedCache 테스트")
+class PostFeedCacheTest {
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostFeedCache postFeedCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyCollection()))
+                .willAnswer(invocation -> ((Collection<String>) invocation.getArgument(0)).stream()
+                        .map(key -> "0")
+                        .toList());
+        given(valueOperations.get(anyString())).willReturn("1");
+
+        author = userRepository.save(User.builder()
+                .email("feed@example.com")
+                .password("encodedPassword")
+                .nickname("피드작성자")
+                .role(Role.USER)
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        postFeedCache.refreshAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 커밋된 작성/수정/삭제가 링에 반영되고, 늦게 도착한 수정 이벤트가 삭제를 되살리지 않음")
+    void committedChanges_UpdateRing() {
+        // given
+        Long first = postService.createPost(author.getEmail(),
+                new PostCreateRequest("첫 번째 글", "내용", category.getId())).getId();
+        Long second = postService.createPost(author.getEmail(),
+                new PostCreateRequest("두 번째 글", "내용", category.getId())).getId();
+        assertThat(ringIds()).containsExactly(second, first);
+
+        // when - 수정
+        postService.updatePost(author.getEmail(), first, new PostUpdateRequest("수정된 제목", "수정된 내용"));
+
+        // then
+        assertThat(ring()).extracting(PostResponse::getTitle).containsExactly("두 번째 글", "수정된 제목");
+
+        // when - 삭제 후 이전 수정 이벤트가 늦게 도착
+        postService.deletePost(author.getEmail(), second);
+        postFeedCache.apply(new PostChangedEvent(second, category.getId(), ChangeType.UPDATED));
+
+        // then
+        assertThat(ringIds()).containsExactly(first);
+    }
+
+    @Test
+    @DisplayName("성공: 링이 덮는 카테고리 첫 페이지는 카운터가 캐시에 있으면 SQL 없이 응답")
+    void getPosts_RingHitRunsNoSql() throws Exception {
+        // given
+        postService.createPost(author.getEmail(), new PostCreateRequest("첫 번째 글", "내용", category.getId()));
+        postService.createPost(author.getEmail(), new PostCreateRequest("두 번째 글", "내용", category.getId()));
+
+        // when
+        try (SqlStatisticsRecorder.Scope scope = SqlStatisticsRecorder.start()) {
+            mockMvc.perform(get("/api/v1/posts")
+                            .param("categoryId", category.getId().toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(2));
+
+            // then
+            assertThat(scope.statistics().getTotal()).isZero();
+        }
+    }
+
+    private List<PostResponse> ring() {
+        return postFeedCache.find(category.getId(), null, 10).orElseThrow();
+    }
+
+    private List<Long> ringIds() {
+        return ring().stream().map(PostResponse::getId).toList();
+    }
+}
@@ -0,0 +1,160 @@
+package com.board.service;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.entity.PostBody;
+import com.board.domain.post.repository.PostBodyRepository;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.post.service.PostBodyCodec;
+import com.board.domain.post.service.PostService;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.repository.UserRepository;
+import com.board.global.common.CountMode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 - 본문 분리 전/후 비교 (./gradlew benchmark)
+ * - 분리 전: 목록 조회가 엔티티와 함께 본문까지 읽어 String 으로 만들던 형태를 같은 데이터로 재현
+ * - 분리 후: 현재 목록 조회 (본문 미조회)
+ * - 측정: 조회 1회당 평균 지연, 조회 스레드의 힙 할당량 (H2 인메모리라 DB -> 애플리케이션 전송량은 반영되지 않음)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("게시글 목록 조회 벤치마크")
+class PostListQueryBenchmarkTest {
+
+    private static final int POSTS = 200;
+    private static final int BODY_REPEAT = 400;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 300;
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    @Autowired
+    private PostBodyCodec postBodyCodec;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private int bodyBytes;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .email("bench@example.com")
+                .password("encodedPassword")
+                .nickname("벤치")
+                .role(Role.USER)
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("벤치게시판")
+                .description("벤치마크")
+                .displayOrder(1)
+                .build());
+        String content = "## 소제목\n\n마크다운 본문 문단입니다. **강조**, `코드`, [링크](https://example.com)\n"
+                .repeat(BODY_REPEAT);
+        bodyBytes = content.getBytes(StandardCharsets.UTF_8).length;
+        for (int i = 0; i < POSTS; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("게시글 " + i)
+                    .author(author)
+                    .category(category)
+                    .build());
+            postBodyRepository.save(postBodyCodec.encode(post.getId(), content));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        postBodyRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("본문 분리 후 목록 조회의 할당량이 분리 전보다 작음")
+    void listQuery_BeforeAndAfterBodySplit() {
+        // given
+        Runnable before = () -> transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> rows = entityManager.createQuery(
+                            "SELECT p, b FROM Post p JOIN FETCH p.author JOIN FETCH p.category " +
+                            "JOIN PostBody b ON b.id = p.id WHERE p.deletedAt IS NULL ORDER BY p.id DESC",
+                            Object[].class)
+                    .setMaxResults(PAGE.getPageSize() + 1)
+                    .getResultList();
+            rows.forEach(row -> postBodyCodec.decode((PostBody) row[1]));
+            entityManager.clear();
+        });
+        Runnable after = () -> postService.getPosts(null, PAGE, CountMode.NONE);
+
+        // when
+        Measurement withBody = measure(before);
+        Measurement withoutBody = measure(after);
+
+        // then
+        System.out.printf("%n[게시글 목록 %d건 / 본문 %,d bytes]%n", PAGE.getPageSize(), bodyBytes);
+        System.out.printf("%-16s %12s %16s%n", "", "avg(us)", "alloc/query(KB)");
+        System.out.printf("%-16s %12.1f %16.1f%n", "before (body)", withBody.avgMicros(), withBody.allocatedKb());
+        System.out.printf("%-16s %12.1f %16.1f%n", "after (no body)", withoutBody.avgMicros(), withoutBody.allocatedKb());
+
+        assertThat(withoutBody.allocatedKb()).isLessThan(withBody.allocatedKb());
+    }
+
+    private Measurement measure(Runnable query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.run();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Measurement(elapsed / 1_000.0 / ITERATIONS, allocated / 1024.0 / ITERATIONS);
+    }
+
+    private record Measurement(double avgMicros, double allocatedKb) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.board.service;
+
+import com.board.domain.comment.event.CommentChangedEvent;
+import com.board.domain.post.event.PostChangedEvent;
+import com.board.domain.post.service.PostCountCache;
+import com.board.domain.post.service.PostCounterService;
+import com.board.domain.post.service.PostFeedCache;
+import com.board.domain.post.service.PostListVersion;
+import com.board.global.config.CounterCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostListVersion 테스트")
+class PostListVersionTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private CounterCacheProperties properties;
+    private PostListVersion postListVersion;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        properties = new CounterCacheProperties();
+        postListVersion = new PostListVersion(redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("성공: Redis 에 있는 버전을 그대로 반환")
+    void current_FromRedis() {
+        // given
+        given(valueOperations.get("posts:list:ver:7")).willReturn("42");
+
+        // when
+        Long version = postListVersion.current(7L);
+
+        // then
+        assertThat(version).isEqualTo(42L);
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 키가 없으면 현재 시각으로 시작")
+    void current_SeedsMissingKey() {
+        // given
+        given(valueOperations.get("posts:list:ver:all")).willReturn(null, "1700000000000");
+
+        // when
+        Long version = postListVersion.current(null);
+
+        // then
+        assertThat(version).isEqualTo(1700000000000L);
+        verify(valueOperations).setIfAbsent(eq("posts:list:ver:all"), anyString());
+    }
+
+    @Test
+    @DisplayName("실패: Redis 장애 시 null (ETag 없이 응답)")
+    void current_RedisDown() {
+        // given
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(postListVersion.current(7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 카테고리와 전체 목록 버전을 한 파이프라인에서 증가")
+    @SuppressWarnings("unchecked")
+    void bump_CategoryAndAll() {
+        // when
+        postListVersion.bump(7L);
+
+        // then
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).incr("posts:list:ver:all");
+        verify(connection).incr("posts:list:ver:7");
+        verify(connection, times(2)).setNX(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: Redis 를 쓰지 않으면 인스턴스 메모리에서 증가")
+    void bump_Local() {
+        // given
+        properties.setEnabled(false);
+        Long category = postListVersion.current(7L);
+        Long all = postListVersion.current(null);
+        Long other = postListVersion.current(8L);
+
+        // when
+        postListVersion.bump(7L);
+
+        // then
+        assertThat(postListVersion.current(7L)).isEqualTo(category + 1);
+        assertThat(postListVersion.current(null)).isEqualTo(all + 1);
+        assertThat(postListVersion.current(8L)).isEqualTo(other);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("성공: 버전 증가가 링 갱신 / 카운터 무효화 리스너보다 뒤에 실행")
+    void bump_RunsAfterCacheListeners() throws NoSuchMethodException {
+        // given - 커밋 이후 동기화는 리스너 order 오름차순으로 실행된다
+        int postVersionOrder = listenerOrder(PostListVersion.class, "onPostChanged", PostChangedEvent.class);
+        int commentVersionOrder = listenerOrder(PostListVersion.class, "onCommentChanged", CommentChangedEvent.class);
+
+        // when & then
+        assertThat(listenerOrder(PostFeedCache.class, "onPostChanged", PostChangedEvent.class))
+                .isLessThan(postVersionOrder);
+        assertThat(listenerOrder(PostCountCache.class, "evict", PostChangedEvent.class))
+                .isLessThan(postVersionOrder);
+        assertThat(listenerOrder(PostCounterService.class, "evictCommentCount", CommentChangedEvent.class))
+                .isLessThan(commentVersionOrder);
+    }
+
+    private static int listenerOrder(Class<?> type, String methodName, Class<?> eventType)
+            throws NoSuchMethodException {
+        Method method = type.getMethod(methodName, eventType);
+        return new TransactionalApplicationListenerMethodAdapter(type.getSimpleName(), type, method).getOrder();
+    }
+}
@@ -0,0 +1,247 @@
+package com.board.service;
+
+import com.board.domain.post.dto.PostViewRecord;
+import com.board.domain.post.repository.PostViewJdbcRepository;
+import com.board.domain.post.service.PostViewBuffer;
+import com.board.global.config.PostViewBufferProperties;
+import com.board.global.config.PostViewBufferProperties.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostViewBuffer 테스트")
+class PostViewBufferTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PostViewJdbcRepository repository;
+    private PostViewBufferProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PostViewBuffer buffer;
+
+    private final List<List<Long>> insertedBatches = new CopyOnWriteArrayList<>();
+    private CountDownLatch batchesInserted;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PostViewJdbcRepository.class);
+        // writer 스레드가 batch 를 재사용하므로 호출 시점에 복사
+        doAnswer(invocation -> {
+            List<PostViewRecord> batch = invocation.getArgument(0);
+            insertedBatches.add(batch.stream().map(PostViewRecord::getPostId).toList());
+            batchesInserted.countDown();
+            return null;
+        }).when(repository).batchInsert(anyList());
+
+        properties = new PostViewBufferProperties();
+        properties.setSpillPath(tempDir.resolve("post-view-spill.log").toString());
+        properties.setShutdownTimeout(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null && buffer.isRunning()) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("실패: DROP 정책은 가득 찬 버퍼에 들어오지 못한 기록을 버리고 집계")
+    void record_DropsWhenFull() {
+        // given
+        properties.setCapacity(2);
+        properties.setOverflowPolicy(OverflowPolicy.DROP);
+        buffer = newBuffer(1);
+
+        // when
+        for (long postId = 1; postId <= 3; postId++) {
+            buffer.record(record(postId));
+        }
+
+        // then
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(counter("post_view.buffer.accepted")).isEqualTo(2);
+        assertThat(counter("post_view.buffer.dropped")).isEqualTo(1);
+        assertThat(counter("post_view.buffer.spilled")).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: SPILL 정책은 요청 스레드에서 파일을 쓰지 않고 writer 스레드가 spill")
+    void record_SpillsOnWriterThread() throws Exception {
+        // given
+        properties.setCapacity(2);
+        properties.setOverflowCapacity(2);
+        properties.setOverflowPolicy(OverflowPolicy.SPILL);
+        buffer = newBuffer(1);
+
+        // when
+        for (long postId = 1; postId <= 5; postId++) {
+            buffer.record(record(postId));
+        }
+
+        // then - overflow 버퍼까지 넘친 1건만 버리고, 파일은 아직 없음
+        Path spillPath = Path.of(properties.getSpillPath());
+        assertThat(counter("post_view.buffer.dropped")).isEqualTo(1);
+        assertThat(counter("post_view.buffer.spilled")).isZero();
+        assertThat(spillPath).doesNotExist();
+
+        buffer.start();
+        buffer.stop();
+
+        assertThat(counter("post_view.buffer.spilled")).isEqualTo(2);
+        assertThat(Files.readAllLines(spillPath)).hasSize(2)
+                .allSatisfy(line -> assertThat(line).matches("[34],,127\\.0\\.0\\.1,.+"));
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("성공: batchSize 가 차면 flushInterval 을 기다리지 않고 flush")
+    void flush_WhenBatchIsFull() throws Exception {
+        // given
+        properties.setBatchSize(2);
+        properties.setFlushInterval(Duration.ofHours(1));
+        buffer = newBuffer(2);
+        for (long postId = 1; postId <= 4; postId++) {
+            buffer.record(record(postId));
+        }
+
+        // when
+        buffer.start();
+
+        // then
+        assertThat(batchesInserted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L), List.of(3L, 4L));
+        buffer.stop();
+        assertThat(counter("post_view.buffer.inserted")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("성공: batchSize 가 차지 않아도 flushInterval 이 지나면 flush")
+    void flush_WhenIntervalElapses() throws Exception {
+        // given
+        properties.setBatchSize(100);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        buffer = newBuffer(1);
+        for (long postId = 1; postId <= 3; postId++) {
+            buffer.record(record(postId));
+        }
+
+        // when
+        buffer.start();
+
+        // then
+        assertThat(batchesInserted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.isRunning()).isTrue();
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("성공: stop 은 남은 기록을 모두 flush 한 뒤 반환")
+    void stop_DrainsRemainingRecords() {
+        // given
+        properties.setBatchSize(100);
+        properties.setFlushInterval(Duration.ofHours(1));
+        buffer = newBuffer(1);
+        buffer.start();
+        for (long postId = 1; postId <= 3; postId++) {
+            buffer.record(record(postId));
+        }
+
+        // when
+        buffer.stop();
+
+        // then
+        assertThat(buffer.size()).isZero();
+        assertThat(insertedBatches.stream().flatMap(List::stream)).containsExactly(1L, 2L, 3L);
+        assertThat(counter("post_view.buffer.inserted")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공: spill 파일 재적재 시 해석할 수 없는 줄은 건너뛰고 집계")
+    void replay_SkipsMalformedLines() throws Exception {
+        // given
+        properties.setBatchSize(100);
+        Files.write(Path.of(properties.getSpillPath()), List.of(
+                line(1L), "not-a-record", line(2L), "3,,127.0.0.1,yesterday", line(4L)));
+        buffer = newBuffer(1);
+
+        // when
+        buffer.start();
+
+        // then
+        assertThat(batchesInserted.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.stop();
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L, 4L));
+        assertThat(counter("post_view.buffer.replay.malformed")).isEqualTo(2);
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("성공: 재적재가 중간에 실패하면 다음 기동 때 커밋된 배치 다음부터 이어서 적재")
+    void replay_ResumesAfterLastCommittedBatch() throws Exception {
+        // given - 두 번째 배치에서 한 번 실패
+        properties.setBatchSize(2);
+        properties.setFlushInterval(Duration.ofHours(1));
+        Files.write(Path.of(properties.getSpillPath()), List.of(line(1L), line(2L), line(3L), line(4L), line(5L)));
+        doAnswer(invocation -> {
+            List<PostViewRecord> batch = invocation.getArgument(0);
+            insertedBatches.add(batch.stream().map(PostViewRecord::getPostId).toList());
+            batchesInserted.countDown();
+            return null;
+        }).doThrow(new IllegalStateException("db down")).doAnswer(invocation -> {
+            List<PostViewRecord> batch = invocation.getArgument(0);
+            insertedBatches.add(batch.stream().map(PostViewRecord::getPostId).toList());
+            batchesInserted.countDown();
+            return null;
+        }).when(repository).batchInsert(anyList());
+        buffer = newBuffer(1);
+        buffer.start();
+        buffer.stop();
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L));
+
+        // when - 재기동
+        buffer = newBuffer(2);
+        buffer.start();
+
+        // then - 이미 적재한 1, 2 는 다시 넣지 않음
+        assertThat(batchesInserted.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.stop();
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    private PostViewBuffer newBuffer(int expectedBatches) {
+        batchesInserted = new CountDownLatch(expectedBatches);
+        return new PostViewBuffer(repository, properties, meterRegistry);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    private static String line(Long postId) {
+        return postId + ",,127.0.0.1," + LocalDateTime.now();
+    }
+
+    private static PostViewRecord record(Long postId) {
+        return new PostViewRecord(postId, null, "127.0.0.1", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,194 @@
+package com.board.service;
+
+import com.board.domain.post.service.PostViewPartitionManager;
+import com.board.global.config.PostViewPartitionProperties;
+import com.board.global.lock.JobLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "post-view.partition.retention-months=6",
+        "post-view.partition.archive-path=${java.io.tmpdir}/board-test-post-view-archive"
+})
+@ActiveProfiles("test")
+@DisplayName("PostViewPartitionManager 테스트")
+class PostViewPartitionManagerTest {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 기동 시 실행이 테스트와 겹쳐 잠금을 잡고 있지 않도록 스케줄러는 목으로 대체
+    @MockBean
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private PostViewPartitionManager partitionManager;
+
+    @Autowired
+    private PostViewPartitionProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_locks");
+        jdbcTemplate.update("DELETE FROM post_views");
+        FileSystemUtils.deleteRecursively(Path.of(properties.getArchivePath()).toFile());
+    }
+
+    @Test
+    @DisplayName("성공: 파티션이 없는 DB(H2) 는 보관 기간이 지난 달을 아카이브한 뒤 범위 DELETE")
+    void maintain_RangeDeleteFallback() throws Exception {
+        // given - 보관 6개월: 7개월 전 2건은 만료, 5개월 전 / 이번 달은 유지
+        YearMonth current = YearMonth.now();
+        YearMonth expired = current.minusMonths(7);
+        insertView(1L, expired.atDay(1).atStartOfDay().plusHours(1));
+        insertView(2L, expired.atEndOfMonth().atTime(23, 59));
+        insertView(3L, current.minusMonths(5).atDay(1).atStartOfDay());
+        insertView(4L, current.atDay(1).atStartOfDay());
+
+        // when
+        partitionManager.maintain();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post_views ORDER BY post_id", Long.class))
+                .containsExactly(3L, 4L);
+        Path archive = Path.of(properties.getArchivePath())
+                .resolve("post_views-" + expired.format(MONTH_FORMAT) + ".csv.gz");
+        assertThat(readGzipLines(archive)).hasSize(3)
+                .first().isEqualTo("id,post_id,user_id,ip_address,viewed_at");
+    }
+
+    @Test
+    @DisplayName("성공: MySQL 파티션은 p_future 를 분할해 다음 달들을 만들고 만료된 월 파티션을 DROP")
+    void maintain_PartitionRollover() {
+        // given
+        YearMonth current = YearMonth.now();
+        JdbcTemplate mySql = mock(JdbcTemplate.class);
+        given(mySql.execute(any(ConnectionCallback.class))).willReturn("MySQL");
+        given(mySql.queryForList(anyString(), eq(String.class), eq("post_views"))).willReturn(List.of(
+                partition(current.minusMonths(7)), partition(current.minusMonths(6)),
+                partition(current.minusMonths(5)), partition(current), "p_future"));
+        PostViewPartitionProperties rollover = new PostViewPartitionProperties();
+        rollover.setMonthsAhead(2);
+        rollover.setRetentionMonths(6);
+        rollover.setArchiveEnabled(false);
+
+        JobLock jobLock = mock(JobLock.class);
+        given(jobLock.tryLock(eq("post_views.partition"), any(Duration.class))).willReturn(true);
+
+        // when
+        new PostViewPartitionManager(mySql, rollover, jobLock, mock(TaskScheduler.class)).maintain();
+
+        // then
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(mySql, times(3)).execute(ddl.capture());
+        assertThat(ddl.getAllValues()).containsExactly(
+                "ALTER TABLE post_views REORGANIZE PARTITION p_future INTO ("
+                        + "PARTITION " + partition(current.plusMonths(1))
+                        + " VALUES LESS THAN ('" + current.plusMonths(2).atDay(1) + "'), "
+                        + "PARTITION " + partition(current.plusMonths(2))
+                        + " VALUES LESS THAN ('" + current.plusMonths(3).atDay(1) + "'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))",
+                "ALTER TABLE post_views DROP PARTITION " + partition(current.minusMonths(7)),
+                "ALTER TABLE post_views DROP PARTITION " + partition(current.minusMonths(6)));
+        verify(jobLock).unlock("post_views.partition");
+    }
+
+    @Test
+    @DisplayName("성공: 다른 인스턴스가 잠금을 잡고 있으면 건너뛰고, 잠금이 만료되면 실행")
+    void maintain_SkipsWhileLockedByAnotherInstance() {
+        // given - 다른 인스턴스가 1시간 동안 잠금
+        YearMonth expired = YearMonth.now().minusMonths(7);
+        insertView(1L, expired.atDay(1).atStartOfDay().plusHours(1));
+        jdbcTemplate.update("INSERT INTO job_locks (name, locked_until, locked_by) VALUES (?, ?, ?)",
+                "post_views.partition", Timestamp.valueOf(LocalDateTime.now().plusHours(1)), "other-instance");
+
+        // when
+        partitionManager.maintain();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_views", Long.class)).isEqualTo(1L);
+
+        // when - 잠금 만료
+        jdbcTemplate.update("UPDATE job_locks SET locked_until = ? WHERE name = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), "post_views.partition");
+        partitionManager.maintain();
+
+        // then - 실행 후 잠금을 풀어 둔다
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_views", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT locked_until <= LOCALTIMESTAMP(6) FROM job_locks WHERE name = ?",
+                Boolean.class, "post_views.partition")).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 기동 시 실행은 스케줄러에 넘기고 기동 스레드에서는 DB 를 건드리지 않음")
+    void onApplicationReady_RunsOnScheduler() {
+        // given
+        JdbcTemplate db = mock(JdbcTemplate.class);
+        JobLock jobLock = mock(JobLock.class);
+        TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        PostViewPartitionManager manager =
+                new PostViewPartitionManager(db, new PostViewPartitionProperties(), jobLock, taskScheduler);
+
+        // when
+        manager.onApplicationReady();
+
+        // then
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        verifyNoInteractions(db, jobLock);
+
+        given(jobLock.tryLock(anyString(), any(Duration.class))).willReturn(false);
+        task.getValue().run();
+        verify(jobLock).tryLock(eq("post_views.partition"), any(Duration.class));
+        verifyNoInteractions(db);
+    }
+
+    private void insertView(Long postId, LocalDateTime viewedAt) {
+        jdbcTemplate.update("INSERT INTO post_views (post_id, user_id, ip_address, viewed_at) VALUES (?, NULL, ?, ?)",
+                postId, "127.0.0.1", Timestamp.valueOf(viewedAt));
+    }
+
+    private static String partition(YearMonth month) {
+        return "p" + month.format(MONTH_FORMAT);
+    }
+
+    private static List<String> readGzipLines(Path file) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.board.service;
+
+import com.board.domain.post.dto.PostViewRecord;
+import com.board.domain.post.service.PostViewBuffer;
+import com.board.domain.post.service.PostViewService;
+import com.board.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostViewService 테스트")
+class PostViewServiceTest {
+
+    private PostViewBuffer postViewBuffer;
+    private UserService userService;
+    private PostViewService postViewService;
+
+    @BeforeEach
+    void setUp() {
+        postViewBuffer = mock(PostViewBuffer.class);
+        userService = mock(UserService.class);
+        postViewService = new PostViewService(postViewBuffer, userService);
+    }
+
+    @Test
+    @DisplayName("성공: 로그인 사용자는 사용자 ID 와 함께 버퍼에 기록")
+    void recordView_WithUser() {
+        // given
+        given(userService.getUserIdByEmail("test@example.com")).willReturn(7L);
+
+        // when
+        postViewService.recordView(1L, "test@example.com", "127.0.0.1");
+
+        // then
+        ArgumentCaptor<PostViewRecord> record = ArgumentCaptor.forClass(PostViewRecord.class);
+        verify(postViewBuffer).record(record.capture());
+        assertThat(record.getValue().getPostId()).isEqualTo(1L);
+        assertThat(record.getValue().getUserId()).isEqualTo(7L);
+        assertThat(record.getValue().getIpAddress()).isEqualTo("127.0.0.1");
+        assertThat(record.getValue().getViewedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("성공: 비로그인 사용자는 사용자 조회 없이 기록")
+    void recordView_Anonymous() {
+        // when
+        postViewService.recordView(1L, null, "127.0.0.1");
+
+        // then
+        ArgumentCaptor<PostViewRecord> record = ArgumentCaptor.forClass(PostViewRecord.class);
+        verify(postViewBuffer).record(record.capture());
+        assertThat(record.getValue().getUserId()).isNull();
+        verify(userService, never()).getUserIdByEmail(any());
+    }
+}
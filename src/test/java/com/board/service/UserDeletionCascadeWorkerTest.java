@@ -0,0 +1,188 @@
+package com.board.service;
+
+import com.board.domain.category.entity.Category;
+import com.board.domain.category.repository.CategoryRepository;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.outbox.repository.OutboxEventRepository;
+import com.board.domain.post.entity.Post;
+import com.board.domain.post.repository.PostRepository;
+import com.board.domain.user.entity.Role;
+import com.board.domain.user.entity.User;
+import com.board.domain.user.entity.UserDeletionJob;
+import com.board.domain.user.entity.UserDeletionJob.Stage;
+import com.board.domain.user.repository.UserDeletionJobRepository;
+import com.board.domain.user.repository.UserRepository;
+import com.board.domain.user.service.UserDeletionCascadeWorker;
+import com.board.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "user.deletion.chunk-size=2",
+        "user.deletion.pause-between-chunks=0",
+        "user.deletion.fixed-delay=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("탈퇴 연쇄 삭제 워커 테스트")
+class UserDeletionCascadeWorkerTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDeletionCascadeWorker worker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserDeletionJobRepository jobRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User user;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("withdraw@example.com")
+                .password("encodedPassword")
+                .nickname("탈퇴회원")
+                .role(Role.USER)
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .description("자유롭게 글을 작성하세요")
+                .displayOrder(1)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("게시글 " + i)
+                    .author(user)
+                    .category(category)
+                    .build());
+            posts.add(post);
+            commentRepository.save(Comment.builder()
+                    .content("댓글 " + i)
+                    .post(post)
+                    .author(user)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 탈퇴 후 게시글/댓글을 청크 단위로 모두 소프트 삭제")
+    void run_DeletesAllChildRows() {
+        // given
+        userService.withdraw(user.getEmail());
+
+        // when
+        worker.run();
+
+        // then
+        UserDeletionJob job = jobRepository.findAll().get(0);
+        assertThat(job.getStage()).isEqualTo(Stage.COMPLETED);
+        assertThat(job.getProcessedCount()).isEqualTo(6L);
+        assertThat(postRepository.findAll()).allMatch(Post::isDeleted);
+        assertThat(commentRepository.findAll()).allMatch(Comment::isDeleted);
+    }
+
+    @Test
+    @DisplayName("성공: 체크포인트 이후부터 이어서 처리")
+    void processChunk_ResumesFromCheckpoint() {
+        // given
+        userService.withdraw(user.getEmail());
+        Long jobId = jobRepository.findAll().get(0).getId();
+
+        // when - 첫 청크만 처리
+        worker.processChunk(jobId);
+
+        // then
+        UserDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStage()).isEqualTo(Stage.POSTS);
+        assertThat(job.getLastProcessedId()).isEqualTo(posts.get(1).getId());
+        assertThat(postRepository.findById(posts.get(2).getId()).orElseThrow().isDeleted()).isFalse();
+
+        // when - 나머지 처리
+        worker.run();
+
+        // then
+        assertThat(jobRepository.findById(jobId).orElseThrow().isCompleted()).isTrue();
+        assertThat(postRepository.findAll()).allMatch(Post::isDeleted);
+    }
+
+    @Test
+    @DisplayName("성공: 연쇄 삭제 도중 복구하면 남은 게시글/댓글은 삭제하지 않음")
+    void restore_CancelsRunningJob() {
+        // given - 첫 청크만 처리된 상태에서 복구
+        userService.withdraw(user.getEmail());
+        Long jobId = jobRepository.findAll().get(0).getId();
+        worker.processChunk(jobId);
+
+        userService.restore(user.getId());
+
+        // when
+        worker.run();
+
+        // then
+        assertThat(jobRepository.findById(jobId).orElseThrow().isCompleted()).isTrue();
+        assertThat(postRepository.findById(posts.get(2).getId()).orElseThrow().isDeleted()).isFalse();
+        assertThat(commentRepository.findAll()).noneMatch(Comment::isDeleted);
+    }
+
+    @Test
+    @DisplayName("성공: 복구 후 다시 탈퇴하면 복구 이후 작성한 게시글까지 삭제")
+    void withdraw_AfterRestore_RestartsJob() {
+        // given - 탈퇴 → 연쇄 삭제 완료 → 복구 → 새 게시글 작성
+        userService.withdraw(user.getEmail());
+        worker.run();
+        userService.restore(user.getId());
+
+        Post newPost = postRepository.save(Post.builder()
+                .title("복구 후 게시글")
+                .author(user)
+                .category(posts.get(0).getCategory())
+                .build());
+
+        // when
+        userService.withdraw(user.getEmail());
+        worker.run();
+
+        // then - 작업은 하나로 유지되고 새 게시글도 삭제된다
+        assertThat(jobRepository.findAll()).hasSize(1)
+                .allMatch(UserDeletionJob::isCompleted);
+        assertThat(postRepository.findById(newPost.getId()).orElseThrow().isDeleted()).isTrue();
+    }
+}